@@ -109,6 +109,7 @@ import org.flowable.engine.common.api.delegate.FlowableFunctionDelegate;
 import org.flowable.engine.common.impl.callback.RuntimeInstanceStateChangeCallback;
 import org.flowable.engine.common.impl.cfg.BeansConfigurationHelper;
 import org.flowable.engine.common.impl.db.DbSchemaManager;
+import org.flowable.engine.common.impl.el.DefaultExpressionManager;
 import org.flowable.engine.common.impl.el.ExpressionManager;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.common.impl.interceptor.CommandInterceptor;
@@ -117,6 +118,7 @@ import org.flowable.engine.common.impl.interceptor.SessionFactory;
 import org.flowable.engine.common.impl.persistence.GenericManagerFactory;
 import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.common.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
@@ -126,6 +128,7 @@ import org.flowable.task.service.InternalTaskVariableScopeResolver;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.history.InternalHistoryTaskManager;
 import org.flowable.task.service.impl.db.TaskDbSchemaManager;
+import org.flowable.variable.api.types.VariableCodec;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.api.types.VariableTypes;
 import org.flowable.variable.service.VariableServiceConfiguration;
@@ -134,9 +137,11 @@ import org.flowable.variable.service.impl.db.IbatisVariableTypeHandler;
 import org.flowable.variable.service.impl.db.VariableDbSchemaManager;
 import org.flowable.variable.service.impl.types.BooleanType;
 import org.flowable.variable.service.impl.types.ByteArrayType;
+import org.flowable.variable.service.impl.types.CodecVariableType;
 import org.flowable.variable.service.impl.types.DateType;
 import org.flowable.variable.service.impl.types.DefaultVariableTypes;
 import org.flowable.variable.service.impl.types.DoubleType;
+import org.flowable.variable.service.impl.types.InputStreamType;
 import org.flowable.variable.service.impl.types.IntegerType;
 import org.flowable.variable.service.impl.types.JodaDateTimeType;
 import org.flowable.variable.service.impl.types.JodaDateType;
@@ -212,6 +217,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected HistoryLevel historyLevel = HistoryLevel.AUDIT;
     
     protected ExpressionManager expressionManager;
+    protected boolean prefetchExpressionVariables;
     protected List<FlowableFunctionDelegate> flowableFunctionDelegates;
     protected List<FlowableFunctionDelegate> customFlowableFunctionDelegates;
     
@@ -245,6 +251,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected VariableServiceConfiguration variableServiceConfiguration;
     protected InternalHistoryVariableManager internalHistoryVariableManager;
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+    protected List<VariableCodec> variableCodecs;
+    protected int variableCodecCompressionThreshold = -1;
     protected ObjectMapper objectMapper = new ObjectMapper();
 
     public static CmmnEngineConfiguration createCmmnEngineConfigurationFromResourceDefault() {
@@ -362,6 +370,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         if (expressionManager == null) {
             expressionManager = new CmmnExpressionManager(beans);
         }
+        if (prefetchExpressionVariables && expressionManager instanceof DefaultExpressionManager) {
+            ((DefaultExpressionManager) expressionManager).setPrefetchExpressionVariables(true);
+        }
         if (flowableFunctionDelegates == null) {
             flowableFunctionDelegates = new ArrayList<>();
         }
@@ -529,7 +540,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected void initCaseDefinitionCache() {
         if (caseDefinitionCache == null) {
-            if (caseDefinitionCacheLimit <= 0) {
+            if (useConcurrentDeploymentCache) {
+                caseDefinitionCache = new ConcurrentDeploymentCache<>(caseDefinitionCacheLimit);
+            } else if (caseDefinitionCacheLimit <= 0) {
                 caseDefinitionCache = new DefaultDeploymentCache<>();
             } else {
                 caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit);
@@ -624,6 +637,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper));
             variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper));
             variableTypes.addType(new ByteArrayType());
+            variableTypes.addType(new InputStreamType());
+            if (variableCodecs != null) {
+                for (VariableCodec variableCodec : variableCodecs) {
+                    variableTypes.addType(new CodecVariableType(variableCodec, serializableVariableTypeTrackDeserializedObjects, variableCodecCompressionThreshold));
+                }
+            }
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
             if (customPostVariableTypes != null) {
                 for (VariableType customVariableType : customPostVariableTypes) {
@@ -1099,6 +1118,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isPrefetchExpressionVariables() {
+        return prefetchExpressionVariables;
+    }
+
+    public CmmnEngineConfiguration setPrefetchExpressionVariables(boolean prefetchExpressionVariables) {
+        this.prefetchExpressionVariables = prefetchExpressionVariables;
+        return this;
+    }
+
     public DelegateExpressionFieldInjectionMode getDelegateExpressionFieldInjectionMode() {
         return delegateExpressionFieldInjectionMode;
     }
@@ -1261,6 +1289,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public List<VariableCodec> getVariableCodecs() {
+        return variableCodecs;
+    }
+
+    public CmmnEngineConfiguration setVariableCodecs(List<VariableCodec> variableCodecs) {
+        this.variableCodecs = variableCodecs;
+        return this;
+    }
+
+    public int getVariableCodecCompressionThreshold() {
+        return variableCodecCompressionThreshold;
+    }
+
+    public CmmnEngineConfiguration setVariableCodecCompressionThreshold(int variableCodecCompressionThreshold) {
+        this.variableCodecCompressionThreshold = variableCodecCompressionThreshold;
+        return this;
+    }
+
     public boolean isSerializableVariableTypeTrackDeserializedObjects() {
         return serializableVariableTypeTrackDeserializedObjects;
     }
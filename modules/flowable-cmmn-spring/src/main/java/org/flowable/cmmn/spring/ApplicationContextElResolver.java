@@ -77,4 +77,10 @@ public class ApplicationContextElResolver extends ELResolver {
     public Class<?> getType(ELContext context, Object arg1, Object arg2) {
         return Object.class;
     }
+
+    @Override
+    public boolean canResolveBaseClass(Class<?> baseClass) {
+        // only top-level identifiers are resolved
+        return false;
+    }
 }
@@ -90,6 +90,7 @@ import org.flowable.engine.common.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
 import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.common.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
@@ -179,6 +180,12 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
      */
     protected boolean strictMode = true;
 
+    /**
+     * Whether the rules of a decision table are indexed on the values of the first input column, so that rules which can't match
+     * a string or integer input value are skipped without evaluating their input entries. The execution audit stays the same.
+     */
+    protected boolean enableDecisionTableRuleIndex = true;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -429,7 +436,9 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
 
         // Decision cache
         if (decisionCache == null) {
-            if (decisionCacheLimit <= 0) {
+            if (useConcurrentDeploymentCache) {
+                decisionCache = new ConcurrentDeploymentCache<>(decisionCacheLimit);
+            } else if (decisionCacheLimit <= 0) {
                 decisionCache = new DefaultDeploymentCache<>();
             } else {
                 decisionCache = new DefaultDeploymentCache<>(decisionCacheLimit);
@@ -535,7 +544,9 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
     // rule engine executor
     /////////////////////////////////////////////////////////////
     public void initRuleEngineExecutor() {
-        ruleEngineExecutor = new RuleEngineExecutorImpl(hitPolicyBehaviors, expressionManager, objectMapper);
+        RuleEngineExecutorImpl ruleEngineExecutorImpl = new RuleEngineExecutorImpl(hitPolicyBehaviors, expressionManager, objectMapper);
+        ruleEngineExecutorImpl.setRuleIndexEnabled(enableDecisionTableRuleIndex);
+        ruleEngineExecutor = ruleEngineExecutorImpl;
     }
 
 
@@ -936,6 +947,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public boolean isEnableDecisionTableRuleIndex() {
+        return enableDecisionTableRuleIndex;
+    }
+
+    public DmnEngineConfiguration setEnableDecisionTableRuleIndex(boolean enableDecisionTableRuleIndex) {
+        this.enableDecisionTableRuleIndex = enableDecisionTableRuleIndex;
+        return this;
+    }
+
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
@@ -0,0 +1,209 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.engine.impl.el.ELConditionExpressionPreParser;
+import org.flowable.dmn.engine.impl.el.ELOutputExpressionPreParser;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.flowable.engine.common.api.delegate.Expression;
+import org.flowable.engine.common.impl.el.ExpressionManager;
+
+/**
+ * Executable form of a {@link DecisionTable}, in which the input and output entries of the rules are pre-parsed into {@link Expression}s,
+ * so they don't need to be parsed again for every execution of the decision table.
+ * <p>
+ * Entries that cannot be parsed keep the exception, which is thrown when the entry is evaluated, so a decision table fails in the same way
+ * as when its entries are parsed during the execution.
+ */
+public class CompiledDecisionTable {
+
+    protected List<CompiledRule> rules;
+    protected DecisionTableRuleIndex ruleIndex;
+
+    public CompiledDecisionTable(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        this(decisionTable, expressionManager, false);
+    }
+
+    public CompiledDecisionTable(DecisionTable decisionTable, ExpressionManager expressionManager, boolean ruleIndexEnabled) {
+        List<CompiledRule> compiledRules = new ArrayList<>(decisionTable.getRules().size());
+        for (DecisionRule rule : decisionTable.getRules()) {
+            compiledRules.add(new CompiledRule(rule, expressionManager));
+        }
+        this.rules = Collections.unmodifiableList(compiledRules);
+
+        if (ruleIndexEnabled) {
+            this.ruleIndex = DecisionTableRuleIndex.build(decisionTable.getRules());
+        }
+    }
+
+    public List<CompiledRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the index on the first input column of the rules, or null when the decision table isn't indexed.
+     */
+    public DecisionTableRuleIndex getRuleIndex() {
+        return ruleIndex;
+    }
+
+    public static class CompiledRule {
+
+        protected DecisionRule rule;
+        protected List<CompiledInputEntry> inputEntries;
+        protected List<CompiledOutputEntry> outputEntries;
+
+        public CompiledRule(DecisionRule rule, ExpressionManager expressionManager) {
+            this.rule = rule;
+
+            List<CompiledInputEntry> compiledInputEntries = new ArrayList<>(rule.getInputEntries().size());
+            for (RuleInputClauseContainer inputEntry : rule.getInputEntries()) {
+                compiledInputEntries.add(new CompiledInputEntry(inputEntry, expressionManager));
+            }
+            this.inputEntries = Collections.unmodifiableList(compiledInputEntries);
+
+            List<CompiledOutputEntry> compiledOutputEntries = new ArrayList<>(rule.getOutputEntries().size());
+            for (RuleOutputClauseContainer outputEntry : rule.getOutputEntries()) {
+                compiledOutputEntries.add(new CompiledOutputEntry(outputEntry, expressionManager));
+            }
+            this.outputEntries = Collections.unmodifiableList(compiledOutputEntries);
+        }
+
+        public DecisionRule getRule() {
+            return rule;
+        }
+
+        public int getRuleNumber() {
+            return rule.getRuleNumber();
+        }
+
+        public List<CompiledInputEntry> getInputEntries() {
+            return inputEntries;
+        }
+
+        public List<CompiledOutputEntry> getOutputEntries() {
+            return outputEntries;
+        }
+    }
+
+    public static class CompiledInputEntry {
+
+        protected RuleInputClauseContainer inputClauseContainer;
+        protected boolean alwaysTrue;
+        protected String parsedExpression;
+        protected Expression expression;
+        protected RuntimeException parseException;
+
+        public CompiledInputEntry(RuleInputClauseContainer inputClauseContainer, ExpressionManager expressionManager) {
+            this.inputClauseContainer = inputClauseContainer;
+
+            // if condition is empty condition or has dash symbol result is TRUE
+            String inputEntryText = inputClauseContainer.getInputEntry().getText();
+            this.alwaysTrue = StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText);
+
+            if (!alwaysTrue) {
+                try {
+                    InputClause inputClause = inputClauseContainer.getInputClause();
+                    if (inputClause == null) {
+                        throw new IllegalArgumentException("input clause is required");
+                    }
+                    if (inputClause.getInputExpression() == null) {
+                        throw new IllegalArgumentException("input expression is required");
+                    }
+                    if (StringUtils.isEmpty(inputClause.getInputExpression().getText())) {
+                        throw new IllegalArgumentException("Variable id cannot be empty");
+                    }
+                    this.parsedExpression = ELConditionExpressionPreParser.parse(inputEntryText, inputClause.getInputExpression().getText(),
+                            inputClause.getInputExpression().getTypeRef());
+                    this.expression = expressionManager.createExpression(parsedExpression);
+
+                } catch (RuntimeException e) {
+                    this.parseException = e;
+                }
+            }
+        }
+
+        public RuleInputClauseContainer getInputClauseContainer() {
+            return inputClauseContainer;
+        }
+
+        public boolean isAlwaysTrue() {
+            return alwaysTrue;
+        }
+
+        public String getParsedExpression() {
+            return parsedExpression;
+        }
+
+        /**
+         * Returns the parsed expression, or throws the exception that occurred while parsing the input entry.
+         */
+        public Expression getExpression() {
+            if (parseException != null) {
+                throw parseException;
+            }
+            return expression;
+        }
+    }
+
+    public static class CompiledOutputEntry {
+
+        protected RuleOutputClauseContainer outputClauseContainer;
+        protected String parsedExpression;
+        protected Expression expression;
+        protected RuntimeException parseException;
+
+        public CompiledOutputEntry(RuleOutputClauseContainer outputClauseContainer, ExpressionManager expressionManager) {
+            this.outputClauseContainer = outputClauseContainer;
+
+            String outputEntryText = outputClauseContainer.getOutputEntry().getText();
+            if (StringUtils.isNotEmpty(outputEntryText)) {
+                try {
+                    this.parsedExpression = ELOutputExpressionPreParser.parse(outputEntryText);
+                    this.expression = expressionManager.createExpression(parsedExpression);
+
+                } catch (RuntimeException e) {
+                    this.parseException = e;
+                }
+            }
+        }
+
+        public RuleOutputClauseContainer getOutputClauseContainer() {
+            return outputClauseContainer;
+        }
+
+        public boolean isEmpty() {
+            return parsedExpression == null && parseException == null;
+        }
+
+        /**
+         * Returns the parsed expression, or throws the exception that occurred while parsing the output entry.
+         */
+        public Expression getExpression() {
+            if (parseException != null) {
+                throw parseException;
+            }
+            return expression;
+        }
+    }
+
+}
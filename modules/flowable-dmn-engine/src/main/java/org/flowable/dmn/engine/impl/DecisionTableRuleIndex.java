@@ -0,0 +1,217 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.InputClause;
+
+/**
+ * Index on the input entries of the first input clause of a decision table, used to skip the rules whose first input entry
+ * certainly evaluates to false for the value of the input variable.
+ * <p>
+ * Equality tests with a string literal (e.g. <code>== 'a'</code>) are indexed in a hash map for string values,
+ * equality tests with an integer literal in a hash map and comparisons with an integer literal (e.g. <code>&lt; 10</code>)
+ * in sorted maps for integral values. The outcome of these tests for such values is exactly the outcome of the EL expression.
+ * All other entries can't be decided by the index, and their rules are always candidates.
+ * <p>
+ * The index is only used when the input expression is a variable name and the variable has a {@link String}, {@link Long},
+ * {@link Integer}, {@link Short} or {@link Byte} value. Otherwise all rules are candidates.
+ */
+public class DecisionTableRuleIndex {
+
+    protected static final Pattern VARIABLE_NAME_PATTERN = Pattern.compile("[a-zA-Z_$][a-zA-Z0-9_$]*");
+    protected static final Pattern INTEGER_LITERAL_PATTERN = Pattern.compile("-?[0-9]{1,18}");
+    protected static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("'[^'\\\\]*'|\"[^\"\\\\]*\"");
+    protected static final Set<String> EL_RESERVED_WORDS = new HashSet<>(Arrays.asList("and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge",
+            "true", "false", "null", "instanceof", "empty", "div", "mod"));
+
+    protected String inputVariableName;
+    protected int ruleCount;
+
+    // rules that can't be excluded, whatever the value
+    protected BitSet undecidedRules = new BitSet();
+    // rules with a test on a string literal, that can't be excluded for integral values
+    protected BitSet stringTestRules = new BitSet();
+    // rules with a test on an integer literal, that can't be excluded for string values
+    protected BitSet integerTestRules = new BitSet();
+
+    protected Map<String, BitSet> stringEqualRules = new HashMap<>();
+    protected Map<Long, BitSet> integerEqualRules = new HashMap<>();
+    protected NavigableMap<Long, BitSet> lessThanRules = new TreeMap<>();
+    protected NavigableMap<Long, BitSet> lessThanOrEqualRules = new TreeMap<>();
+    protected NavigableMap<Long, BitSet> greaterThanRules = new TreeMap<>();
+    protected NavigableMap<Long, BitSet> greaterThanOrEqualRules = new TreeMap<>();
+
+    protected DecisionTableRuleIndex(String inputVariableName, int ruleCount) {
+        this.inputVariableName = inputVariableName;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * Builds the index for the given rules, or returns null when the first input entries of the rules can't be indexed.
+     */
+    public static DecisionTableRuleIndex build(List<DecisionRule> rules) {
+        if (rules.isEmpty() || rules.get(0).getInputEntries().isEmpty()) {
+            return null;
+        }
+
+        InputClause inputClause = rules.get(0).getInputEntries().get(0).getInputClause();
+        if (inputClause == null || inputClause.getInputExpression() == null) {
+            return null;
+        }
+
+        String inputVariableName = inputClause.getInputExpression().getText();
+        if (inputVariableName == null || !VARIABLE_NAME_PATTERN.matcher(inputVariableName).matches() || EL_RESERVED_WORDS.contains(inputVariableName)) {
+            return null;
+        }
+
+        DecisionTableRuleIndex index = new DecisionTableRuleIndex(inputVariableName, rules.size());
+        boolean indexedEntries = false;
+        for (int i = 0; i < rules.size(); i++) {
+            DecisionRule rule = rules.get(i);
+            if (rule.getInputEntries().isEmpty() || rule.getInputEntries().get(0).getInputClause() != inputClause) {
+                return null;
+            }
+
+            if (index.addInputEntry(i, rule.getInputEntries().get(0).getInputEntry().getText(), inputClause.getInputExpression().getTypeRef())) {
+                indexedEntries = true;
+            }
+        }
+
+        return indexedEntries ? index : null;
+    }
+
+    /**
+     * Adds the input entry of the rule at the given position. Follows the parsing of ELConditionExpressionPreParser.
+     *
+     * @return whether the entry can be decided by the index
+     */
+    protected boolean addInputEntry(int ruleIndex, String inputEntryText, String typeRef) {
+        if (StringUtils.isEmpty(inputEntryText) || inputEntryText.contains("fn_") || inputEntryText.startsWith("#{") || inputEntryText.startsWith("${")
+                || (!"date".equals(typeRef) && !"number".equals(typeRef) && inputEntryText.startsWith("."))) {
+            undecidedRules.set(ruleIndex);
+            return false;
+        }
+
+        String operator = "==";
+        String literal = inputEntryText;
+        if (inputEntryText.length() >= 2) {
+            for (String candidateOperator : new String[] { "<=", ">=", "==", "!=", "<", ">" }) {
+                if (inputEntryText.startsWith(candidateOperator)) {
+                    operator = candidateOperator;
+                    literal = inputEntryText.substring(candidateOperator.length());
+                    break;
+                }
+            }
+        }
+        literal = literal.trim();
+
+        if (STRING_LITERAL_PATTERN.matcher(literal).matches() && "==".equals(operator)) {
+            addRule(stringEqualRules, literal.substring(1, literal.length() - 1), ruleIndex);
+            stringTestRules.set(ruleIndex);
+            return true;
+
+        } else if (INTEGER_LITERAL_PATTERN.matcher(literal).matches() && !"!=".equals(operator)) {
+            Long value = Long.valueOf(literal);
+            if ("==".equals(operator)) {
+                addRule(integerEqualRules, value, ruleIndex);
+            } else if ("<".equals(operator)) {
+                addRule(lessThanRules, value, ruleIndex);
+            } else if ("<=".equals(operator)) {
+                addRule(lessThanOrEqualRules, value, ruleIndex);
+            } else if (">".equals(operator)) {
+                addRule(greaterThanRules, value, ruleIndex);
+            } else {
+                addRule(greaterThanOrEqualRules, value, ruleIndex);
+            }
+            integerTestRules.set(ruleIndex);
+            return true;
+        }
+
+        undecidedRules.set(ruleIndex);
+        return false;
+    }
+
+    protected <K> void addRule(Map<K, BitSet> rulesByValue, K value, int ruleIndex) {
+        BitSet rules = rulesByValue.get(value);
+        if (rules == null) {
+            rules = new BitSet();
+            rulesByValue.put(value, rules);
+        }
+        rules.set(ruleIndex);
+    }
+
+    /**
+     * Returns the positions of the rules of which the first input entry can evaluate to true for the given variables,
+     * or null when the index can't be used for these variables and all rules need to be evaluated.
+     */
+    public BitSet getCandidateRules(Map<String, Object> variables) {
+        if (variables == null || !variables.containsKey(inputVariableName)) {
+            return null;
+        }
+
+        Object value = variables.get(inputVariableName);
+        if (value instanceof String) {
+            BitSet candidateRules = (BitSet) undecidedRules.clone();
+            candidateRules.or(integerTestRules);
+            or(candidateRules, stringEqualRules.get(value));
+            return candidateRules;
+
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            long integerValue = ((Number) value).longValue();
+            BitSet candidateRules = (BitSet) undecidedRules.clone();
+            candidateRules.or(stringTestRules);
+            or(candidateRules, integerEqualRules.get(integerValue));
+            or(candidateRules, lessThanRules.tailMap(integerValue, false).values());
+            or(candidateRules, lessThanOrEqualRules.tailMap(integerValue, true).values());
+            or(candidateRules, greaterThanRules.headMap(integerValue, false).values());
+            or(candidateRules, greaterThanOrEqualRules.headMap(integerValue, true).values());
+            return candidateRules;
+        }
+
+        return null;
+    }
+
+    protected void or(BitSet candidateRules, BitSet rules) {
+        if (rules != null) {
+            candidateRules.or(rules);
+        }
+    }
+
+    protected void or(BitSet candidateRules, Iterable<BitSet> rulesList) {
+        for (BitSet rules : rulesList) {
+            candidateRules.or(rules);
+        }
+    }
+
+    public String getInputVariableName() {
+        return inputVariableName;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+}
@@ -12,14 +12,19 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
-import org.apache.commons.lang3.StringUtils;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.CompiledDecisionTable.CompiledInputEntry;
+import org.flowable.dmn.engine.impl.CompiledDecisionTable.CompiledOutputEntry;
+import org.flowable.dmn.engine.impl.CompiledDecisionTable.CompiledRule;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.el.ELExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
@@ -33,7 +38,6 @@ import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecution
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
-import org.flowable.dmn.model.DecisionRule;
 import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.HitPolicy;
 import org.flowable.dmn.model.LiteralExpression;
@@ -56,6 +60,10 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     protected Map<String, AbstractHitPolicy> hitPolicyBehaviors;
     protected ExpressionManager expressionManager;
     protected ObjectMapper objectMapper;
+    protected boolean ruleIndexEnabled;
+
+    // weak keys, so the compiled form is dropped together with the decision table when it is evicted from the decision cache
+    protected Map<DecisionTable, CompiledDecisionTable> compiledDecisionTables = Collections.synchronizedMap(new WeakHashMap<DecisionTable, CompiledDecisionTable>());
 
     public RuleEngineExecutorImpl(Map<String, AbstractHitPolicy> hitPolicyBehaviors, ExpressionManager expressionManager, ObjectMapper objectMapper) {
         this.hitPolicyBehaviors = hitPolicyBehaviors;
@@ -145,16 +153,32 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         }
 
         try {
+            AbstractHitPolicy hitPolicyBehavior = getHitPolicyBehavior(decisionTable.getHitPolicy());
+            CompiledDecisionTable compiledDecisionTable = getCompiledDecisionTable(decisionTable);
+
             // evaluate rule conditions
-            Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
+            Map<Integer, List<CompiledOutputEntry>> validRuleOutputEntries = new HashMap<>();
+
+            // rules that can't match the value of the first input are skipped without evaluating their input entries
+            BitSet candidateRules = null;
+            if (compiledDecisionTable.getRuleIndex() != null) {
+                candidateRules = compiledDecisionTable.getRuleIndex().getCandidateRules(executionContext.getStackVariables());
+            }
 
-            for (DecisionRule rule : decisionTable.getRules()) {
-                boolean ruleResult = executeRule(rule, executionContext);
+            List<CompiledRule> rules = compiledDecisionTable.getRules();
+            for (int i = 0; i < rules.size(); i++) {
+                CompiledRule rule = rules.get(i);
+                boolean ruleResult;
+                if (candidateRules == null || candidateRules.get(i)) {
+                    ruleResult = executeRule(rule, executionContext);
+                } else {
+                    ruleResult = skipRule(rule, executionContext);
+                }
 
                 if (ruleResult) {
                     // evaluate decision table hit policy validity
-                    if (getHitPolicyBehavior(decisionTable.getHitPolicy()) instanceof EvaluateRuleValidityBehavior) {
-                        ((EvaluateRuleValidityBehavior) getHitPolicyBehavior(decisionTable.getHitPolicy())).evaluateRuleValidity(rule.getRuleNumber(), executionContext);
+                    if (hitPolicyBehavior instanceof EvaluateRuleValidityBehavior) {
+                        ((EvaluateRuleValidityBehavior) hitPolicyBehavior).evaluateRuleValidity(rule.getRuleNumber(), executionContext);
                     }
 
                     // add valid rule output(s)
@@ -162,8 +186,8 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 }
 
                 // should continue evaluating
-                if (getHitPolicyBehavior(decisionTable.getHitPolicy()) instanceof ContinueEvaluatingBehavior) {
-                    if (((ContinueEvaluatingBehavior) getHitPolicyBehavior(decisionTable.getHitPolicy())).shouldContinueEvaluating(ruleResult) == false) {
+                if (hitPolicyBehavior instanceof ContinueEvaluatingBehavior) {
+                    if (((ContinueEvaluatingBehavior) hitPolicyBehavior).shouldContinueEvaluating(ruleResult) == false) {
                         LOGGER.debug("Stopping execution; hit policy {} specific behaviour", decisionTable.getHitPolicy());
                         break;
                     }
@@ -171,13 +195,13 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             }
 
             // compose rule conclusions
-            for (Map.Entry<Integer, List<RuleOutputClauseContainer>> entry : validRuleOutputEntries.entrySet()) {
-                executeOutputEntryAction(entry.getKey(), entry.getValue(), decisionTable.getHitPolicy(), executionContext);
+            for (Map.Entry<Integer, List<CompiledOutputEntry>> entry : validRuleOutputEntries.entrySet()) {
+                executeOutputEntryAction(entry.getKey(), entry.getValue(), hitPolicyBehavior, executionContext);
             }
 
             // post rule conclusion actions
-            if (getHitPolicyBehavior(decisionTable.getHitPolicy()) instanceof ComposeDecisionResultBehavior) {
-                ((ComposeDecisionResultBehavior) getHitPolicyBehavior(decisionTable.getHitPolicy())).composeDecisionResults(executionContext);
+            if (hitPolicyBehavior instanceof ComposeDecisionResultBehavior) {
+                ((ComposeDecisionResultBehavior) hitPolicyBehavior).composeDecisionResults(executionContext);
             }
 
         } catch (FlowableException ade) {
@@ -190,7 +214,36 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         LOGGER.debug("End table evaluation: {}", decisionTable.getId());
     }
 
-    protected boolean executeRule(DecisionRule rule, ELExecutionContext executionContext) {
+    /**
+     * Returns the executable form of the given decision table, which is compiled on first use and kept as long as the decision table is used.
+     */
+    protected CompiledDecisionTable getCompiledDecisionTable(DecisionTable decisionTable) {
+        CompiledDecisionTable compiledDecisionTable = compiledDecisionTables.get(decisionTable);
+        if (compiledDecisionTable == null) {
+            compiledDecisionTable = compileDecisionTable(decisionTable);
+            compiledDecisionTables.put(decisionTable, compiledDecisionTable);
+        }
+        return compiledDecisionTable;
+    }
+
+    protected CompiledDecisionTable compileDecisionTable(DecisionTable decisionTable) {
+        return new CompiledDecisionTable(decisionTable, expressionManager, ruleIndexEnabled);
+    }
+
+    /**
+     * Records the audit of a rule of which the first input entry is known to be false, without evaluating it.
+     */
+    protected boolean skipRule(CompiledRule rule, ELExecutionContext executionContext) {
+        LOGGER.debug("Skipping rule {}; first input entry does not match", rule.getRuleNumber());
+
+        String inputEntryId = rule.getInputEntries().get(0).getInputClauseContainer().getInputEntry().getId();
+        executionContext.getAuditContainer().addRuleEntry(rule.getRule());
+        executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, false);
+        executionContext.getAuditContainer().markRuleEnd(rule.getRuleNumber());
+        return false;
+    }
+
+    protected boolean executeRule(CompiledRule rule, ELExecutionContext executionContext) {
         if (rule == null) {
             throw new FlowableException("rule cannot be null");
         }
@@ -198,24 +251,24 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         LOGGER.debug("Start rule {} evaluation", rule.getRuleNumber());
 
         // add audit entry
-        executionContext.getAuditContainer().addRuleEntry(rule);
+        executionContext.getAuditContainer().addRuleEntry(rule.getRule());
 
         boolean conditionResult = false;
 
         // go through conditions
-        for (RuleInputClauseContainer conditionContainer : rule.getInputEntries()) {
+        for (CompiledInputEntry inputEntry : rule.getInputEntries()) {
 
             // resetting value
+            RuleInputClauseContainer conditionContainer = inputEntry.getInputClauseContainer();
             String inputEntryId = conditionContainer.getInputEntry().getId();
             conditionResult = false;
 
             try {
                 // if condition is empty condition or has dash symbol result is TRUE
-                String inputEntryText = conditionContainer.getInputEntry().getText();
-                if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+                if (inputEntry.isAlwaysTrue()) {
                     conditionResult = true;
                 } else {
-                    conditionResult = executeInputExpressionEvaluation(conditionContainer, executionContext);
+                    conditionResult = executeInputExpressionEvaluation(inputEntry, executionContext);
                 }
 
                 // add audit entry
@@ -223,7 +276,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
                 LOGGER.debug("input entry {} ( {} {} ): {} ", inputEntryId,
                         conditionContainer.getInputClause().getInputExpression().getText(),
-                        inputEntryText, conditionResult);
+                        conditionContainer.getInputEntry().getText(), conditionResult);
 
             } catch (FlowableException ade) {
                 // add failed audit entry and rethrow
@@ -252,21 +305,22 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return conditionResult;
     }
 
-    protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, ELExecutionContext executionContext) {
-        return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), expressionManager, executionContext);
+    protected Boolean executeInputExpressionEvaluation(CompiledInputEntry inputEntry, ELExecutionContext executionContext) {
+        return ELExpressionExecutor.executeInputExpression(inputEntry.getExpression(), inputEntry.getParsedExpression(), executionContext);
     }
 
-    protected void executeOutputEntryAction(int ruleNumber, List<RuleOutputClauseContainer> ruleOutputContainers, HitPolicy hitPolicy, ELExecutionContext executionContext) {
+    protected void executeOutputEntryAction(int ruleNumber, List<CompiledOutputEntry> outputEntries, AbstractHitPolicy hitPolicyBehavior, ELExecutionContext executionContext) {
         LOGGER.debug("Start conclusion processing");
 
-        for (RuleOutputClauseContainer clauseContainer : ruleOutputContainers) {
-            composeOutputEntryResult(ruleNumber, clauseContainer, hitPolicy, executionContext);
+        for (CompiledOutputEntry outputEntry : outputEntries) {
+            composeOutputEntryResult(ruleNumber, outputEntry, hitPolicyBehavior, executionContext);
         }
 
         LOGGER.debug("End conclusion processing");
     }
 
-    protected void composeOutputEntryResult(int ruleNumber, RuleOutputClauseContainer ruleClauseContainer, HitPolicy hitPolicy, ELExecutionContext executionContext) {
+    protected void composeOutputEntryResult(int ruleNumber, CompiledOutputEntry outputEntry, AbstractHitPolicy hitPolicyBehavior, ELExecutionContext executionContext) {
+        RuleOutputClauseContainer ruleClauseContainer = outputEntry.getOutputClauseContainer();
         LOGGER.debug("Start evaluation conclusion {} of valid rule {}", ruleClauseContainer.getOutputClause().getOutputNumber(), ruleNumber);
 
         String outputVariableId = ruleClauseContainer.getOutputClause().getName();
@@ -274,15 +328,15 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
         LiteralExpression outputEntryExpression = ruleClauseContainer.getOutputEntry();
 
-        if (StringUtils.isNotEmpty(outputEntryExpression.getText())) {
+        if (!outputEntry.isEmpty()) {
             Object executionVariable = null;
             try {
-                Object resultValue = ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression, expressionManager, executionContext);
+                Object resultValue = ELExpressionExecutor.executeOutputExpression(outputEntryExpression, outputEntry.getExpression(), executionContext);
                 executionVariable = ExecutionVariableFactory.getExecutionVariable(outputVariableType, resultValue);
 
                 // create result
-                if (getHitPolicyBehavior(hitPolicy) instanceof ComposeRuleResultBehavior) {
-                    ((ComposeRuleResultBehavior) getHitPolicyBehavior(hitPolicy)).composeRuleResult(ruleNumber, outputVariableId, executionVariable, executionContext);
+                if (hitPolicyBehavior instanceof ComposeRuleResultBehavior) {
+                    ((ComposeRuleResultBehavior) hitPolicyBehavior).composeRuleResult(ruleNumber, outputVariableId, executionVariable, executionContext);
                 }
 
                 // add audit entry
@@ -356,4 +410,12 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             }
         }
     }
+
+    public boolean isRuleIndexEnabled() {
+        return ruleIndexEnabled;
+    }
+
+    public void setRuleIndexEnabled(boolean ruleIndexEnabled) {
+        this.ruleIndexEnabled = ruleIndexEnabled;
+    }
 }
@@ -60,6 +60,24 @@ public class ELExpressionExecutor {
         }
     }
 
+    /**
+     * Evaluates an input entry that was already parsed into the given expression.
+     */
+    public static Boolean executeInputExpression(Expression expression, String parsedExpression, ELExecutionContext executionContext) {
+        if (executionContext == null) {
+            throw new IllegalArgumentException("execution context is required");
+        }
+
+        RuleExpressionCondition condition = new RuleExpressionCondition(expression);
+
+        try {
+            return condition.evaluate(executionContext.getStackVariables());
+        } catch (Exception ex) {
+            LOGGER.warn("Error while executing input entry: {}", parsedExpression, ex);
+            throw new FlowableDmnExpressionException("error while executing input entry", parsedExpression, ex);
+        }
+    }
+
     public static Object executeOutputExpression(OutputClause outputClause, LiteralExpression outputEntry, ExpressionManager expressionManager, ELExecutionContext executionContext) {
         if (outputClause == null) {
             throw new IllegalArgumentException("output clause is required");
@@ -83,4 +101,22 @@ public class ELExpressionExecutor {
             throw new FlowableDmnExpressionException("error while executing output entry", outputEntry.getText(), ex);
         }
     }
+
+    /**
+     * Evaluates an output entry that was already parsed into the given expression.
+     */
+    public static Object executeOutputExpression(LiteralExpression outputEntry, Expression expression, ELExecutionContext executionContext) {
+        if (executionContext == null) {
+            throw new IllegalArgumentException("execution context is required");
+        }
+
+        RuleExpressionOutput outputExpression = new RuleExpressionOutput(expression);
+
+        try {
+            return outputExpression.getValue(executionContext.getStackVariables());
+        } catch (Exception ex) {
+            LOGGER.warn("Error while executing output entry: {}", outputEntry.getText(), ex);
+            throw new FlowableDmnExpressionException("error while executing output entry", outputEntry.getText(), ex);
+        }
+    }
 }
@@ -0,0 +1,177 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.engine.impl.DecisionTableRuleIndex;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.LiteralExpression;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.UnaryTests;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests the index on the first input column of decision tables, which skips the rules that can't match the input value.
+ */
+public class DecisionTableRuleIndexTest {
+
+    protected static final String[] RANGE_INPUT_ENTRIES = new String[] { "< 0", "== 0", "<= 10", ">= 100", "> 50", "!= 5", "-" };
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    @Test
+    public void candidateRules() {
+        DecisionTableRuleIndex index = DecisionTableRuleIndex.build(createRules("string", "== 'a'", "'b'", "-", "== 3", "> 3", "!= 'a'", "#{inputVariable1 == 'a'}"));
+        assertNotNull(index);
+
+        // string values exclude the other string literals, but not the integer tests
+        assertEquals(createBitSet(0, 2, 3, 4, 5, 6), index.getCandidateRules(Collections.<String, Object> singletonMap("inputVariable1", "a")));
+        assertEquals(createBitSet(1, 2, 3, 4, 5, 6), index.getCandidateRules(Collections.<String, Object> singletonMap("inputVariable1", "b")));
+
+        // integral values exclude the integer tests that are false, but not the string literals
+        assertEquals(createBitSet(0, 1, 2, 3, 5, 6), index.getCandidateRules(Collections.<String, Object> singletonMap("inputVariable1", 3)));
+        assertEquals(createBitSet(0, 1, 2, 4, 5, 6), index.getCandidateRules(Collections.<String, Object> singletonMap("inputVariable1", 4L)));
+
+        // other values can't use the index
+        assertNull(index.getCandidateRules(Collections.<String, Object> singletonMap("inputVariable1", 3.0)));
+        assertNull(index.getCandidateRules(Collections.<String, Object> singletonMap("inputVariable1", null)));
+        assertNull(index.getCandidateRules(Collections.<String, Object> singletonMap("otherVariable", "a")));
+    }
+
+    @Test
+    public void rangeCandidateRules() {
+        DecisionTableRuleIndex index = DecisionTableRuleIndex.build(createRules("number", RANGE_INPUT_ENTRIES));
+        assertNotNull(index);
+
+        assertEquals(createBitSet(0, 2, 5, 6), index.getCandidateRules(Collections.<String, Object> singletonMap("inputVariable1", -1)));
+        assertEquals(createBitSet(1, 2, 5, 6), index.getCandidateRules(Collections.<String, Object> singletonMap("inputVariable1", 0)));
+        assertEquals(createBitSet(2, 5, 6), index.getCandidateRules(Collections.<String, Object> singletonMap("inputVariable1", 10)));
+        assertEquals(createBitSet(5, 6), index.getCandidateRules(Collections.<String, Object> singletonMap("inputVariable1", 50)));
+        assertEquals(createBitSet(4, 5, 6), index.getCandidateRules(Collections.<String, Object> singletonMap("inputVariable1", 51)));
+        assertEquals(createBitSet(3, 4, 5, 6), index.getCandidateRules(Collections.<String, Object> singletonMap("inputVariable1", 100)));
+    }
+
+    @Test
+    public void notIndexedInputExpressions() {
+        assertNull(DecisionTableRuleIndex.build(createRules("string", "-", "!= 'a'")));
+
+        List<DecisionRule> rules = createRules("string", "== 'a'");
+        rules.get(0).getInputEntries().get(0).getInputClause().getInputExpression().setText("inputVariable1.name");
+        assertNull(DecisionTableRuleIndex.build(rules));
+    }
+
+    @Test
+    public void executeIndexedRangeDecisionTable() {
+        DmnDeployment deployment = flowableDmnRule.getRepositoryService().createDeployment()
+                .addString("rangeDecisionTable.dmn", createDecisionTableXml("FIRST"))
+                .deploy();
+
+        try {
+            assertFirstResult(0, -3);
+            assertFirstResult(1, 0);
+            assertFirstResult(2, 7);
+            assertFirstResult(2, 10L);
+            assertFirstResult(5, 30);
+            assertFirstResult(4, 60);
+            assertFirstResult(3, 100);
+
+            // string values are coerced for the integer tests, so these rules can't be skipped
+            assertFirstResult(2, "7");
+            assertFirstResult(3, "150");
+
+        } finally {
+            flowableDmnRule.getRepositoryService().deleteDeployment(deployment.getId());
+        }
+    }
+
+    protected void assertFirstResult(int expectedRule, Object input) {
+        DmnRuleService dmnRuleService = flowableDmnRule.getDmnEngine().getDmnRuleService();
+        Map<String, Object> result = dmnRuleService.createExecuteDecisionBuilder()
+                .decisionKey("rangeDecision")
+                .variable("inputVariable1", input)
+                .executeWithSingleResult();
+        assertEquals("rule " + expectedRule, result.get("outputVariable1"));
+
+        // the skipped rules are still part of the audit trail
+        DecisionExecutionAuditContainer auditContainer = dmnRuleService.createExecuteDecisionBuilder()
+                .decisionKey("rangeDecision")
+                .variable("inputVariable1", input)
+                .executeWithAuditTrail();
+        assertFalse(auditContainer.isFailed());
+        assertEquals(expectedRule + 1, auditContainer.getRuleExecutions().size());
+    }
+
+    protected List<DecisionRule> createRules(String typeRef, String... inputEntries) {
+        LiteralExpression inputExpression = new LiteralExpression();
+        inputExpression.setText("inputVariable1");
+        inputExpression.setTypeRef(typeRef);
+        InputClause inputClause = new InputClause();
+        inputClause.setInputExpression(inputExpression);
+
+        List<DecisionRule> rules = new ArrayList<>();
+        for (int i = 0; i < inputEntries.length; i++) {
+            UnaryTests inputEntry = new UnaryTests();
+            inputEntry.setId("inputEntry" + i);
+            inputEntry.setText(inputEntries[i]);
+
+            DecisionRule rule = new DecisionRule();
+            rule.setRuleNumber(i + 1);
+            rule.addInputEntry(new RuleInputClauseContainer(inputClause, inputEntry));
+            rules.add(rule);
+        }
+        return rules;
+    }
+
+    protected BitSet createBitSet(int... bits) {
+        BitSet bitSet = new BitSet();
+        for (int bit : bits) {
+            bitSet.set(bit);
+        }
+        return bitSet;
+    }
+
+    protected String createDecisionTableXml(String hitPolicy) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<definitions xmlns=\"http://www.omg.org/spec/DMN/20151101\" id=\"range\" name=\"Range\" namespace=\"http://www.flowable.org/dmn\">");
+        xml.append("<decision id=\"rangeDecision\" name=\"Range Decision\">");
+        xml.append("<decisionTable id=\"decisionTable\" hitPolicy=\"").append(hitPolicy).append("\">");
+        xml.append("<input><inputExpression id=\"inputExpression1\" typeRef=\"number\"><text>inputVariable1</text></inputExpression></input>");
+        xml.append("<output id=\"output1\" label=\"Output 1\" name=\"outputVariable1\" typeRef=\"string\"></output>");
+        for (int i = 0; i < RANGE_INPUT_ENTRIES.length; i++) {
+            xml.append("<rule>");
+            xml.append("<inputEntry id=\"inputEntry").append(i).append("\"><text><![CDATA[").append(RANGE_INPUT_ENTRIES[i]).append("]]></text></inputEntry>");
+            xml.append("<outputEntry id=\"outputEntry").append(i).append("\"><text>'rule ").append(i).append("'</text></outputEntry>");
+            xml.append("</rule>");
+        }
+        xml.append("</decisionTable></decision></definitions>");
+        return xml.toString();
+    }
+
+}
@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.api.RuleExecutionAuditContainer;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Executes a decision table with many rules repeatedly, which uses the compiled form of the decision table after the first execution.
+ */
+public class LargeDecisionTableTest {
+
+    protected static final int RULE_COUNT = 2000;
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    protected DmnDeployment deployment;
+
+    @Before
+    public void deployLargeDecisionTable() {
+        deployment = flowableDmnRule.getRepositoryService().createDeployment()
+                .addString("largeDecisionTable.dmn", createDecisionTableXml("UNIQUE"))
+                .deploy();
+    }
+
+    @After
+    public void deleteDeployment() {
+        flowableDmnRule.getRepositoryService().deleteDeployment(deployment.getId());
+    }
+
+    @Test
+    public void executeLargeDecisionTable() {
+        DmnRuleService dmnRuleService = flowableDmnRule.getDmnEngine().getDmnRuleService();
+
+        for (int i = 0; i < 500; i++) {
+            int input = (i * 7) % RULE_COUNT;
+            Map<String, Object> result = dmnRuleService.createExecuteDecisionBuilder()
+                    .decisionKey("largeDecision")
+                    .variable("inputVariable1", input)
+                    .variable("inputVariable2", "value" + (input % 10))
+                    .executeWithSingleResult();
+
+            assertEquals("rule " + input, result.get("outputVariable1"));
+        }
+    }
+
+    @Test
+    public void executeLargeDecisionTableWithAuditTrail() {
+        DmnRuleService dmnRuleService = flowableDmnRule.getDmnEngine().getDmnRuleService();
+
+        for (int i = 0; i < 2; i++) {
+            DecisionExecutionAuditContainer auditContainer = dmnRuleService.createExecuteDecisionBuilder()
+                    .decisionKey("largeDecision")
+                    .variable("inputVariable1", 1500)
+                    .variable("inputVariable2", "value0")
+                    .executeWithAuditTrail();
+
+            assertFalse(auditContainer.isFailed());
+            assertEquals(RULE_COUNT, auditContainer.getRuleExecutions().size());
+            int validRuleCount = 0;
+            for (RuleExecutionAuditContainer ruleExecution : auditContainer.getRuleExecutions().values()) {
+                if (ruleExecution.isValid()) {
+                    validRuleCount++;
+                }
+            }
+            assertEquals(1, validRuleCount);
+            assertEquals(1, auditContainer.getDecisionResult().size());
+            assertEquals("rule 1500", auditContainer.getDecisionResult().get(0).get("outputVariable1"));
+        }
+    }
+
+    protected String createDecisionTableXml(String hitPolicy) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<definitions xmlns=\"http://www.omg.org/spec/DMN/20151101\" id=\"large\" name=\"Large\" namespace=\"http://www.flowable.org/dmn\">");
+        xml.append("<decision id=\"largeDecision\" name=\"Large Decision\">");
+        xml.append("<decisionTable id=\"decisionTable\" hitPolicy=\"").append(hitPolicy).append("\">");
+        xml.append("<input><inputExpression id=\"inputExpression1\" typeRef=\"number\"><text>inputVariable1</text></inputExpression></input>");
+        xml.append("<input><inputExpression id=\"inputExpression2\" typeRef=\"string\"><text>inputVariable2</text></inputExpression></input>");
+        xml.append("<output id=\"output1\" label=\"Output 1\" name=\"outputVariable1\" typeRef=\"string\"></output>");
+        for (int i = 0; i < RULE_COUNT; i++) {
+            xml.append("<rule>");
+            xml.append("<inputEntry id=\"inputEntry").append(i).append("_1\"><text><![CDATA[== ").append(i).append("]]></text></inputEntry>");
+            xml.append("<inputEntry id=\"inputEntry").append(i).append("_2\"><text><![CDATA[== 'value").append(i % 10).append("']]></text></inputEntry>");
+            xml.append("<outputEntry id=\"outputEntry").append(i).append("_1\"><text>'rule ").append(i).append("'</text></outputEntry>");
+            xml.append("</rule>");
+        }
+        xml.append("</decisionTable></decision></definitions>");
+        return xml.toString();
+    }
+
+}
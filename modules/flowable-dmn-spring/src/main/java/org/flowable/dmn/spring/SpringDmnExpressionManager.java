@@ -13,6 +13,8 @@
 
 package org.flowable.dmn.spring;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.common.api.variable.VariableContainer;
@@ -21,7 +23,6 @@ import org.flowable.engine.common.impl.el.JsonNodeELResolver;
 import org.flowable.engine.common.impl.el.ReadOnlyMapELResolver;
 import org.flowable.engine.common.impl.javax.el.ArrayELResolver;
 import org.flowable.engine.common.impl.javax.el.BeanELResolver;
-import org.flowable.engine.common.impl.javax.el.CompositeELResolver;
 import org.flowable.engine.common.impl.javax.el.ELResolver;
 import org.flowable.engine.common.impl.javax.el.ListELResolver;
 import org.flowable.engine.common.impl.javax.el.MapELResolver;
@@ -49,23 +50,29 @@ public class SpringDmnExpressionManager extends DefaultExpressionManager {
     
     @Override
     protected ELResolver createElResolver(VariableContainer variableContainer) {
-        CompositeELResolver compositeElResolver = new CompositeELResolver();
-        compositeElResolver.add(createVariableElResolver(variableContainer));
+        List<ELResolver> elResolvers = new ArrayList<>();
+        elResolvers.add(createVariableElResolver(variableContainer));
+        elResolvers.addAll(getStaticElResolvers());
+        return createCompositeElResolver(elResolvers);
+    }
 
+    @Override
+    protected List<ELResolver> createStaticElResolvers() {
+        List<ELResolver> elResolvers = new ArrayList<>();
         if (beans != null) {
             // Only expose limited set of beans in expressions
-            compositeElResolver.add(new ReadOnlyMapELResolver(beans));
+            elResolvers.add(new ReadOnlyMapELResolver(beans));
         } else {
             // Expose full application-context in expressions
-            compositeElResolver.add(new ApplicationContextElResolver(applicationContext));
+            elResolvers.add(new ApplicationContextElResolver(applicationContext));
         }
 
-        compositeElResolver.add(new ArrayELResolver());
-        compositeElResolver.add(new ListELResolver());
-        compositeElResolver.add(new MapELResolver());
-        compositeElResolver.add(new JsonNodeELResolver());
-        compositeElResolver.add(new BeanELResolver());
-        return compositeElResolver;
+        elResolvers.add(new ArrayELResolver());
+        elResolvers.add(new ListELResolver());
+        elResolvers.add(new MapELResolver());
+        elResolvers.add(new JsonNodeELResolver());
+        elResolvers.add(new BeanELResolver());
+        return elResolvers;
     }
     
 }
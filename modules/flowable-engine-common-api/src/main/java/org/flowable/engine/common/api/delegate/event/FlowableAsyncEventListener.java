@@ -0,0 +1,25 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.api.delegate.event;
+
+/**
+ * A {@link FlowableEventListener} that doesn't need to take part in the transaction in which its events are dispatched.
+ * <p>
+ * When asynchronous event delivery is enabled on the event dispatcher, the events for such a listener are collected while the command runs and
+ * are only delivered once the transaction has committed, on a separate thread. Events of a transaction that is rolled back are never
+ * delivered. As a consequence, {@link #isFailOnException()} is ignored in that mode: the operation has already succeeded when the listener
+ * is called. Without asynchronous delivery, the listener is called synchronously like any other listener.
+ */
+public interface FlowableAsyncEventListener extends FlowableEventListener {
+
+}
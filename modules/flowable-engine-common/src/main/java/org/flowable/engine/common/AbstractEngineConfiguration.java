@@ -161,6 +161,29 @@ public abstract class AbstractEngineConfiguration {
 
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 60; // currently Execution has most params (31). 2000 / 31 = 64.
 
+    /**
+     * If set to true, updates and deletes of entities that share the same sql statement are sent to the database
+     * as one JDBC batch when the session is flushed, instead of one roundtrip per entity. Default false.
+     * <p>
+     * The optimistic locking checks are done using the update counts returned by the batch,
+     * so this should only be enabled for JDBC drivers that report a row count per batched statement.
+     */
+    protected boolean isBatchUpdatesAndDeletesEnabled;
+
+    /**
+     * If set to true, entities implementing {@link org.flowable.engine.common.impl.persistence.entity.ChangeTrackingEntity} record the changes
+     * made through their setters when they are loaded. Whether such an entity needs to be updated at flush time is then determined from these
+     * recorded changes, instead of storing and comparing a copy of its persistent state. Default false.
+     */
+    protected boolean isEntityChangeTrackingEnabled;
+
+    /**
+     * If set to true, the definition caches of the engine are {@link org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache}
+     * instances, which do not lock on reads and keep hit, miss and eviction counters, instead of the default synchronized caches.
+     * Not used for caches that are explicitly configured. Default false.
+     */
+    protected boolean useConcurrentDeploymentCache;
+
     protected Set<Class<?>> customMybatisMappers;
     protected Set<String> customMybatisXMLMappers;
     
@@ -542,6 +565,8 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchUpdatesAndDeletesEnabled(isBatchUpdatesAndDeletesEnabled);
+        dbSqlSessionFactory.setEntityChangeTrackingEnabled(isEntityChangeTrackingEnabled);
         
         initDbSqlSessionFactoryEntitySettings();
         
@@ -1090,6 +1115,33 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isBatchUpdatesAndDeletesEnabled() {
+        return isBatchUpdatesAndDeletesEnabled;
+    }
+
+    public AbstractEngineConfiguration setBatchUpdatesAndDeletesEnabled(boolean isBatchUpdatesAndDeletesEnabled) {
+        this.isBatchUpdatesAndDeletesEnabled = isBatchUpdatesAndDeletesEnabled;
+        return this;
+    }
+
+    public boolean isEntityChangeTrackingEnabled() {
+        return isEntityChangeTrackingEnabled;
+    }
+
+    public AbstractEngineConfiguration setEntityChangeTrackingEnabled(boolean isEntityChangeTrackingEnabled) {
+        this.isEntityChangeTrackingEnabled = isEntityChangeTrackingEnabled;
+        return this;
+    }
+
+    public boolean isUseConcurrentDeploymentCache() {
+        return useConcurrentDeploymentCache;
+    }
+
+    public AbstractEngineConfiguration setUseConcurrentDeploymentCache(boolean useConcurrentDeploymentCache) {
+        this.useConcurrentDeploymentCache = useConcurrentDeploymentCache;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
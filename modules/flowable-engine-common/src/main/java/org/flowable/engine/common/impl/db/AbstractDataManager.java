@@ -157,7 +157,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
                 // Cache entities
                 if (cachedObjects != null && cachedEntityMatcher != null) {
-                    for (CachedEntity cachedObject : cachedObjects) {
+                    for (CachedEntity cachedObject : findMatchCandidatesInCache(getManagedEntityClass(), cachedEntityMatcher, parameter)) {
                         EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                         if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedEntity, parameter)) {
                             entityMap.put(cachedEntity.getId(), cachedEntity); // will overwrite db version with newer version
@@ -167,7 +167,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
                 if (getManagedEntitySubClasses() != null && cachedEntityMatcher != null) {
                     for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                        Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
+                        Collection<CachedEntity> subclassCachedObjects = findMatchCandidatesInCache(entitySubClass, cachedEntityMatcher, parameter);
                         if (subclassCachedObjects != null) {
                             for (CachedEntity subclassCachedObject : subclassCachedObjects) {
                                 EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
@@ -204,9 +204,9 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
         DbSqlSession dbSqlSession = getDbSqlSession();
 
-        List<EntityImpl> result = new ArrayList<>(cachedObjects.size());
+        List<EntityImpl> result = new ArrayList<>();
         if (cachedObjects != null && entityMatcher != null) {
-            for (CachedEntity cachedObject : cachedObjects) {
+            for (CachedEntity cachedObject : findMatchCandidatesInCache(getManagedEntityClass(), entityMatcher, parameter)) {
                 EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                 if (entityMatcher.isRetained(null, cachedObjects, cachedEntity, parameter) && !dbSqlSession.isEntityToBeDeleted(cachedEntity)) {
                     result.add(cachedEntity);
@@ -216,7 +216,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
         if (getManagedEntitySubClasses() != null && entityMatcher != null) {
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
+                Collection<CachedEntity> subclassCachedObjects = findMatchCandidatesInCache(entitySubClass, entityMatcher, parameter);
                 if (subclassCachedObjects != null) {
                     for (CachedEntity subclassCachedObject : subclassCachedObjects) {
                         EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
@@ -231,4 +231,17 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         return result;
     }
 
+    /**
+     * Returns the cached entities of the given type that need to be checked with the given {@link CachedEntityMatcher}:
+     * for an {@link IndexedCachedEntityMatcher} only the entities found through its index, otherwise all cached entities of the type.
+     */
+    @SuppressWarnings("unchecked")
+    protected Collection<CachedEntity> findMatchCandidatesInCache(Class<?> entityClass, CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
+        if (cachedEntityMatcher instanceof IndexedCachedEntityMatcher) {
+            IndexedCachedEntityMatcher<EntityImpl> indexedCachedEntityMatcher = (IndexedCachedEntityMatcher<EntityImpl>) cachedEntityMatcher;
+            return getEntityCache().findInCacheByIndex(entityClass, indexedCachedEntityMatcher.getIndex(), indexedCachedEntityMatcher.getIndexValue(parameter));
+        }
+        return getEntityCache().findInCacheAsCachedObjects(entityClass);
+    }
+
 }
@@ -14,6 +14,8 @@
 package org.flowable.engine.common.impl.db;
 
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -24,7 +26,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableOptimisticLockingException;
 import org.flowable.engine.common.impl.Page;
@@ -32,6 +40,7 @@ import org.flowable.engine.common.impl.interceptor.Session;
 import org.flowable.engine.common.impl.persistence.cache.CachedEntity;
 import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.common.impl.persistence.entity.AlwaysUpdatedPersistentObject;
+import org.flowable.engine.common.impl.persistence.entity.ChangeTrackingEntity;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -239,6 +248,7 @@ public class DbSqlSession implements Session {
             return null;
         }
 
+        startChangeTrackingIfEnabled(entity);
         entityCache.put(entity, true); // true -> store state so we can see later if it is updated later on
         return entity;
     }
@@ -272,10 +282,21 @@ public class DbSqlSession implements Session {
         if (cachedEntity != null) {
             return cachedEntity;
         }
+        startChangeTrackingIfEnabled(entity);
         entityCache.put(entity, true);
         return entity;
     }
 
+    /**
+     * When change tracking is enabled, a loaded {@link ChangeTrackingEntity} records its own changes,
+     * so the cache doesn't need to store its persistent state (see {@link CachedEntity}).
+     */
+    protected void startChangeTrackingIfEnabled(Entity entity) {
+        if (dbSqlSessionFactory.isEntityChangeTrackingEnabled() && entity instanceof ChangeTrackingEntity) {
+            ((ChangeTrackingEntity) entity).startChangeTracking();
+        }
+    }
+
     // flush
     // ////////////////////////////////////////////////////////////////////
 
@@ -486,13 +507,13 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
-        for (Entity updatedObject : updatedObjects) {
-            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+        if (dbSqlSessionFactory.isBatchUpdatesAndDeletesEnabled() && updatedObjects.size() > 1) {
+            flushBatchUpdates();
+            return;
+        }
 
-            if (updateStatement == null) {
-                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
-            }
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = getMappedUpdateStatement(updatedObject);
 
             LOGGER.debug("updating: {}", updatedObject);
             
@@ -510,6 +531,104 @@ public class DbSqlSession implements Session {
         updatedObjects.clear();
     }
 
+    /**
+     * Groups the updated objects by their update statement and sends every group as one JDBC batch.
+     * The optimistic locking check is done afterwards using the update count of each batched statement.
+     */
+    protected void flushBatchUpdates() {
+        Map<String, List<Entity>> updatedObjectsByStatement = new LinkedHashMap<>();
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = getMappedUpdateStatement(updatedObject);
+            List<Entity> entities = updatedObjectsByStatement.get(updateStatement);
+            if (entities == null) {
+                entities = new ArrayList<>();
+                updatedObjectsByStatement.put(updateStatement, entities);
+            }
+            entities.add(updatedObject);
+        }
+
+        for (String updateStatement : updatedObjectsByStatement.keySet()) {
+            List<Entity> entities = updatedObjectsByStatement.get(updateStatement);
+            if (entities.size() == 1) {
+                Entity updatedObject = entities.get(0);
+                LOGGER.debug("updating: {}", updatedObject);
+                verifyUpdateCount(updatedObject, sqlSession.update(updateStatement, updatedObject));
+                
+            } else {
+                LOGGER.debug("updating {} entities in batch with statement {}", entities.size(), updateStatement);
+                int[] updateCounts = executeBatch(updateStatement, entities);
+                for (int i = 0; i < entities.size(); i++) {
+                    verifyUpdateCount(entities.get(i), updateCounts[i]);
+                }
+            }
+
+            // See https://activiti.atlassian.net/browse/ACT-1290
+            for (Entity updatedObject : entities) {
+                if (updatedObject instanceof HasRevision) {
+                    ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+                }
+            }
+        }
+        updatedObjects.clear();
+    }
+
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        }
+        return updateStatement;
+    }
+
+    protected void verifyUpdateCount(Entity entity, int updateCount) {
+        if (updateCount == Statement.SUCCESS_NO_INFO) {
+            throw new FlowableException("The JDBC driver did not return an update count for " + entity
+                    + ", optimistic locking can't be verified: disable batched updates and deletes for this database");
+        }
+        if (updateCount == 0) {
+            throw new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
+        }
+    }
+
+    /**
+     * Executes the given statement for each of the parameter objects as one JDBC batch on the connection of the current session,
+     * and returns the update count for each of the parameter objects (in the same order).
+     */
+    protected int[] executeBatch(String statement, List<? extends Object> parameterObjects) {
+        Configuration configuration = sqlSession.getConfiguration();
+        MappedStatement mappedStatement = configuration.getMappedStatement(statement);
+
+        // The transaction wrapper does not commit, rollback or close the connection: that stays the responsibility of the regular session
+        Executor batchExecutor = configuration.newExecutor(new ManagedTransaction(sqlSession.getConnection(), false), ExecutorType.BATCH);
+        try {
+            for (Object parameterObject : parameterObjects) {
+                batchExecutor.update(mappedStatement, parameterObject);
+            }
+
+            int[] updateCounts = new int[parameterObjects.size()];
+            int index = 0;
+            for (BatchResult batchResult : batchExecutor.flushStatements()) {
+                for (int updateCount : batchResult.getUpdateCounts()) {
+                    updateCounts[index++] = updateCount;
+                }
+            }
+            
+            if (index != parameterObjects.size()) {
+                throw new FlowableException("Batch execution of " + statement + " returned " + index + " update counts, expected " + parameterObjects.size());
+            }
+            return updateCounts;
+
+        } catch (SQLException e) {
+            throw new FlowableException("Could not execute batch for statement " + statement, e);
+            
+        } finally {
+            batchExecutor.close(false);
+            sqlSession.clearCache(); // the local cache of the regular session doesn't know about the batched changes
+        }
+    }
+
     protected void flushDeletes() {
 
         if (deletedObjects.size() == 0 && bulkDeleteOperations.size() == 0) {
@@ -546,12 +665,13 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (dbSqlSessionFactory.isBatchUpdatesAndDeletesEnabled() && entitiesToDelete.size() > 1) {
+            flushBatchDeleteEntities(entityClass, entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
-            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
-            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
-            if (deleteStatement == null) {
-                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
-            }
+            String deleteStatement = getMappedDeleteStatement(entity);
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
@@ -565,6 +685,35 @@ public class DbSqlSession implements Session {
             }
         }
     }
+
+    /**
+     * Deletes all entities of the given class in one JDBC batch. 
+     * All entities of one class share the same delete statement, so one roundtrip is needed instead of one per entity.
+     */
+    protected void flushBatchDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        List<Entity> entities = new ArrayList<>(entitiesToDelete);
+        String deleteStatement = getMappedDeleteStatement(entities.get(0));
+        
+        LOGGER.debug("deleting {} entities in batch with statement {}", entities.size(), deleteStatement);
+        int[] deleteCounts = executeBatch(deleteStatement, entities);
+
+        // It only makes sense to check for optimistic locking exceptions
+        // for objects that actually have a revision
+        for (int i = 0; i < entities.size(); i++) {
+            if (entities.get(i) instanceof HasRevision) {
+                verifyUpdateCount(entities.get(i), deleteCounts[i]);
+            }
+        }
+    }
+
+    protected String getMappedDeleteStatement(Entity entity) {
+        String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+        deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+        if (deleteStatement == null) {
+            throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+        }
+        return deleteStatement;
+    }
     
     @Override
     public void close() {
@@ -64,6 +64,9 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
     
     protected int maxNrOfStatementsInBulkInsert = 100;
+    
+    protected boolean isBatchUpdatesAndDeletesEnabled;
+    protected boolean isEntityChangeTrackingEnabled;
 
     @Override
     public Class<?> getSessionType() {
@@ -196,6 +199,22 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
     
+    public boolean isBatchUpdatesAndDeletesEnabled() {
+        return isBatchUpdatesAndDeletesEnabled;
+    }
+
+    public void setBatchUpdatesAndDeletesEnabled(boolean isBatchUpdatesAndDeletesEnabled) {
+        this.isBatchUpdatesAndDeletesEnabled = isBatchUpdatesAndDeletesEnabled;
+    }
+
+    public boolean isEntityChangeTrackingEnabled() {
+        return isEntityChangeTrackingEnabled;
+    }
+
+    public void setEntityChangeTrackingEnabled(boolean isEntityChangeTrackingEnabled) {
+        this.isEntityChangeTrackingEnabled = isEntityChangeTrackingEnabled;
+    }
+    
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.db;
+
+import org.flowable.engine.common.impl.persistence.cache.CachedEntityIndex;
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * A {@link CachedEntityMatcher} that only retains entities having a given value for an indexed property.
+ *
+ * Instead of testing all cached entities of a type, only the entities found through the {@link CachedEntityIndex} are passed to
+ * {@link #isRetained(java.util.Collection, java.util.Collection, Entity, Object)}, which still needs to check the full condition.
+ */
+public interface IndexedCachedEntityMatcher<EntityImpl extends Entity> extends CachedEntityMatcher<EntityImpl> {
+
+    /**
+     * Returns the index used to look up the candidate entities.
+     */
+    CachedEntityIndex<? super EntityImpl> getIndex();
+
+    /**
+     * Returns the index value that retained entities must have, for the given query parameter.
+     */
+    String getIndexValue(Object parameter);
+
+}
@@ -127,6 +127,11 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 	 * <code>javax.el.ignoreReturnType</code>
 	 */
 	public static final String PROP_IGNORE_RETURN_TYPE = "javax.el.ignoreReturnType";	
+
+	/**
+	 * <code>javax.el.inlineCaches</code>
+	 */
+	public static final String PROP_INLINE_CACHES = "javax.el.inlineCaches";
 	
 	/**
 	 * <code>javax.el.cacheSize</code>
@@ -338,6 +343,9 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 			if (getFeatureProperty(profile, properties, Feature.IGNORE_RETURN_TYPE, PROP_IGNORE_RETURN_TYPE)) {
 				features.add(Builder.Feature.IGNORE_RETURN_TYPE);
 			}
+			if (getFeatureProperty(profile, properties, Feature.INLINE_CACHES, PROP_INLINE_CACHES)) {
+				features.add(Builder.Feature.INLINE_CACHES);
+			}
 			builder = createTreeBuilder(properties, features.toArray(new Builder.Feature[0]));
 		}
 
@@ -18,11 +18,15 @@ package org.flowable.engine.common.impl.de.odysseus.el;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.flowable.engine.common.impl.de.odysseus.el.misc.LocalMessages;
 import org.flowable.engine.common.impl.de.odysseus.el.misc.TypeConverter;
 import org.flowable.engine.common.impl.de.odysseus.el.tree.Bindings;
 import org.flowable.engine.common.impl.de.odysseus.el.tree.ExpressionNode;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.IdentifierNode;
 import org.flowable.engine.common.impl.de.odysseus.el.tree.NodePrinter;
 import org.flowable.engine.common.impl.de.odysseus.el.tree.Tree;
 import org.flowable.engine.common.impl.de.odysseus.el.tree.TreeBuilder;
@@ -51,6 +55,7 @@ public final class TreeValueExpression extends ValueExpression {
 	private final String expr;
 	private final Class<?> type;
 	private final boolean deferred;
+	private final List<String> identifierNames;
 
 	private transient ExpressionNode node;
 
@@ -75,12 +80,31 @@ public final class TreeValueExpression extends ValueExpression {
 		this.type = type;
 		this.node = tree.getRoot();
 		this.deferred = tree.isDeferred();
+		this.identifierNames = getIdentifierNames(tree);
 		
 		if (type == null) {
 			throw new NullPointerException(LocalMessages.get("error.value.notype"));
 		}
 	}
 
+	private static List<String> getIdentifierNames(Tree tree) {
+		List<String> names = new ArrayList<String>();
+		for (IdentifierNode identifierNode : tree.getIdentifierNodes()) {
+			if (!names.contains(identifierNode.getName())) {
+				names.add(identifierNode.getName());
+			}
+		}
+		return Collections.unmodifiableList(names);
+	}
+
+	/**
+	 * Answer the names of the top-level identifiers used in this expression, without duplicates.
+	 * @return the identifier names
+	 */
+	public List<String> getIdentifierNames() {
+		return identifierNames;
+	}
+
 	private String getStructuralId() {
 		if (structure == null) {
 			structure = node.getStructuralId(bindings);
@@ -67,7 +67,14 @@ public class Builder implements TreeBuilder {
 		 * Do not verify that a method's return type matches the expected return type passed to
 		 * {@link ExpressionFactory#createMethodExpression(ELContext, String, Class, Class[])}. 
 		 */
-		IGNORE_RETURN_TYPE
+		IGNORE_RETURN_TYPE,
+		/**
+		 * Property accesses with a fixed name as in <code>${foo.bar}</code> keep the read method of
+		 * the property for the last class of <code>foo</code>, which is invoked directly when the
+		 * property is resolved by a {@link org.flowable.engine.common.impl.javax.el.BeanELResolver}.
+		 * Other property accesses are resolved through the <code>ELResolver</code> as usual.
+		 */
+		INLINE_CACHES
 	}
 	
 	protected final EnumSet<Feature> features;
@@ -229,7 +229,7 @@ public class Parser {
 	}
 	
 	protected AstDot createAstDot(AstNode base, String property, boolean lvalue) {
-		return new AstDot(base, property, lvalue, context.isEnabled(Feature.IGNORE_RETURN_TYPE));
+		return new AstDot(base, property, lvalue, context.isEnabled(Feature.IGNORE_RETURN_TYPE), context.isEnabled(Feature.INLINE_CACHES));
 	}
 	
 	protected AstFunction createAstFunction(String name, int index, AstParameters params) {
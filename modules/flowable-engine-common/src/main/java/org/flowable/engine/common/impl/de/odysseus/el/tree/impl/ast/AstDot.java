@@ -15,20 +15,35 @@
  */
 package org.flowable.engine.common.impl.de.odysseus.el.tree.impl.ast;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
 import org.flowable.engine.common.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.engine.common.impl.javax.el.BeanELResolver;
+import org.flowable.engine.common.impl.javax.el.CompositeELResolver;
 import org.flowable.engine.common.impl.javax.el.ELContext;
 import org.flowable.engine.common.impl.javax.el.ELException;
+import org.flowable.engine.common.impl.javax.el.ELResolver;
 
 public class AstDot extends AstProperty {
 	protected final String property;
+	protected final boolean inlineCache;
+
+	// read method for the last base class, shared by all threads evaluating the tree
+	private volatile InlineCacheEntry inlineCacheEntry;
 
 	public AstDot(AstNode base, String property, boolean lvalue) {
 		this(base, property, lvalue, false);
 	}
 
 	public AstDot(AstNode base, String property, boolean lvalue, boolean ignoreReturnType) {
+		this(base, property, lvalue, ignoreReturnType, false);
+	}
+
+	public AstDot(AstNode base, String property, boolean lvalue, boolean ignoreReturnType, boolean inlineCache) {
 		super(base, lvalue, true, ignoreReturnType);
 		this.property = property;
+		this.inlineCache = inlineCache;
 	}
 
 	@Override
@@ -36,6 +51,44 @@ public class AstDot extends AstProperty {
 		return property;
 	}
 
+	@Override
+	protected Object resolveValue(Object base, Object property, ELContext context) {
+		if (inlineCache) {
+			ELResolver resolver = context.getELResolver();
+			if (resolver instanceof CompositeELResolver) {
+				Class<?> baseClass = base.getClass();
+				BeanELResolver beanResolver = ((CompositeELResolver) resolver).getBeanELResolver(baseClass);
+				if (beanResolver != null) {
+					InlineCacheEntry entry = inlineCacheEntry;
+					if (entry == null || entry.baseClass != baseClass) {
+						Method readMethod = beanResolver.getReadMethod(baseClass, this.property);
+						if (readMethod == null) {
+							// let the resolver report the missing property
+							return super.resolveValue(base, property, context);
+						}
+						entry = new InlineCacheEntry(baseClass, readMethod);
+						inlineCacheEntry = entry;
+					}
+					return invokeReadMethod(entry.readMethod, base, context);
+				}
+			}
+		}
+		return super.resolveValue(base, property, context);
+	}
+
+	protected Object invokeReadMethod(Method readMethod, Object base, ELContext context) {
+		Object result = null;
+		try {
+			result = readMethod.invoke(base);
+		} catch (InvocationTargetException e) {
+			throw new ELException(e.getCause());
+		} catch (Exception e) {
+			throw new ELException(e);
+		}
+		context.setPropertyResolved(true);
+		return result;
+	}
+
 	@Override
 	public String toString() {
 		return ". " + property;
@@ -52,4 +105,14 @@ public class AstDot extends AstProperty {
 	public int getCardinality() {
 		return 1;
 	}
+
+	private static final class InlineCacheEntry {
+		final Class<?> baseClass;
+		final Method readMethod;
+
+		InlineCacheEntry(Class<?> baseClass, Method readMethod) {
+			this.baseClass = baseClass;
+			this.readMethod = readMethod;
+		}
+	}
 }
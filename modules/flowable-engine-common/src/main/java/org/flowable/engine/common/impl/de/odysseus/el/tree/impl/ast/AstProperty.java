@@ -73,6 +73,10 @@ public abstract class AstProperty extends AstNode {
 		if (property == null && strict) {
 			return null;
 		}
+		return resolveValue(base, property, context);
+	}
+
+	protected Object resolveValue(Object base, Object property, ELContext context) {
 		context.setPropertyResolved(false);
 		Object result = context.getELResolver().getValue(context, base, property);
 		if (!context.isPropertyResolved()) {
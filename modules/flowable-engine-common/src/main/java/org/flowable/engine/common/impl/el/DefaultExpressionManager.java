@@ -13,12 +13,14 @@
 package org.flowable.engine.common.impl.el;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.common.api.delegate.Expression;
 import org.flowable.engine.common.api.delegate.FlowableFunctionDelegate;
 import org.flowable.engine.common.api.variable.VariableContainer;
+import org.flowable.engine.common.impl.de.odysseus.el.TreeValueExpression;
 import org.flowable.engine.common.impl.javax.el.ArrayELResolver;
 import org.flowable.engine.common.impl.javax.el.BeanELResolver;
 import org.flowable.engine.common.impl.javax.el.CompositeELResolver;
@@ -46,6 +48,14 @@ public class DefaultExpressionManager implements ExpressionManager {
     protected ELContext parsingElContext;
     protected Map<Object, Object> beans;
 
+    protected volatile List<ELResolver> staticElResolvers;
+
+    /**
+     * Whether the identifiers of an expression are fetched up front with one query when evaluating it against a {@link PrefetchingVariableContainer},
+     * instead of fetching all variables of the container.
+     */
+    protected boolean prefetchExpressionVariables;
+
     public DefaultExpressionManager() {
         this(null);
     }
@@ -62,7 +72,11 @@ public class DefaultExpressionManager implements ExpressionManager {
         }
 
         ValueExpression valueExpression = expressionFactory.createValueExpression(parsingElContext, expression.trim(), Object.class);
-        return createJuelExpression(expression, valueExpression);
+        Expression juelExpression = createJuelExpression(expression, valueExpression);
+        if (prefetchExpressionVariables && juelExpression instanceof JuelExpression && valueExpression instanceof TreeValueExpression) {
+            ((JuelExpression) juelExpression).setPrefetchVariableNames(((TreeValueExpression) valueExpression).getIdentifierNames());
+        }
+        return juelExpression;
     }
 
     protected Expression createJuelExpression(String expression, ValueExpression valueExpression) {
@@ -82,6 +96,39 @@ public class DefaultExpressionManager implements ExpressionManager {
     protected ELResolver createElResolver(VariableContainer variableContainer) {
         List<ELResolver> elResolvers = new ArrayList<>();
         elResolvers.add(createVariableElResolver(variableContainer));
+        elResolvers.addAll(getStaticElResolvers());
+        
+        configureResolvers(elResolvers);
+        
+        return createCompositeElResolver(elResolvers);
+    }
+
+    protected ELResolver createCompositeElResolver(List<ELResolver> elResolvers) {
+        CompositeELResolver compositeELResolver = new CompositeELResolver();
+        for (ELResolver elResolver : elResolvers) {
+            compositeELResolver.add(elResolver);
+        }
+        return compositeELResolver;
+    }
+
+    /**
+     * Returns the resolvers that don't depend on the variable container. They are created once and shared by all evaluations,
+     * so the {@link BeanELResolver} keeps its introspection cache.
+     */
+    protected List<ELResolver> getStaticElResolvers() {
+        List<ELResolver> elResolvers = staticElResolvers;
+        if (elResolvers == null) {
+            elResolvers = Collections.unmodifiableList(createStaticElResolvers());
+            staticElResolvers = elResolvers;
+        }
+        return elResolvers;
+    }
+
+    /**
+     * Creates the resolvers that don't depend on the variable container. These are shared by concurrent evaluations and must be thread-safe.
+     */
+    protected List<ELResolver> createStaticElResolvers() {
+        List<ELResolver> elResolvers = new ArrayList<>();
         if (beans != null) {
             elResolvers.add(new ReadOnlyMapELResolver(beans));
         }
@@ -93,14 +140,7 @@ public class DefaultExpressionManager implements ExpressionManager {
         if (beanElResolver != null) {
             elResolvers.add(beanElResolver);
         }
-        
-        configureResolvers(elResolvers);
-        
-        CompositeELResolver compositeELResolver = new CompositeELResolver();
-        for (ELResolver elResolver : elResolvers) {
-            compositeELResolver.add(elResolver);
-        }
-        return compositeELResolver;
+        return elResolvers;
     }
     
     protected void configureResolvers(List<ELResolver> elResolvers) {
@@ -123,6 +163,15 @@ public class DefaultExpressionManager implements ExpressionManager {
     @Override
     public void setBeans(Map<Object, Object> beans) {
         this.beans = beans;
+        this.staticElResolvers = null;
+    }
+
+    public boolean isPrefetchExpressionVariables() {
+        return prefetchExpressionVariables;
+    }
+
+    public void setPrefetchExpressionVariables(boolean prefetchExpressionVariables) {
+        this.prefetchExpressionVariables = prefetchExpressionVariables;
     }
 
     @Override
@@ -106,4 +106,9 @@ public class DynamicBeanPropertyELResolver extends ELResolver {
             throw new ELException(e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean canResolveBaseClass(Class<?> baseClass) {
+        return subject.isAssignableFrom(baseClass);
+    }
+}
@@ -293,4 +293,9 @@ public class JsonNodeELResolver extends ELResolver {
     private final boolean isResolvable(Object base) {
         return base instanceof JsonNode;
     }
+
+    @Override
+    public boolean canResolveBaseClass(Class<?> baseClass) {
+        return JsonNode.class.isAssignableFrom(baseClass);
+    }
 }
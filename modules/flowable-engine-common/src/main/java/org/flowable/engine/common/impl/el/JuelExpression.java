@@ -13,6 +13,8 @@
 
 package org.flowable.engine.common.impl.el;
 
+import java.util.Collection;
+
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.delegate.Expression;
 import org.flowable.engine.common.api.variable.VariableContainer;
@@ -34,6 +36,7 @@ public class JuelExpression implements Expression {
     protected String expressionText;
     protected ValueExpression valueExpression;
     protected ExpressionManager expressionManager;
+    protected Collection<String> prefetchVariableNames;
 
     public JuelExpression(ExpressionManager expressionManager, ValueExpression valueExpression, String expressionText) {
         this.valueExpression = valueExpression;
@@ -44,6 +47,7 @@ public class JuelExpression implements Expression {
     @Override
     public Object getValue(VariableContainer variableContainer) {
         ELContext elContext = expressionManager.getElContext(variableContainer);
+        prefetchVariables(variableContainer, elContext);
         try {
             return resolveGetValueExpression(elContext);
         } catch (PropertyNotFoundException pnfe) {
@@ -55,6 +59,15 @@ public class JuelExpression implements Expression {
         }
     }
 
+    protected void prefetchVariables(VariableContainer variableContainer, ELContext elContext) {
+        if (prefetchVariableNames != null && variableContainer instanceof PrefetchingVariableContainer) {
+            if (!prefetchVariableNames.isEmpty()) {
+                ((PrefetchingVariableContainer) variableContainer).prefetchVariables(prefetchVariableNames);
+            }
+            elContext.putContext(PrefetchingVariableContainer.class, variableContainer);
+        }
+    }
+
     protected Object resolveGetValueExpression(ELContext elContext) {
         return valueExpression.getValue(elContext);
     }
@@ -86,4 +99,16 @@ public class JuelExpression implements Expression {
         return expressionText;
     }
 
+    public Collection<String> getPrefetchVariableNames() {
+        return prefetchVariableNames;
+    }
+
+    /**
+     * Sets the names of the variables to fetch up front when the expression is evaluated, instead of fetching all variables.
+     * Null disables prefetching for this expression.
+     */
+    public void setPrefetchVariableNames(Collection<String> prefetchVariableNames) {
+        this.prefetchVariableNames = prefetchVariableNames;
+    }
+
 }
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.el;
+
+import java.util.Collection;
+
+import org.flowable.engine.common.api.variable.VariableContainer;
+
+/**
+ * {@link VariableContainer} that is able to fetch a given set of variables up front, without fetching all of its variables.
+ * <p>
+ * When expression variable prefetching is enabled on the {@link DefaultExpressionManager}, the identifiers of an expression are prefetched
+ * before it is evaluated, after which the variables are resolved with fetchAllVariables set to false.
+ */
+public interface PrefetchingVariableContainer extends VariableContainer {
+
+    /**
+     * Fetches the variables with the given names that aren't known yet, with as few queries as possible. Names for which no variable exists are
+     * remembered as well, so looking them up afterwards doesn't need a query either.
+     */
+    void prefetchVariables(Collection<String> variableNames);
+
+    boolean hasVariable(String variableName, boolean fetchAllVariables);
+
+    Object getVariable(String variableName, boolean fetchAllVariables);
+
+}
@@ -34,6 +34,17 @@ public class VariableContainerELResolver extends ELResolver {
     public Object getValue(ELContext context, Object base, Object property) {
         if (base == null) {
             String variable = (String) property; // according to javadoc, can only be a String
+
+            // the identifiers of the expression were prefetched, so there is no need to fetch all variables
+            if (context.getContext(PrefetchingVariableContainer.class) == variableContainer) {
+                PrefetchingVariableContainer prefetchingVariableContainer = (PrefetchingVariableContainer) variableContainer;
+                if (prefetchingVariableContainer.hasVariable(variable, false)) {
+                    context.setPropertyResolved(true);
+                    return prefetchingVariableContainer.getVariable(variable, false);
+                }
+                return null;
+            }
+
             if (variableContainer.hasVariable(variable)) {
                 context.setPropertyResolved(true); // if not set, the next elResolver in the CompositeElResolver will be called
                 return variableContainer.getVariable(variable);
@@ -76,4 +87,10 @@ public class VariableContainerELResolver extends ELResolver {
         return Object.class;
     }
 
+    @Override
+    public boolean canResolveBaseClass(Class<?> baseClass) {
+        // only top-level identifiers are resolved
+        return false;
+    }
+
 }
\ No newline at end of file
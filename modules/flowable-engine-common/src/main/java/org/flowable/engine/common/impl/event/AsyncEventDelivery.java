@@ -0,0 +1,359 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.common.api.delegate.event.FlowableAsyncEventListener;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandContextCloseListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers the events for {@link FlowableAsyncEventListener}s on a pool of threads, once the transaction in which they were dispatched has
+ * committed.
+ * <p>
+ * The events of one transaction are handed to the pool as a single task, so they are delivered in the order in which they were dispatched.
+ * When the queue of the pool is full, the committing thread delivers the events itself, which slows the engine down to the pace of the
+ * listeners. Alternatively, the events can be dropped in that case by setting {@link #setDropEventsWhenFull(boolean)}. The counters exposed by
+ * this class tell how many events are waiting, have been dropped and how far the delivery lags behind the commits.
+ * <p>
+ * Note that asynchronously delivered events are handled without a command context.
+ */
+public class AsyncEventDelivery {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventDelivery.class);
+
+    protected static final AtomicInteger INSTANCE_COUNTER = new AtomicInteger();
+
+    // Unique per instance, as the command context can be shared by several engines
+    protected final String pendingEventsAttribute = AsyncEventDelivery.class.getName() + ".pendingEvents." + INSTANCE_COUNTER.incrementAndGet();
+
+    protected int poolSize = 2;
+    protected int queueSize = 1000;
+    protected long secondsToWaitOnShutdown = 60L;
+    protected boolean dropEventsWhenFull;
+
+    protected ThreadPoolExecutor executorService;
+
+    protected final AtomicLong queuedEventCount = new AtomicLong();
+    protected final AtomicLong deliveredEventCount = new AtomicLong();
+    protected final AtomicLong callerDeliveredEventCount = new AtomicLong();
+    protected final AtomicLong droppedEventCount = new AtomicLong();
+    protected final AtomicLong failedEventCount = new AtomicLong();
+    protected final AtomicLong lastDeliveryLag = new AtomicLong();
+    protected final AtomicLong maxDeliveryLag = new AtomicLong();
+
+    public synchronized void start() {
+        if (executorService == null) {
+            LOGGER.info("Starting asynchronous event delivery with pool size {} and queue size {}", poolSize, queueSize);
+            ThreadFactory threadFactory = new ThreadFactory() {
+
+                protected final AtomicInteger threadCounter = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "flowable-async-event-delivery-thread-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            };
+            executorService = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(queueSize), threadFactory);
+        }
+    }
+
+    public synchronized void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+            try {
+                if (!executorService.awaitTermination(secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+                    LOGGER.warn("Timeout during shutdown of asynchronous event delivery. {} events could not be delivered within {} seconds.",
+                            queuedEventCount.get(), secondsToWaitOnShutdown);
+                }
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while shutting down asynchronous event delivery", e);
+            }
+            executorService = null;
+        }
+    }
+
+    public boolean isActive() {
+        return executorService != null;
+    }
+
+    /**
+     * Prepares the given command context for collecting the events dispatched in it. This needs to happen before the command context starts
+     * closing, as the events dispatched by its close listeners can only be collected when the listener that submits them is already registered.
+     */
+    public void registerCommandContext(CommandContext commandContext) {
+        if (commandContext.getAttribute(pendingEventsAttribute) == null) {
+            createPendingEvents(commandContext);
+        }
+    }
+
+    /**
+     * Delivers the event to the listener once the current transaction has committed. When no transaction context is active, the events are
+     * delivered when the command context has been closed successfully, provided the command context was registered with
+     * {@link #registerCommandContext(CommandContext)}. Otherwise, or outside of a command context, the event is handed to the pool immediately.
+     */
+    public void schedule(FlowableEvent event, FlowableEventListener listener) {
+        PendingEvents pendingEvents = null;
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            pendingEvents = (PendingEvents) commandContext.getAttribute(pendingEventsAttribute);
+
+            // While a transaction context is active the command context isn't closing yet, so no close listeners are being executed
+            if (pendingEvents == null && Context.getTransactionContext() != null) {
+                pendingEvents = createPendingEvents(commandContext);
+            }
+        }
+
+        if (pendingEvents == null || pendingEvents.isSubmitted()) {
+            // Outside of a registered command context or dispatched after the commit: there's nothing to wait for
+            PendingEvents singleEvent = new PendingEvents();
+            singleEvent.add(event, listener);
+            submit(singleEvent);
+        } else {
+            pendingEvents.add(event, listener);
+        }
+    }
+
+    protected PendingEvents createPendingEvents(CommandContext commandContext) {
+        PendingEvents pendingEvents = new PendingEvents();
+        commandContext.addAttribute(pendingEventsAttribute, pendingEvents);
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, pendingEvents);
+        } else {
+            commandContext.addCloseListener(pendingEvents);
+        }
+        return pendingEvents;
+    }
+
+    protected void submit(PendingEvents pendingEvents) {
+        pendingEvents.markSubmitted();
+        int eventCount = pendingEvents.size();
+
+        ThreadPoolExecutor executor = executorService;
+        if (executor != null) {
+            queuedEventCount.addAndGet(eventCount);
+            try {
+                executor.execute(pendingEvents);
+                return;
+            } catch (RejectedExecutionException e) {
+                queuedEventCount.addAndGet(-eventCount);
+            }
+
+            if (dropEventsWhenFull) {
+                droppedEventCount.addAndGet(eventCount);
+                LOGGER.debug("Asynchronous event delivery queue is full, dropped {} events", eventCount);
+                return;
+            }
+        }
+
+        // The queue is full or the delivery isn't started: the committing thread delivers the events itself
+        callerDeliveredEventCount.addAndGet(eventCount);
+        deliverEvents(pendingEvents);
+    }
+
+    protected void deliverEvents(PendingEvents pendingEvents) {
+        long lag = System.currentTimeMillis() - pendingEvents.getSubmitTime();
+        lastDeliveryLag.set(lag);
+        long maxLag = maxDeliveryLag.get();
+        while (lag > maxLag && !maxDeliveryLag.compareAndSet(maxLag, lag)) {
+            maxLag = maxDeliveryLag.get();
+        }
+
+        for (int i = 0; i < pendingEvents.size(); i++) {
+            try {
+                pendingEvents.getListener(i).onEvent(pendingEvents.getEvent(i));
+                deliveredEventCount.incrementAndGet();
+            } catch (Throwable t) {
+                // The transaction has been committed already, so there is nothing to fail anymore
+                failedEventCount.incrementAndGet();
+                LOGGER.warn("Exception while executing asynchronous event-listener, which was ignored", t);
+            }
+        }
+    }
+
+    /**
+     * The events dispatched within one transaction, submitted to the pool when the transaction has committed or, without a transaction context,
+     * when the command context has been closed.
+     */
+    protected class PendingEvents implements TransactionListener, CommandContextCloseListener, Runnable {
+
+        protected List<FlowableEvent> events = new ArrayList<>(4);
+        protected List<FlowableEventListener> listeners = new ArrayList<>(4);
+        protected volatile long submitTime = -1L;
+
+        public void add(FlowableEvent event, FlowableEventListener listener) {
+            events.add(event);
+            listeners.add(listener);
+        }
+
+        public int size() {
+            return events.size();
+        }
+
+        public FlowableEvent getEvent(int index) {
+            return events.get(index);
+        }
+
+        public FlowableEventListener getListener(int index) {
+            return listeners.get(index);
+        }
+
+        public boolean isSubmitted() {
+            return submitTime >= 0L;
+        }
+
+        public void markSubmitted() {
+            submitTime = System.currentTimeMillis();
+        }
+
+        public long getSubmitTime() {
+            return submitTime;
+        }
+
+        @Override
+        public void execute(CommandContext commandContext) {
+            submit(this);
+        }
+
+        @Override
+        public void closing(CommandContext commandContext) {
+
+        }
+
+        @Override
+        public void afterSessionsFlush(CommandContext commandContext) {
+
+        }
+
+        @Override
+        public void closed(CommandContext commandContext) {
+            if (!isSubmitted()) {
+                submit(this);
+            }
+        }
+
+        @Override
+        public void closeFailure(CommandContext commandContext) {
+
+        }
+
+        @Override
+        public void run() {
+            queuedEventCount.addAndGet(-size());
+            deliverEvents(this);
+        }
+
+    }
+
+    // getters and setters ////////////////////////////////////////////////////////
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public long getSecondsToWaitOnShutdown() {
+        return secondsToWaitOnShutdown;
+    }
+
+    public void setSecondsToWaitOnShutdown(long secondsToWaitOnShutdown) {
+        this.secondsToWaitOnShutdown = secondsToWaitOnShutdown;
+    }
+
+    public boolean isDropEventsWhenFull() {
+        return dropEventsWhenFull;
+    }
+
+    public void setDropEventsWhenFull(boolean dropEventsWhenFull) {
+        this.dropEventsWhenFull = dropEventsWhenFull;
+    }
+
+    /**
+     * @return the number of transactions of which the events are waiting in the queue, or 0 when the delivery isn't started
+     */
+    public int getQueuedTransactionCount() {
+        ThreadPoolExecutor executor = executorService;
+        return executor != null ? executor.getQueue().size() : 0;
+    }
+
+    /**
+     * @return the number of events handed to the pool that haven't been delivered yet
+     */
+    public long getQueuedEventCount() {
+        return queuedEventCount.get();
+    }
+
+    public long getDeliveredEventCount() {
+        return deliveredEventCount.get();
+    }
+
+    /**
+     * @return the number of events that were delivered by the committing thread because the queue was full
+     */
+    public long getCallerDeliveredEventCount() {
+        return callerDeliveredEventCount.get();
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEventCount.get();
+    }
+
+    public long getFailedEventCount() {
+        return failedEventCount.get();
+    }
+
+    /**
+     * @return the time in milliseconds between the commit and the start of the delivery, for the most recently delivered transaction
+     */
+    public long getLastDeliveryLag() {
+        return lastDeliveryLag.get();
+    }
+
+    public long getMaxDeliveryLag() {
+        return maxDeliveryLag.get();
+    }
+
+}
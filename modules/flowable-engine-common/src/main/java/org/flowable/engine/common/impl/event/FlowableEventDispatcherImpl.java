@@ -76,6 +76,18 @@ public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
         }
     }
 
+    public AsyncEventDelivery getAsyncEventDelivery() {
+        return eventSupport.getAsyncEventDelivery();
+    }
+
+    /**
+     * Enables asynchronous delivery of the events for {@link org.flowable.engine.common.api.delegate.event.FlowableAsyncEventListener}s,
+     * after the transaction has committed. Starting and shutting down the given delivery is up to the caller.
+     */
+    public void setAsyncEventDelivery(AsyncEventDelivery asyncEventDelivery) {
+        eventSupport.setAsyncEventDelivery(asyncEventDelivery);
+    }
+
     public FlowableEventSupport getEventSupport() {
         return eventSupport;
     }
@@ -19,6 +19,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.delegate.event.FlowableAsyncEventListener;
 import org.flowable.engine.common.api.delegate.event.FlowableEvent;
 import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.common.api.delegate.event.FlowableEventType;
@@ -36,6 +37,7 @@ public class FlowableEventSupport {
 
     protected List<FlowableEventListener> eventListeners;
     protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
+    protected AsyncEventDelivery asyncEventDelivery;
 
     public FlowableEventSupport() {
         eventListeners = new CopyOnWriteArrayList<>();
@@ -100,6 +102,11 @@ public class FlowableEventSupport {
     }
 
     protected void dispatchEvent(FlowableEvent event, FlowableEventListener listener) {
+        if (asyncEventDelivery != null && listener instanceof FlowableAsyncEventListener) {
+            asyncEventDelivery.schedule(event, listener);
+            return;
+        }
+
         try {
             listener.onEvent(event);
         } catch (Throwable t) {
@@ -125,4 +132,12 @@ public class FlowableEventSupport {
             listeners.add(listener);
         }
     }
+
+    public AsyncEventDelivery getAsyncEventDelivery() {
+        return asyncEventDelivery;
+    }
+
+    public void setAsyncEventDelivery(AsyncEventDelivery asyncEventDelivery) {
+        this.asyncEventDelivery = asyncEventDelivery;
+    }
 }
@@ -269,6 +269,11 @@ public class ArrayELResolver extends ELResolver {
 		return base != null && base.getClass().isArray();
 	}
 
+	@Override
+	public boolean canResolveBaseClass(Class<?> baseClass) {
+		return baseClass.isArray();
+	}
+
 	/**
 	 * Convert the given property to an index in (array) base.
 	 * 
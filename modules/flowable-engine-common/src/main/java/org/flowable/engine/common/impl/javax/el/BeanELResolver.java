@@ -632,19 +632,41 @@ public class BeanELResolver extends ELResolver {
 	 *             if no BeanProperty can be found.
 	 */
 	private final BeanProperty toBeanProperty(Object base, Object property) {
-		BeanProperties beanProperties = cache.get(base.getClass());
+		BeanProperty beanProperty = property == null ? null : getBeanProperties(base.getClass()).getBeanProperty(property.toString());
+		if (beanProperty == null) {
+			throw new PropertyNotFoundException("Could not find property " + property + " in " + base.getClass());
+		}
+		return beanProperty;
+	}
+
+	private final BeanProperties getBeanProperties(Class<?> baseClass) {
+		BeanProperties beanProperties = cache.get(baseClass);
 		if (beanProperties == null) {
-			BeanProperties newBeanProperties = new BeanProperties(base.getClass());
-			beanProperties = cache.putIfAbsent(base.getClass(), newBeanProperties);
+			BeanProperties newBeanProperties = new BeanProperties(baseClass);
+			beanProperties = cache.putIfAbsent(baseClass, newBeanProperties);
 			if (beanProperties == null) { // put succeeded, use new value
 				beanProperties = newBeanProperties;
 			}
 		}
-		BeanProperty beanProperty = property == null ? null : beanProperties.getBeanProperty(property.toString());
-		if (beanProperty == null) {
-			throw new PropertyNotFoundException("Could not find property " + property + " in " + base.getClass());
-		}
-		return beanProperty;
+		return beanProperties;
+	}
+
+	/**
+	 * Returns the method that {@link #getValue(ELContext, Object, Object)} invokes to read the
+	 * given property of beans of the given class, or <code>null</code> if the property doesn't
+	 * exist or isn't readable.
+	 * 
+	 * This method is not part of the API. It is used by the inline caches of property accesses.
+	 * 
+	 * @param baseClass
+	 *            The class of the beans.
+	 * @param property
+	 *            The name of the property.
+	 * @return The read method, or <code>null</code>.
+	 */
+	public Method getReadMethod(Class<?> baseClass, String property) {
+		BeanProperty beanProperty = property == null ? null : getBeanProperties(baseClass).getBeanProperty(property);
+		return beanProperty == null ? null : beanProperty.getReadMethod();
 	}
 
 	/**
@@ -404,4 +404,39 @@ public class CompositeELResolver extends ELResolver {
 		}
 		return null;
 	}
+
+	@Override
+	public boolean canResolveBaseClass(Class<?> baseClass) {
+		for (int i = 0, l = resolvers.size(); i < l; i++) {
+			if (resolvers.get(i).canResolveBaseClass(baseClass)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the {@link BeanELResolver} that resolves the properties of all bases of the given
+	 * class, or <code>null</code> if another component resolver may resolve them first.
+	 * 
+	 * This method is not part of the API. It is used by the inline caches of property accesses,
+	 * which invoke the read method of a bean property directly when this method returns a
+	 * resolver.
+	 * 
+	 * @param baseClass
+	 *            The class of the base object.
+	 * @return The bean resolver, or <code>null</code>.
+	 */
+	public BeanELResolver getBeanELResolver(Class<?> baseClass) {
+		for (int i = 0, l = resolvers.size(); i < l; i++) {
+			ELResolver resolver = resolvers.get(i);
+			if (resolver.getClass() == BeanELResolver.class) {
+				return (BeanELResolver) resolver;
+			}
+			if (resolver.canResolveBaseClass(baseClass)) {
+				return null;
+			}
+		}
+		return null;
+	}
 }
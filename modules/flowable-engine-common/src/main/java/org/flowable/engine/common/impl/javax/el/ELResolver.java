@@ -290,4 +290,23 @@ public abstract class ELResolver {
 	public Object invoke(ELContext context, Object base, Object method, Class<?>[] paramTypes, Object[] params) {
 		return null;
 	}
+
+	/**
+	 * Returns whether this resolver may resolve properties of a non-null base of the given class.
+	 * 
+	 * <p>
+	 * This method is not part of the API. It is used by the inline caches of property accesses,
+	 * which only bypass a resolver chain when none of the resolvers before the
+	 * {@link BeanELResolver} can resolve the base. The default implementation returns
+	 * <code>true</code>, so that resolvers which don't override this method disable these caches.
+	 * </p>
+	 * 
+	 * @param baseClass
+	 *            The class of the base object.
+	 * @return <code>false</code> if this resolver never resolves properties of bases of the given
+	 *         class, <code>true</code> otherwise.
+	 */
+	public boolean canResolveBaseClass(Class<?> baseClass) {
+		return true;
+	}
 }
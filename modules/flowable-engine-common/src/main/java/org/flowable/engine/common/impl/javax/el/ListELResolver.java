@@ -283,6 +283,11 @@ public class ListELResolver extends ELResolver {
 		return base instanceof List<?>;
 	}
 
+	@Override
+	public boolean canResolveBaseClass(Class<?> baseClass) {
+		return List.class.isAssignableFrom(baseClass);
+	}
+
 	/**
 	 * Convert the given property to an index in (list) base.
 	 * 
@@ -303,4 +303,9 @@ public class MapELResolver extends ELResolver {
 	private final boolean isResolvable(Object base) {
 		return base instanceof Map<?,?>;
 	}
+
+	@Override
+	public boolean canResolveBaseClass(Class<?> baseClass) {
+		return Map.class.isAssignableFrom(baseClass);
+	}
 }
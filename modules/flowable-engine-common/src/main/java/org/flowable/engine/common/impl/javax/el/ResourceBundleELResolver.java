@@ -238,4 +238,9 @@ public class ResourceBundleELResolver extends ELResolver {
 	private final boolean isResolvable(Object base) {
 		return base instanceof ResourceBundle;
 	}
+
+	@Override
+	public boolean canResolveBaseClass(Class<?> baseClass) {
+		return ResourceBundle.class.isAssignableFrom(baseClass);
+	}
 }
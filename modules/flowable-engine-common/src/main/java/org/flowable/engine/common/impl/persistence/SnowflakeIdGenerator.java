@@ -0,0 +1,117 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence;
+
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.security.SecureRandom;
+import java.util.Enumeration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.cfg.IdGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link IdGenerator} that generates time-ordered ids without any database roundtrip or lock.
+ *
+ * An id is a 63 bit number composed of the milliseconds since {@link #EPOCH} (41 bits), the node id (10 bits) and a sequence number within the millisecond (12 bits).
+ * The ids are returned as zero-padded 19 digit strings, so that the string order (as used by the ID_ columns) is the same as the generation order.
+ *
+ * Every engine node writing to the same database must use a different node id (0 - 1023).
+ * When no node id is set, it is derived from a network interface hardware address, which is not guaranteed to be unique within a cluster.
+ *
+ * When more than 4096 ids are requested within one millisecond, or when the system clock moves backwards,
+ * the generator continues with the next logical millisecond instead of waiting, which keeps the ids unique and ordered.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnowflakeIdGenerator.class);
+
+    /** 2017-01-01T00:00:00Z */
+    public static final long EPOCH = 1483228800000L;
+
+    public static final int NODE_ID_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+    protected static final String ZEROS = "0000000000000000000";
+
+    protected final long nodeId;
+
+    /** The last used (timestamp << SEQUENCE_BITS | sequence) */
+    protected final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    public SnowflakeIdGenerator() {
+        this(determineDefaultNodeId());
+    }
+
+    public SnowflakeIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new FlowableIllegalArgumentException("node id must be between 0 and " + MAX_NODE_ID + ", but was " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    protected static int determineDefaultNodeId() {
+        try {
+            Enumeration<NetworkInterface> networkInterfaces = NetworkInterface.getNetworkInterfaces();
+            while (networkInterfaces != null && networkInterfaces.hasMoreElements()) {
+                byte[] address = networkInterfaces.nextElement().getHardwareAddress();
+                if (address != null && address.length >= 2) {
+                    return ((address[address.length - 2] & 0xFF) << 8 | (address[address.length - 1] & 0xFF)) & MAX_NODE_ID;
+                }
+            }
+        } catch (SocketException e) {
+            LOGGER.warn("Could not determine the hardware address to derive a node id from, using a random node id", e);
+        }
+        return new SecureRandom().nextInt(MAX_NODE_ID + 1);
+    }
+
+    @Override
+    public String getNextId() {
+        long id = nextId();
+        String idString = Long.toString(id);
+        return ZEROS.substring(idString.length()) + idString;
+    }
+
+    protected long nextId() {
+        long timestamp = currentTimeMillis() - EPOCH;
+        while (true) {
+            long last = lastTimestampAndSequence.get();
+            long next;
+            if (timestamp > (last >>> SEQUENCE_BITS)) {
+                next = timestamp << SEQUENCE_BITS;
+            } else {
+                // Same millisecond, clock moved backwards or sequence exhausted: an overflow of the sequence moves to the next millisecond
+                next = last + 1;
+            }
+
+            if (lastTimestampAndSequence.compareAndSet(last, next)) {
+                long nextTimestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+                return (nextTimestamp << (NODE_ID_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+}
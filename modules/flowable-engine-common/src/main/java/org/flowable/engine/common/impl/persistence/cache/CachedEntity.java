@@ -14,6 +14,7 @@ package org.flowable.engine.common.impl.persistence.cache;
 
 import java.util.HashMap;
 
+import org.flowable.engine.common.impl.persistence.entity.ChangeTrackingEntity;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 
 /**
@@ -32,9 +33,17 @@ public class CachedEntity {
      */
     protected Object originalPersistentState;
 
+    /**
+     * True if the entity records its own changes (see {@link ChangeTrackingEntity}), in which case no original persistent state is stored.
+     */
+    protected boolean changeTracked;
+
     public CachedEntity(Entity entity, boolean storeState) {
         this.entity = entity;
-        if (storeState) {
+        this.changeTracked = storeState && entity instanceof ChangeTrackingEntity && ((ChangeTrackingEntity) entity).isChangeTracking();
+        if (changeTracked) {
+            // The entity records its own changes, no need to keep a copy of the persistent state
+        } else if (storeState) {
             this.originalPersistentState = entity.getPersistentState();
             entity.setOriginalPersistentState(originalPersistentState);
         } else if (entity.getOriginalPersistentState() == null){
@@ -59,7 +68,14 @@ public class CachedEntity {
     }
 
     public boolean hasChanged() {
+        if (changeTracked) {
+            return ((ChangeTrackingEntity) entity).hasTrackedChanges();
+        }
         return entity.getPersistentState() != null && !entity.getPersistentState().equals(originalPersistentState);
     }
 
+    public boolean isChangeTracked() {
+        return changeTracked;
+    }
+
 }
\ No newline at end of file
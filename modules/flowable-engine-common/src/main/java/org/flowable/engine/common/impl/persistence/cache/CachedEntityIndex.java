@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.cache;
+
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * A secondary index on the {@link Entity} instances of one type in the {@link EntityCache}, which maps the value of a property to the entities having that value.
+ *
+ * Implementations are used as key by the {@link EntityCache} and should be shared (stateless) instances.
+ * When the indexed property of an entity that is already cached changes, {@link EntityCache#updateIndexes(Entity)} must be called.
+ */
+public interface CachedEntityIndex<EntityImpl extends Entity> {
+
+    /**
+     * Returns the value of the indexed property for the given entity (can be null).
+     */
+    String getIndexValue(EntityImpl entity);
+
+}
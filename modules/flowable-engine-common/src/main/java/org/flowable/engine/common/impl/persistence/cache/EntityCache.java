@@ -59,6 +59,18 @@ public interface EntityCache extends Session {
      */
     <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass);
 
+    /**
+     * Returns the {@link CachedEntity} instances of the given type for which the given {@link CachedEntityIndex} has the given value.
+     * The index is built on first use and is kept up to date when entities are added to or removed from the cache.
+     * Returns an empty collection if no such instances exist.
+     */
+    Collection<CachedEntity> findInCacheByIndex(Class<?> entityClass, CachedEntityIndex<?> index, String indexValue);
+
+    /**
+     * Updates the {@link CachedEntityIndex} entries of the given {@link Entity}. Needs to be called when an indexed property of an already cached {@link Entity} has changed.
+     */
+    void updateIndexes(Entity entity);
+
     /**
      * Removes the {@link Entity} of the given type with the given id from the cache.
      */
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +29,11 @@ public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
 
+    /**
+     * The secondary indexes, built on first use: { entityClass, { index, indexed entities } }
+     */
+    protected Map<Class<?>, Map<CachedEntityIndex<?>, IndexedEntities>> indexes = new HashMap<>();
+
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
@@ -37,6 +43,14 @@ public class EntityCacheImpl implements EntityCache {
         }
         CachedEntity cachedObject = new CachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
+
+        Map<CachedEntityIndex<?>, IndexedEntities> classIndexes = indexes.get(entity.getClass());
+        if (classIndexes != null) {
+            for (Map.Entry<CachedEntityIndex<?>, IndexedEntities> indexEntry : classIndexes.entrySet()) {
+                indexEntry.getValue().add(cachedObject, getIndexValue(indexEntry.getKey(), entity));
+            }
+        }
+
         return cachedObject;
     }
 
@@ -77,6 +91,60 @@ public class EntityCacheImpl implements EntityCache {
             return;
         }
         classCache.remove(entityId);
+
+        Map<CachedEntityIndex<?>, IndexedEntities> classIndexes = indexes.get(entityClass);
+        if (classIndexes != null) {
+            for (IndexedEntities indexedEntities : classIndexes.values()) {
+                indexedEntities.remove(entityId);
+            }
+        }
+    }
+
+    @Override
+    public Collection<CachedEntity> findInCacheByIndex(Class<?> entityClass, CachedEntityIndex<?> index, String indexValue) {
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null) {
+            return Collections.emptyList();
+        }
+
+        Map<CachedEntityIndex<?>, IndexedEntities> classIndexes = indexes.get(entityClass);
+        if (classIndexes == null) {
+            classIndexes = new HashMap<>();
+            indexes.put(entityClass, classIndexes);
+        }
+
+        IndexedEntities indexedEntities = classIndexes.get(index);
+        if (indexedEntities == null) {
+            indexedEntities = new IndexedEntities();
+            for (CachedEntity cachedObject : classCache.values()) {
+                indexedEntities.add(cachedObject, getIndexValue(index, cachedObject.getEntity()));
+            }
+            classIndexes.put(index, indexedEntities);
+        }
+
+        return indexedEntities.get(indexValue);
+    }
+
+    @Override
+    public void updateIndexes(Entity entity) {
+        Map<CachedEntityIndex<?>, IndexedEntities> classIndexes = indexes.get(entity.getClass());
+        if (classIndexes == null) {
+            return;
+        }
+
+        CachedEntity cachedObject = cachedObjects.get(entity.getClass()).get(entity.getId());
+        if (cachedObject == null || cachedObject.getEntity() != entity) {
+            return; // Only the cached instance is indexed
+        }
+
+        for (Map.Entry<CachedEntityIndex<?>, IndexedEntities> indexEntry : classIndexes.entrySet()) {
+            indexEntry.getValue().add(cachedObject, getIndexValue(indexEntry.getKey(), entity));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected String getIndexValue(CachedEntityIndex<?> index, Entity entity) {
+        return ((CachedEntityIndex<Entity>) index).getIndexValue(entity);
     }
 
     @Override
@@ -122,4 +190,55 @@ public class EntityCacheImpl implements EntityCache {
     public void flush() {
 
     }
+
+    /**
+     * The entities of one {@link CachedEntityIndex}, grouped by index value.
+     */
+    protected static class IndexedEntities {
+
+        protected Map<String, Map<String, CachedEntity>> entitiesByIndexValue = new HashMap<>();
+        protected Map<String, String> indexValuesByEntityId = new HashMap<>();
+
+        public void add(CachedEntity cachedObject, String indexValue) {
+            String entityId = cachedObject.getEntity().getId();
+            if (indexValuesByEntityId.containsKey(entityId)) {
+                String currentIndexValue = indexValuesByEntityId.get(entityId);
+                if (currentIndexValue == null ? indexValue == null : currentIndexValue.equals(indexValue)) {
+                    entitiesByIndexValue.get(indexValue).put(entityId, cachedObject);
+                    return;
+                }
+                remove(entityId);
+            }
+
+            Map<String, CachedEntity> entities = entitiesByIndexValue.get(indexValue);
+            if (entities == null) {
+                entities = new LinkedHashMap<>();
+                entitiesByIndexValue.put(indexValue, entities);
+            }
+            entities.put(entityId, cachedObject);
+            indexValuesByEntityId.put(entityId, indexValue);
+        }
+
+        public void remove(String entityId) {
+            if (!indexValuesByEntityId.containsKey(entityId)) {
+                return;
+            }
+            String indexValue = indexValuesByEntityId.remove(entityId);
+            Map<String, CachedEntity> entities = entitiesByIndexValue.get(indexValue);
+            entities.remove(entityId);
+            if (entities.isEmpty()) {
+                entitiesByIndexValue.remove(indexValue);
+            }
+        }
+
+        public Collection<CachedEntity> get(String indexValue) {
+            Map<String, CachedEntity> entities = entitiesByIndexValue.get(indexValue);
+            if (entities != null) {
+                return new ArrayList<>(entities.values()); // copy, as the index can change while the result is being processed
+            }
+            return Collections.emptyList();
+        }
+
+    }
+
 }
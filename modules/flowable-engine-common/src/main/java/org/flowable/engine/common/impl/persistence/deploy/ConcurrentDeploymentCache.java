@@ -0,0 +1,234 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache that does not lock on reads, which can be bounded by the number of entries and/or by the total estimated weight of the entries.
+ * <p>
+ * When a bound is exceeded after adding an entry, the least recently used entries are evicted. The recency of an entry is tracked with
+ * a timestamp that is updated on every read, so eviction is an approximation of LRU when reads happen concurrently with the eviction.
+ * An entry that was just added is never evicted by its own addition, so an entry heavier than the maximum weight is still cached.
+ * <p>
+ * The number of hits, misses, evictions and the time spent loading entries into the cache (see {@link #recordLoadTime(long)}) are counted.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected ConcurrentMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+
+    protected int limit;
+    protected long maxWeight;
+    protected DeploymentCacheWeigher<T> weigher;
+
+    protected AtomicLong weight = new AtomicLong();
+    protected Object evictionLock = new Object();
+
+    protected AtomicLong hitCount = new AtomicLong();
+    protected AtomicLong missCount = new AtomicLong();
+    protected AtomicLong evictionCount = new AtomicLong();
+    protected AtomicLong loadCount = new AtomicLong();
+    protected AtomicLong totalLoadTime = new AtomicLong();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(-1);
+    }
+
+    /**
+     * Cache which has a limit on the number of entries.
+     */
+    public ConcurrentDeploymentCache(int limit) {
+        this(limit, -1, null);
+    }
+
+    /**
+     * Cache which has a limit on the number of entries (ignored when not positive) and on the total weight of the entries, as estimated
+     * by the given weigher (ignored when not positive or when there is no weigher).
+     */
+    public ConcurrentDeploymentCache(int limit, long maxWeight, DeploymentCacheWeigher<T> weigher) {
+        this.limit = limit;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public T get(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+
+        hitCount.incrementAndGet();
+        if (isBounded()) {
+            entry.lastAccessTime = System.nanoTime();
+        }
+        return entry.value;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public void add(String id, T object) {
+        CacheEntry<T> entry = new CacheEntry<>(object, weigh(object), System.nanoTime());
+        CacheEntry<T> previousEntry = cache.put(id, entry);
+        weight.addAndGet(entry.weight);
+        if (previousEntry != null) {
+            weight.addAndGet(-previousEntry.weight);
+        }
+
+        if (isLimitExceeded()) {
+            evict(id);
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        CacheEntry<T> entry = cache.remove(id);
+        if (entry != null) {
+            weight.addAndGet(-entry.weight);
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (String id : new ArrayList<>(cache.keySet())) {
+            remove(id);
+        }
+    }
+
+    /**
+     * Records the time it took to load an entry that was missing from the cache, for example by redeploying the resources of a deployment.
+     */
+    public void recordLoadTime(long loadTimeInMillis) {
+        loadCount.incrementAndGet();
+        totalLoadTime.addAndGet(loadTimeInMillis);
+    }
+
+    protected boolean isBounded() {
+        return limit > 0 || (maxWeight > 0 && weigher != null);
+    }
+
+    protected boolean isLimitExceeded() {
+        return (limit > 0 && cache.size() > limit) || (maxWeight > 0 && weigher != null && weight.get() > maxWeight);
+    }
+
+    protected long weigh(T object) {
+        if (weigher == null) {
+            return 1L;
+        }
+        return weigher.weigh(object);
+    }
+
+    protected void evict(String addedId) {
+        synchronized (evictionLock) {
+            while (isLimitExceeded()) {
+                Map.Entry<String, CacheEntry<T>> leastRecentlyUsed = null;
+                for (Map.Entry<String, CacheEntry<T>> candidate : cache.entrySet()) {
+                    if (!candidate.getKey().equals(addedId)
+                            && (leastRecentlyUsed == null || candidate.getValue().lastAccessTime - leastRecentlyUsed.getValue().lastAccessTime < 0)) {
+                        leastRecentlyUsed = candidate;
+                    }
+                }
+
+                if (leastRecentlyUsed == null) {
+                    return; // only the added entry is left
+                }
+
+                if (cache.remove(leastRecentlyUsed.getKey(), leastRecentlyUsed.getValue())) {
+                    weight.addAndGet(-leastRecentlyUsed.getValue().weight);
+                    evictionCount.incrementAndGet();
+                    LOGGER.trace("Cache limit is reached, {} is evicted", leastRecentlyUsed.getKey());
+                }
+            }
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    public long getTotalLoadTime() {
+        return totalLoadTime.get();
+    }
+
+    public long getWeight() {
+        return weight.get();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public DeploymentCacheWeigher<T> getWeigher() {
+        return weigher;
+    }
+
+    public Collection<T> getAll() {
+        List<T> values = new ArrayList<>(cache.size());
+        for (CacheEntry<T> entry : cache.values()) {
+            values.add(entry.value);
+        }
+        return values;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final T value;
+        protected final long weight;
+        protected volatile long lastAccessTime;
+
+        public CacheEntry(T value, long weight, long lastAccessTime) {
+            this.value = value;
+            this.weight = weight;
+            this.lastAccessTime = lastAccessTime;
+        }
+
+    }
+
+}
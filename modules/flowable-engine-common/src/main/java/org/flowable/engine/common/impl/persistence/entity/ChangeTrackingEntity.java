@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.entity;
+
+/**
+ * An {@link Entity} that can record the changes to its persistent fields itself, when its setters are called.
+ *
+ * When change tracking is started for a loaded entity, the {@link org.flowable.engine.common.impl.persistence.cache.EntityCache}
+ * doesn't need to store a copy of the {@link #getPersistentState()} to determine at flush time if the entity was updated.
+ *
+ * @see org.flowable.engine.common.AbstractEngineConfiguration#setEntityChangeTrackingEnabled(boolean)
+ */
+public interface ChangeTrackingEntity extends Entity {
+
+    /**
+     * Starts recording the changes of the persistent fields. Changes done before this call are forgotten.
+     */
+    void startChangeTracking();
+
+    /**
+     * Returns true if {@link #startChangeTracking()} was called for this entity.
+     */
+    boolean isChangeTracking();
+
+    /**
+     * Returns true if a persistent field was changed since {@link #startChangeTracking()} was called.
+     */
+    boolean hasTrackedChanges();
+
+}
@@ -1049,6 +1049,24 @@ public interface RuntimeService {
      */
     void signalEventReceivedAsyncWithTenantId(String signalName, String tenantId);
 
+    /**
+     * Notifies the process engine that a signal event of name 'signalName' has been received, for signals with a large number of waiting executions.
+     * <p/>
+     * 
+     * Only a single job is created in the current transaction. That job pages through the waiting executions by subscription id and schedules an
+     * async job for every one of them, so the signal is delivered in parallel by the async executors. Executions that start waiting on the signal
+     * after this call are not signaled. The progress can be followed through the jobs with handler type 'signal-broadcast'.
+     * 
+     * @param signalName
+     *            the name of the signal event
+     */
+    void signalEventReceivedBroadcast(String signalName);
+
+    /**
+     * Similar to {@link #signalEventReceivedBroadcast(String)}, but within the context of one tenant.
+     */
+    void signalEventReceivedBroadcastWithTenantId(String signalName, String tenantId);
+
     /**
      * Notifies the process engine that a signal event of name 'signalName' has been received. This method delivers the signal to all executions waiting on the signal.
      * <p/>
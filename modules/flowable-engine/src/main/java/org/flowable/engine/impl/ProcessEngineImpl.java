@@ -90,6 +90,10 @@ public class ProcessEngineImpl implements ProcessEngine {
             processEngineConfiguration.getProcessEngineLifecycleListener().onProcessEngineBuilt(this);
         }
 
+        if (processEngineConfiguration.getAsyncEventDelivery() != null) {
+            processEngineConfiguration.getAsyncEventDelivery().start();
+        }
+
         processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createGlobalEvent(FlowableEngineEventType.ENGINE_CREATED));
 
         if (asyncExecutor != null && asyncExecutor.isAutoActivate()) {
@@ -98,6 +102,9 @@ public class ProcessEngineImpl implements ProcessEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isAutoActivate()) {
             asyncHistoryExecutor.start();
         }
+        if (processEngineConfiguration.isEnableDatabaseEventLogging() && processEngineConfiguration.getBufferedEventLogWriter() != null) {
+            processEngineConfiguration.getBufferedEventLogWriter().start();
+        }
     }
 
     @Override
@@ -109,6 +116,9 @@ public class ProcessEngineImpl implements ProcessEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isActive()) {
             asyncHistoryExecutor.shutdown();
         }
+        if (processEngineConfiguration.getBufferedEventLogWriter() != null) {
+            processEngineConfiguration.getBufferedEventLogWriter().shutdown();
+        }
 
         Runnable closeRunnable = processEngineConfiguration.getProcessEngineCloseRunnable();
         if (closeRunnable != null) {
@@ -120,6 +130,10 @@ public class ProcessEngineImpl implements ProcessEngine {
         }
 
         processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createGlobalEvent(FlowableEngineEventType.ENGINE_CLOSED));
+
+        if (processEngineConfiguration.getAsyncEventDelivery() != null) {
+            processEngineConfiguration.getAsyncEventDelivery().shutdown();
+        }
     }
 
     // getters and setters
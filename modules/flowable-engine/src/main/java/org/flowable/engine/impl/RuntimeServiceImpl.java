@@ -58,6 +58,7 @@ import org.flowable.engine.impl.cmd.RemoveExecutionVariablesCmd;
 import org.flowable.engine.impl.cmd.SetExecutionVariablesCmd;
 import org.flowable.engine.impl.cmd.SetProcessInstanceBusinessKeyCmd;
 import org.flowable.engine.impl.cmd.SetProcessInstanceNameCmd;
+import org.flowable.engine.impl.cmd.SignalEventBroadcastCmd;
 import org.flowable.engine.impl.cmd.SignalEventReceivedCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceByMessageCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceCmd;
@@ -539,6 +540,16 @@ public class RuntimeServiceImpl extends ServiceImpl implements RuntimeService {
         commandExecutor.execute(new SignalEventReceivedCmd(signalName, null, true, tenantId));
     }
 
+    @Override
+    public void signalEventReceivedBroadcast(String signalName) {
+        commandExecutor.execute(new SignalEventBroadcastCmd(signalName, null));
+    }
+
+    @Override
+    public void signalEventReceivedBroadcastWithTenantId(String signalName, String tenantId) {
+        commandExecutor.execute(new SignalEventBroadcastCmd(signalName, tenantId));
+    }
+
     @Override
     public void signalEventReceived(String signalName, Map<String, Object> processVariables) {
         commandExecutor.execute(new SignalEventReceivedCmd(signalName, null, processVariables, null));
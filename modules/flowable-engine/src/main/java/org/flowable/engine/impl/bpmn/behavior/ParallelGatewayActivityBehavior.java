@@ -15,13 +15,16 @@ package org.flowable.engine.impl.bpmn.behavior;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.FlowNode;
 import org.flowable.bpmn.model.ParallelGateway;
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
@@ -52,6 +55,8 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ParallelGatewayActivityBehavior.class);
 
+    protected static final String ATTRIBUTE_JOINED_EXECUTION_COUNTS = "ctx.attribute.parallelGatewayJoinedExecutionCounts";
+
     @Override
     public void execute(DelegateExecution execution) {
 
@@ -74,14 +79,35 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
             multiInstanceExecution = findMultiInstanceParentExecution(execution);
         }
 
-        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager();
-        Collection<ExecutionEntity> joinedExecutions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
-        if (multiInstanceExecution != null) {
-            joinedExecutions = cleanJoinedExecutions(joinedExecutions, multiInstanceExecution);
-        }
+        // The number of executions that already arrived in this command context is tracked, so the joined executions
+        // only need to be fetched on the first arrival and when the counter indicates the join is complete
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+        String joinKey = (multiInstanceExecution != null ? multiInstanceExecution.getId() : execution.getProcessInstanceId()) + "-" + execution.getCurrentActivityId();
+        Map<String, Integer> joinedExecutionCounts = getJoinedExecutionCounts(commandContext);
 
         int nbrOfExecutionsToJoin = parallelGateway.getIncomingFlows().size();
-        int nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
+        Collection<ExecutionEntity> joinedExecutions = null;
+        int nbrOfExecutionsCurrentlyJoined;
+        Integer previouslyJoinedExecutionCount = joinedExecutionCounts.get(joinKey);
+        if (previouslyJoinedExecutionCount != null) {
+            nbrOfExecutionsCurrentlyJoined = previouslyJoinedExecutionCount + 1;
+        } else {
+            joinedExecutions = findJoinedExecutions(executionEntityManager, execution, multiInstanceExecution);
+            nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
+        }
+
+        // The counter can be too high when joined executions were deleted in the meantime, so it's always verified before activating
+        if (joinedExecutions == null && nbrOfExecutionsCurrentlyJoined >= nbrOfExecutionsToJoin) {
+            joinedExecutions = findJoinedExecutions(executionEntityManager, execution, multiInstanceExecution);
+            nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
+        }
+
+        if (nbrOfExecutionsCurrentlyJoined == nbrOfExecutionsToJoin) {
+            joinedExecutionCounts.remove(joinKey);
+        } else {
+            joinedExecutionCounts.put(joinKey, nbrOfExecutionsCurrentlyJoined);
+        }
 
         // Fork
 
@@ -118,6 +144,24 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
 
     }
 
+    protected Collection<ExecutionEntity> findJoinedExecutions(ExecutionEntityManager executionEntityManager, DelegateExecution execution, DelegateExecution multiInstanceExecution) {
+        Collection<ExecutionEntity> joinedExecutions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
+        if (multiInstanceExecution != null) {
+            joinedExecutions = cleanJoinedExecutions(joinedExecutions, multiInstanceExecution);
+        }
+        return joinedExecutions;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Map<String, Integer> getJoinedExecutionCounts(CommandContext commandContext) {
+        Map<String, Integer> joinedExecutionCounts = (Map<String, Integer>) commandContext.getAttribute(ATTRIBUTE_JOINED_EXECUTION_COUNTS);
+        if (joinedExecutionCounts == null) {
+            joinedExecutionCounts = new HashMap<>();
+            commandContext.addAttribute(ATTRIBUTE_JOINED_EXECUTION_COUNTS, joinedExecutionCounts);
+        }
+        return joinedExecutionCounts;
+    }
+
     protected Collection<ExecutionEntity> cleanJoinedExecutions(Collection<ExecutionEntity> joinedExecutions, DelegateExecution multiInstanceExecution) {
         List<ExecutionEntity> cleanedExecutions = new ArrayList<>();
         for (ExecutionEntity executionEntity : joinedExecutions) {
@@ -31,9 +31,12 @@ import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.helper.ScopeUtil;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceJoinJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
 
 /**
  * @author Joram Barrez
@@ -43,6 +46,28 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Reserved name of the local variable marking a completed instance when the instances are joined by {@link ParallelMultiInstanceJoinJobHandler}
+     * jobs. The marker isn't recorded in the history. It's only visible in the runtime variables of the instance execution until the join job
+     * has counted it and the instance is removed when the multi instance activity is left.
+     */
+    public static final String COMPLETED_INSTANCE_MARKER = "__flowableMultiInstanceCompleted";
+
+    /**
+     * Extension element of the activity limiting the number of instances that exist at the same time. The next instances are only created
+     * when earlier ones complete.
+     */
+    public static final String ELEMENT_INSTANCE_WINDOW = "multiInstanceWindow";
+
+    /**
+     * Loop variable of the multi instance root execution holding the number of instances created so far. Only set when the instances are
+     * created in a window.
+     */
+    public static final String NUMBER_OF_CREATED_INSTANCES = "nrOfCreatedInstances";
+
+    protected int instanceWindow;
+    protected Boolean instanceWindowUsed;
+
     public ParallelMultiInstanceBehavior(Activity activity, AbstractBpmnActivityBehavior originalActivityBehavior) {
         super(activity, originalActivityBehavior);
     }
@@ -61,14 +86,15 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES, 0);
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfInstances);
 
-        List<ExecutionEntity> concurrentExecutions = new ArrayList<>();
-        for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
-            ExecutionEntity concurrentExecution = CommandContextUtil.getExecutionEntityManager()
-                    .createChildExecution((ExecutionEntity) multiInstanceRootExecution);
-            concurrentExecution.setCurrentFlowElement(activity);
-            concurrentExecution.setActive(true);
-            concurrentExecution.setScope(false);
+        int nrOfInstancesToCreate = nrOfInstances;
+        if (isInstanceWindowUsed()) {
+            nrOfInstancesToCreate = Math.min(instanceWindow, nrOfInstances);
+            setLoopVariable(multiInstanceRootExecution, NUMBER_OF_CREATED_INSTANCES, nrOfInstancesToCreate);
+        }
 
+        List<ExecutionEntity> concurrentExecutions = new ArrayList<>();
+        for (int loopCounter = 0; loopCounter < nrOfInstancesToCreate; loopCounter++) {
+            ExecutionEntity concurrentExecution = createConcurrentExecution(multiInstanceRootExecution);
             concurrentExecutions.add(concurrentExecution);
             logLoopDetails(concurrentExecution, "initialized", loopCounter, 0, nrOfInstances, nrOfInstances);
             
@@ -78,7 +104,7 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         // Before the activities are executed, all executions MUST be created up front
         // Do not try to merge this loop with the previous one, as it will lead
         // to bugs, due to possible child execution pruning.
-        for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
+        for (int loopCounter = 0; loopCounter < nrOfInstancesToCreate; loopCounter++) {
             ExecutionEntity concurrentExecution = concurrentExecutions.get(loopCounter);
             // executions can be inactive, if instances are all automatics
             // (no-waitstate) and completionCondition has been met in the meantime
@@ -100,6 +126,15 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         return nrOfInstances;
     }
 
+    protected ExecutionEntity createConcurrentExecution(DelegateExecution multiInstanceRootExecution) {
+        ExecutionEntity concurrentExecution = CommandContextUtil.getExecutionEntityManager()
+                .createChildExecution((ExecutionEntity) multiInstanceRootExecution);
+        concurrentExecution.setCurrentFlowElement(activity);
+        concurrentExecution.setActive(true);
+        concurrentExecution.setScope(false);
+        return concurrentExecution;
+    }
+
     /**
      * Called when the wrapped {@link ActivityBehavior} calls the {@link AbstractBpmnActivityBehavior#leave(DelegateExecution)} method. Handles the completion of one of the parallel instances
      */
@@ -126,6 +161,15 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         }
 
         DelegateExecution miRootExecution = getMultiInstanceRootExecution(execution);
+        if (miRootExecution != null && ((ExecutionEntity) execution).getParent() != null && isJoinedByJob()) {
+            // Only the instance itself is changed here, the counting and leaving is done by the join job
+            logLoopDetails(execution, "instance completed, scheduling join", loopCounter, nrOfCompletedInstances, nrOfActiveInstances, nrOfInstances);
+            execution.inactivate();
+            ((ExecutionEntity) execution).setInternalVariableLocal(COMPLETED_INSTANCE_MARKER, Boolean.TRUE);
+            scheduleJoinJob((ExecutionEntity) execution);
+            return;
+        }
+
         if (miRootExecution != null) { // will be null in case of empty collection
             setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
             setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
@@ -150,26 +194,10 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
                     leavingExecution = executionEntity;
                 }
 
-                Activity activity = (Activity) execution.getCurrentFlowElement();
-                verifyCompensation(execution, leavingExecution, activity);
-                verifyCallActivity(leavingExecution, activity);
-                
-                if (isCompletionConditionSatisfied) {
-                    LinkedList<DelegateExecution> toVerify = new LinkedList<>(miRootExecution.getExecutions());
-                    while (!toVerify.isEmpty()) {
-                        DelegateExecution childExecution = toVerify.pop();
-                        if (((ExecutionEntity) childExecution).isInserted()) {
-                            childExecution.inactivate();
-                        }
-                        
-                        List<DelegateExecution> childExecutions = (List<DelegateExecution>) childExecution.getExecutions();
-                        if (childExecutions != null && !childExecutions.isEmpty()) {
-                            toVerify.addAll(childExecutions);
-                        }
-                    }
-                }
-                
-                super.leave(leavingExecution);
+                leaveMultiInstance(execution, leavingExecution, miRootExecution, isCompletionConditionSatisfied);
+
+            } else if (isInstanceWindowUsed()) {
+                continueInstanceWindow(executionEntity, miRootExecution, nrOfInstances);
             }
 
         } else {
@@ -177,7 +205,126 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         }
     }
 
+    /**
+     * Replaces the completed instance with the next one, if any. The completed instance is removed right away, so at most the window size
+     * of instances exist at any time.
+     */
+    protected void continueInstanceWindow(ExecutionEntity completedExecution, DelegateExecution miRootExecution, int nrOfInstances) {
+        // The scope of a completed embedded subprocess is already planned to be destroyed when its end was reached
+        if (!completedExecution.isScope()) {
+            deleteChildExecutions(completedExecution, true, CommandContextUtil.getCommandContext());
+        }
+
+        int nrOfCreatedInstances = getLoopVariable(miRootExecution, NUMBER_OF_CREATED_INSTANCES);
+        if (nrOfCreatedInstances < nrOfInstances) {
+            setLoopVariable(miRootExecution, NUMBER_OF_CREATED_INSTANCES, nrOfCreatedInstances + 1);
+
+            ExecutionEntity concurrentExecution = createConcurrentExecution(miRootExecution);
+            logLoopDetails(concurrentExecution, "initialized", nrOfCreatedInstances, getLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES),
+                    getLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES), nrOfInstances);
+            executeOriginalBehavior(concurrentExecution, nrOfCreatedInstances);
+        }
+    }
+
+    /**
+     * @return whether the instances are created in a window. Activities of which completed instances are needed for compensation always
+     *         create all instances up front.
+     */
+    protected boolean isInstanceWindowUsed() {
+        if (instanceWindowUsed == null) {
+            instanceWindowUsed = instanceWindow > 0 && !hasCompensation(activity);
+        }
+        return instanceWindowUsed;
+    }
+
+    protected void leaveMultiInstance(DelegateExecution execution, ExecutionEntity leavingExecution, DelegateExecution miRootExecution, boolean isCompletionConditionSatisfied) {
+        Activity activity = (Activity) execution.getCurrentFlowElement();
+        verifyCompensation(execution, leavingExecution, activity);
+        verifyCallActivity(leavingExecution, activity);
+        
+        if (isCompletionConditionSatisfied) {
+            LinkedList<DelegateExecution> toVerify = new LinkedList<>(miRootExecution.getExecutions());
+            while (!toVerify.isEmpty()) {
+                DelegateExecution childExecution = toVerify.pop();
+                if (((ExecutionEntity) childExecution).isInserted()) {
+                    childExecution.inactivate();
+                }
+                
+                List<DelegateExecution> childExecutions = (List<DelegateExecution>) childExecution.getExecutions();
+                if (childExecutions != null && !childExecutions.isEmpty()) {
+                    toVerify.addAll(childExecutions);
+                }
+            }
+        }
+        
+        super.leave(leavingExecution);
+    }
+
+    /**
+     * Completed instances of an asynchronous activity are joined by a job when enabled in the engine configuration. The completing instance
+     * then only marks itself as completed, so concurrently completing instances don't all update the multi instance root execution.
+     */
+    protected boolean isJoinedByJob() {
+        return activity.isAsynchronous() && !isInstanceWindowUsed() && CommandContextUtil.getProcessEngineConfiguration().isEnableParallelMultiInstanceJoinJobs();
+    }
+
+    protected void scheduleJoinJob(ExecutionEntity execution) {
+        JobService jobService = CommandContextUtil.getJobService();
+
+        // The job is linked to the completed instance and not to the multi instance root execution, as linking it
+        // to the root execution would update the job count of the root execution.
+        JobEntity job = jobService.createJob();
+        job.setExecutionId(execution.getId());
+        job.setProcessInstanceId(execution.getProcessInstanceId());
+        job.setProcessDefinitionId(execution.getProcessDefinitionId());
+        if (execution.getTenantId() != null) {
+            job.setTenantId(execution.getTenantId());
+        }
+
+        // Join jobs are exclusive, so the join jobs of a process instance never run at the same time
+        jobService.createAsyncJob(job, true);
+        job.setJobHandlerType(ParallelMultiInstanceJoinJobHandler.TYPE);
+        job.setJobHandlerConfiguration(activity.getId());
+        jobService.scheduleAsyncJob(job);
+    }
+
+    /**
+     * Joins the instances that were marked as completed and leaves the multi instance activity when all instances are completed or the
+     * completion condition is satisfied. The number of completed instances is counted from the markers stored on the instances, which makes
+     * the join idempotent: a join job that runs after another one already counted its instance just finds nothing new.
+     * <p>
+     * When several instances were completed since the previous join, the loop variables are increased one instance at a time and the completion
+     * condition is evaluated for every step, exactly like it happens when every instance updates the loop variables itself.
+     */
+    public void joinCompletedInstances(ExecutionEntity miRootExecution) {
+        int nrOfInstances = getLoopVariable(miRootExecution, NUMBER_OF_INSTANCES);
+        int previousNrOfCompletedInstances = getLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES);
+        int markedNrOfCompletedInstances = (int) CommandContextUtil.getExecutionEntityManager()
+                .findChildExecutionCountWithLocalVariable(miRootExecution.getId(), COMPLETED_INSTANCE_MARKER);
+
+        for (int nrOfCompletedInstances = previousNrOfCompletedInstances + 1; nrOfCompletedInstances <= markedNrOfCompletedInstances; nrOfCompletedInstances++) {
+            int nrOfActiveInstances = nrOfInstances - nrOfCompletedInstances;
+            setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
+            setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+
+            logLoopDetails(miRootExecution, "instance joined", -1, nrOfCompletedInstances, nrOfActiveInstances, nrOfInstances);
+
+            boolean isCompletionConditionSatisfied = completionConditionSatisfied(miRootExecution);
+            if (nrOfCompletedInstances >= nrOfInstances || isCompletionConditionSatisfied) {
+                leaveMultiInstance(miRootExecution, miRootExecution, miRootExecution, isCompletionConditionSatisfied);
+                return;
+            }
+        }
+    }
+
     protected Activity verifyCompensation(DelegateExecution execution, ExecutionEntity executionToUse, Activity activity) {
+        if (hasCompensation(activity)) {
+            ScopeUtil.createCopyOfSubProcessExecutionForCompensation(executionToUse);
+        }
+        return activity;
+    }
+
+    protected boolean hasCompensation(Activity activity) {
         boolean hasCompensation = false;
         if (activity instanceof Transaction) {
             hasCompensation = true;
@@ -199,11 +346,7 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
                 }
             }
         }
-
-        if (hasCompensation) {
-            ScopeUtil.createCopyOfSubProcessExecutionForCompensation(executionToUse);
-        }
-        return activity;
+        return hasCompensation;
     }
 
     protected void verifyCallActivity(ExecutionEntity executionToUse, Activity activity) {
@@ -272,4 +415,15 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         }
     }
 
+    /**
+     * @return the maximum number of instances that exist at the same time, or 0 when all instances are created up front
+     */
+    public int getInstanceWindow() {
+        return instanceWindow;
+    }
+
+    public void setInstanceWindow(int instanceWindow) {
+        this.instanceWindow = instanceWindow;
+    }
+
 }
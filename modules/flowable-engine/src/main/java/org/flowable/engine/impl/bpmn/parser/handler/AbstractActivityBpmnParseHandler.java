@@ -12,14 +12,19 @@
  */
 package org.flowable.engine.impl.bpmn.parser.handler;
 
+import java.util.List;
+
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.BaseElement;
+import org.flowable.bpmn.model.ExtensionElement;
 import org.flowable.bpmn.model.FlowNode;
 import org.flowable.bpmn.model.MultiInstanceLoopCharacteristics;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.impl.el.ExpressionManager;
 import org.flowable.engine.impl.bpmn.behavior.AbstractBpmnActivityBehavior;
 import org.flowable.engine.impl.bpmn.behavior.MultiInstanceActivityBehavior;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.util.CommandContextUtil;
 
@@ -88,5 +93,29 @@ public abstract class AbstractActivityBpmnParseHandler<T extends FlowNode> exten
         if (loopCharacteristics.getHandler() != null) {
             miActivityBehavior.setHandler(loopCharacteristics.getHandler().clone());
         }
+
+        // flowable:multiInstanceWindow
+        if (miActivityBehavior instanceof ParallelMultiInstanceBehavior) {
+            ((ParallelMultiInstanceBehavior) miActivityBehavior).setInstanceWindow(parseInstanceWindow(modelActivity));
+        }
+    }
+
+    protected int parseInstanceWindow(Activity modelActivity) {
+        List<ExtensionElement> windowElements = modelActivity.getExtensionElements().get(ParallelMultiInstanceBehavior.ELEMENT_INSTANCE_WINDOW);
+        if (windowElements == null || windowElements.isEmpty() || StringUtils.isEmpty(windowElements.get(0).getElementText())) {
+            return 0;
+        }
+
+        String windowText = windowElements.get(0).getElementText().trim();
+        int window;
+        try {
+            window = Integer.parseInt(windowText);
+        } catch (NumberFormatException e) {
+            window = -1;
+        }
+        if (window < 0) {
+            throw new FlowableIllegalArgumentException("Invalid multi instance window '" + windowText + "' for activity " + modelActivity.getId() + ": must be a non-negative integer value");
+        }
+        return window;
     }
 }
@@ -62,7 +62,9 @@ import org.flowable.engine.common.impl.calendar.BusinessCalendarManager;
 import org.flowable.engine.common.impl.callback.RuntimeInstanceStateChangeCallback;
 import org.flowable.engine.common.impl.cfg.IdGenerator;
 import org.flowable.engine.common.impl.db.DbSchemaManager;
+import org.flowable.engine.common.impl.el.DefaultExpressionManager;
 import org.flowable.engine.common.impl.el.ExpressionManager;
+import org.flowable.engine.common.impl.event.AsyncEventDelivery;
 import org.flowable.engine.common.impl.event.FlowableEventDispatcherImpl;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.common.impl.interceptor.Command;
@@ -75,6 +77,7 @@ import org.flowable.engine.common.impl.interceptor.SessionFactory;
 import org.flowable.engine.common.impl.persistence.GenericManagerFactory;
 import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.common.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.common.impl.util.ReflectUtil;
@@ -165,6 +168,7 @@ import org.flowable.engine.impl.event.CompensationEventHandler;
 import org.flowable.engine.impl.event.EventHandler;
 import org.flowable.engine.impl.event.MessageEventHandler;
 import org.flowable.engine.impl.event.SignalEventHandler;
+import org.flowable.engine.impl.event.logger.BufferedEventLogWriter;
 import org.flowable.engine.impl.event.logger.EventLogger;
 import org.flowable.engine.impl.form.BooleanFormType;
 import org.flowable.engine.impl.form.DateFormType;
@@ -185,20 +189,25 @@ import org.flowable.engine.impl.history.async.AsyncHistoryManager;
 import org.flowable.engine.impl.history.async.AsyncHistorySession;
 import org.flowable.engine.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.engine.impl.history.async.DefaultAsyncHistoryJobProducer;
+import org.flowable.engine.impl.interceptor.AsyncEventDeliveryInterceptor;
 import org.flowable.engine.impl.interceptor.BpmnOverrideContextInterceptor;
 import org.flowable.engine.impl.interceptor.CommandInvoker;
 import org.flowable.engine.impl.interceptor.DelegateInterceptor;
 import org.flowable.engine.impl.interceptor.LoggingExecutionTreeCommandInvoker;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceJoinJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.persistence.deploy.Deployer;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
+import org.flowable.engine.impl.persistence.deploy.LatestProcessDefinitionCache;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManagerImpl;
@@ -294,6 +303,7 @@ import org.flowable.task.service.history.InternalHistoryTaskManager;
 import org.flowable.task.service.impl.db.TaskDbSchemaManager;
 import org.flowable.validation.ProcessValidator;
 import org.flowable.validation.ProcessValidatorFactory;
+import org.flowable.variable.api.types.VariableCodec;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.api.types.VariableTypes;
 import org.flowable.variable.service.VariableServiceConfiguration;
@@ -302,12 +312,14 @@ import org.flowable.variable.service.impl.db.IbatisVariableTypeHandler;
 import org.flowable.variable.service.impl.db.VariableDbSchemaManager;
 import org.flowable.variable.service.impl.types.BooleanType;
 import org.flowable.variable.service.impl.types.ByteArrayType;
+import org.flowable.variable.service.impl.types.CodecVariableType;
 import org.flowable.variable.service.impl.types.CustomObjectType;
 import org.flowable.variable.service.impl.types.DateType;
 import org.flowable.variable.service.impl.types.DefaultVariableTypes;
 import org.flowable.variable.service.impl.types.DoubleType;
 import org.flowable.variable.service.impl.types.EntityManagerSession;
 import org.flowable.variable.service.impl.types.EntityManagerSessionFactory;
+import org.flowable.variable.service.impl.types.InputStreamType;
 import org.flowable.variable.service.impl.types.IntegerType;
 import org.flowable.variable.service.impl.types.JPAEntityListVariableType;
 import org.flowable.variable.service.impl.types.JPAEntityVariableType;
@@ -437,11 +449,37 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected DeploymentManager deploymentManager;
 
     protected int processDefinitionCacheLimit = -1; // By default, no limit
+
+    /**
+     * The maximum total weight of the process definition cache, where the weight of a cached process definition is the number of
+     * elements of its {@link org.flowable.bpmn.model.BpmnModel}. Only used when the concurrent deployment cache is used. By default, no limit.
+     */
+    protected long processDefinitionCacheMaxWeight = -1;
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
+
+    /**
+     * The time (in ms) cached process definition info (see {@link org.flowable.engine.DynamicBpmnService}) is used without checking its revision
+     * in the database. Changes saved on this node are picked up immediately, changes saved by other nodes of a cluster within this time.
+     * By default (0), the revision is checked every time the info is used.
+     */
+    protected long processDefinitionInfoCacheValidationInterval;
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
+    /**
+     * If set to true, the id of the latest version of each process definition key is cached, so finding the latest process definition
+     * (e.g. when starting a process instance by key) does not query the database when the process definition itself is cached. Default false.
+     */
+    protected boolean enableLatestProcessDefinitionCache;
+
+    /**
+     * The time (in ms) a cached latest version is used before it is checked in the database again, to pick up versions deployed by
+     * other nodes of a cluster. When not positive, the cached versions are only updated by deployments on this node.
+     */
+    protected long latestProcessDefinitionCacheStalenessCheckInterval = 10000L;
+    protected LatestProcessDefinitionCache latestProcessDefinitionCache;
+
     protected int knowledgeBaseCacheLimit = -1;
     protected DeploymentCache<Object> knowledgeBaseCache;
 
@@ -604,6 +642,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorResetExpiredJobsMaxTimeout = 24 * 60 * 60 * 1000;
 
+    /**
+     * When enabled, an exclusive job is executed by locking the process instance, executing the job and releasing the lock again in one transaction,
+     * instead of using a separate transaction for each of these steps. When the process instance lock can't be taken in that transaction,
+     * the job falls back to the execution in separate transactions.
+     * <p>
+     * By default false.
+     */
+    protected boolean asyncExecutorExclusiveJobsInSingleTransaction;
+
     /**
      * The {@link AsyncExecutor} has a 'cleanup' thread that resets expired jobs so they can be re-acquired by other executors. This setting defines the size of the page being used when fetching these
      * expired jobs.
@@ -673,7 +720,23 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * Codecs of which the binary format is used to store object variables they are able to encode, instead of Java serialization.
+     * Every codec is registered as a variable type right before the serializable type, which stores everything the codecs don't support.
+     * Existing variables keep their own type, so they remain readable.
+     */
+    protected List<VariableCodec> variableCodecs;
+
+    /**
+     * Values encoded by a variable codec that are larger than this number of bytes are compressed. Negative (the default) disables compression.
+     */
+    protected int variableCodecCompressionThreshold = -1;
+
     protected ExpressionManager expressionManager;
+    /**
+     * When true, the variables used by an expression are fetched with one query before evaluating it, instead of fetching all variables.
+     */
+    protected boolean prefetchExpressionVariables;
     protected List<String> customScriptingEngineClasses;
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
@@ -712,9 +775,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int batchSizeProcessInstances = 25;
     protected int batchSizeTasks = 25;
 
+    /**
+     * The number of signal event subscriptions handled by one job of a signal broadcast (see {@link org.flowable.engine.RuntimeService#signalEventReceivedBroadcast(String)}).
+     */
+    protected int signalBroadcastPageSize = 500;
+
+    /**
+     * When enabled, the completed instances of an asynchronous parallel multi instance activity are counted by an exclusive join job instead of
+     * by every completing instance. Completing instances then no longer update the multi instance root execution, which otherwise fails with
+     * optimistic locking exceptions when many instances complete at the same time.
+     */
+    protected boolean enableParallelMultiInstanceJoinJobs;
+
+    /**
+     * When set, events for {@link org.flowable.engine.common.api.delegate.event.FlowableAsyncEventListener}s are delivered by it after the
+     * transaction has committed, instead of synchronously. It is started and shut down together with the process engine.
+     */
+    protected AsyncEventDelivery asyncEventDelivery;
+
     // Event logging to database
     protected boolean enableDatabaseEventLogging;
 
+    /**
+     * When set, database event log entries are written in batches from a background thread after the command has committed, instead of in the
+     * transaction of the command. It is started and shut down together with the engine.
+     */
+    protected BufferedEventLogWriter bufferedEventLogWriter;
+
     /**
      * Using field injection together with a delegate expression for a service task / execution listener / task listener is not thread-sade , see user guide section 'Field Injection' for more
      * information.
@@ -820,6 +907,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initBpmnParser();
         initProcessDefinitionCache();
         initProcessDefinitionInfoCache();
+        initLatestProcessDefinitionCache();
         initAppResourceCache();
         initKnowledgeBaseCache();
         initJobHandlers();
@@ -893,7 +981,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     @Override
     public List<CommandInterceptor> getAdditionalDefaultCommandInterceptors() {
-        return Collections.<CommandInterceptor>singletonList(new BpmnOverrideContextInterceptor());
+        List<CommandInterceptor> interceptors = new ArrayList<>(2);
+        interceptors.add(new BpmnOverrideContextInterceptor());
+        interceptors.add(new AsyncEventDeliveryInterceptor(this));
+        return interceptors;
     }
     // services
     // /////////////////////////////////////////////////////////////////
@@ -1323,6 +1414,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
         this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
         this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+        this.jobServiceConfiguration.setAsyncExecutorExclusiveJobsInSingleTransaction(this.asyncExecutorExclusiveJobsInSingleTransaction);
 
         if (this.jobManager != null) {
             this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1358,7 +1450,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
+            if (useConcurrentDeploymentCache) {
+                processDefinitionCache = new ConcurrentDeploymentCache<>(processDefinitionCacheLimit, processDefinitionCacheMaxWeight, new ProcessDefinitionCacheEntryWeigher());
+            } else if (processDefinitionCacheLimit <= 0) {
                 processDefinitionCache = new DefaultDeploymentCache<>();
             } else {
                 processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
@@ -1373,12 +1467,21 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             } else {
                 processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
             }
+            processDefinitionInfoCache.setValidationInterval(processDefinitionInfoCacheValidationInterval);
+        }
+    }
+
+    public void initLatestProcessDefinitionCache() {
+        if (latestProcessDefinitionCache == null && enableLatestProcessDefinitionCache) {
+            latestProcessDefinitionCache = new LatestProcessDefinitionCache(latestProcessDefinitionCacheStalenessCheckInterval);
         }
     }
 
     public void initAppResourceCache() {
         if (appResourceCache == null) {
-            if (appResourceCacheLimit <= 0) {
+            if (useConcurrentDeploymentCache) {
+                appResourceCache = new ConcurrentDeploymentCache<>(appResourceCacheLimit);
+            } else if (appResourceCacheLimit <= 0) {
                 appResourceCache = new DefaultDeploymentCache<>();
             } else {
                 appResourceCache = new DefaultDeploymentCache<>(appResourceCacheLimit);
@@ -1388,7 +1491,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initKnowledgeBaseCache() {
         if (knowledgeBaseCache == null) {
-            if (knowledgeBaseCacheLimit <= 0) {
+            if (useConcurrentDeploymentCache) {
+                knowledgeBaseCache = new ConcurrentDeploymentCache<>(knowledgeBaseCacheLimit);
+            } else if (knowledgeBaseCacheLimit <= 0) {
                 knowledgeBaseCache = new DefaultDeploymentCache<>();
             } else {
                 knowledgeBaseCache = new DefaultDeploymentCache<>(knowledgeBaseCacheLimit);
@@ -1414,6 +1519,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
             deploymentManager.setProcessDefinitionCache(processDefinitionCache);
             deploymentManager.setProcessDefinitionInfoCache(processDefinitionInfoCache);
+            deploymentManager.setLatestProcessDefinitionCache(latestProcessDefinitionCache);
             deploymentManager.setAppResourceCache(appResourceCache);
             deploymentManager.setKnowledgeBaseCache(knowledgeBaseCache);
             deploymentManager.setProcessEngineConfiguration(this);
@@ -1632,6 +1738,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         ProcessEventJobHandler processEventJobHandler = new ProcessEventJobHandler();
         jobHandlers.put(processEventJobHandler.getType(), processEventJobHandler);
 
+        SignalBroadcastJobHandler signalBroadcastJobHandler = new SignalBroadcastJobHandler();
+        jobHandlers.put(signalBroadcastJobHandler.getType(), signalBroadcastJobHandler);
+
+        ParallelMultiInstanceJoinJobHandler parallelMultiInstanceJoinJobHandler = new ParallelMultiInstanceJoinJobHandler();
+        jobHandlers.put(parallelMultiInstanceJoinJobHandler.getType(), parallelMultiInstanceJoinJobHandler);
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -1829,6 +1941,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper));
             variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper));
             variableTypes.addType(new ByteArrayType());
+            variableTypes.addType(new InputStreamType());
+            if (variableCodecs != null) {
+                for (VariableCodec variableCodec : variableCodecs) {
+                    variableTypes.addType(new CodecVariableType(variableCodec, serializableVariableTypeTrackDeserializedObjects, variableCodecCompressionThreshold));
+                }
+            }
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
             variableTypes.addType(new CustomObjectType("item", ItemInstance.class));
             variableTypes.addType(new CustomObjectType("message", MessageInstance.class));
@@ -1886,6 +2004,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (expressionManager == null) {
             expressionManager = new ProcessExpressionManager(delegateInterceptor, beans);
         }
+        if (prefetchExpressionVariables && expressionManager instanceof DefaultExpressionManager) {
+            ((DefaultExpressionManager) expressionManager).setPrefetchExpressionVariables(true);
+        }
         expressionManager.setFunctionDelegates(flowableFunctionDelegates);
     }
 
@@ -1976,6 +2097,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.eventDispatcher.setEnabled(enableEventDispatcher);
 
+        if (asyncEventDelivery != null && this.eventDispatcher instanceof FlowableEventDispatcherImpl) {
+            ((FlowableEventDispatcherImpl) this.eventDispatcher).setAsyncEventDelivery(asyncEventDelivery);
+        }
+
         if (eventListeners != null) {
             for (FlowableEventListener listenerToAdd : eventListeners) {
                 this.eventDispatcher.addEventListener(listenerToAdd);
@@ -2016,7 +2141,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (enableDatabaseEventLogging) {
             // Database event logging uses the default logging mechanism and adds
             // a specific event listener to the list of event listeners
-            getEventDispatcher().addEventListener(new EventLogger(clock, objectMapper));
+            EventLogger eventLogger = new EventLogger(clock, objectMapper);
+            if (bufferedEventLogWriter != null) {
+                if (bufferedEventLogWriter.getCommandExecutor() == null) {
+                    bufferedEventLogWriter.setCommandExecutor(commandExecutor);
+                }
+                eventLogger.setBufferedEventLogWriter(bufferedEventLogWriter);
+            }
+            getEventDispatcher().addEventListener(eventLogger);
         }
     }
 
@@ -2484,6 +2616,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public List<VariableCodec> getVariableCodecs() {
+        return variableCodecs;
+    }
+
+    public ProcessEngineConfigurationImpl setVariableCodecs(List<VariableCodec> variableCodecs) {
+        this.variableCodecs = variableCodecs;
+        return this;
+    }
+
+    public int getVariableCodecCompressionThreshold() {
+        return variableCodecCompressionThreshold;
+    }
+
+    public ProcessEngineConfigurationImpl setVariableCodecCompressionThreshold(int variableCodecCompressionThreshold) {
+        this.variableCodecCompressionThreshold = variableCodecCompressionThreshold;
+        return this;
+    }
+
     public ExpressionManager getExpressionManager() {
         return expressionManager;
     }
@@ -2493,6 +2643,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isPrefetchExpressionVariables() {
+        return prefetchExpressionVariables;
+    }
+
+    public ProcessEngineConfigurationImpl setPrefetchExpressionVariables(boolean prefetchExpressionVariables) {
+        this.prefetchExpressionVariables = prefetchExpressionVariables;
+        return this;
+    }
+
     public BusinessCalendarManager getBusinessCalendarManager() {
         return businessCalendarManager;
     }
@@ -2827,6 +2986,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionCacheMaxWeight() {
+        return processDefinitionCacheMaxWeight;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheMaxWeight(long processDefinitionCacheMaxWeight) {
+        this.processDefinitionCacheMaxWeight = processDefinitionCacheMaxWeight;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -2845,6 +3013,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionInfoCacheValidationInterval() {
+        return processDefinitionInfoCacheValidationInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoCacheValidationInterval(long processDefinitionInfoCacheValidationInterval) {
+        this.processDefinitionInfoCacheValidationInterval = processDefinitionInfoCacheValidationInterval;
+        return this;
+    }
+
+    public boolean isEnableLatestProcessDefinitionCache() {
+        return enableLatestProcessDefinitionCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableLatestProcessDefinitionCache(boolean enableLatestProcessDefinitionCache) {
+        this.enableLatestProcessDefinitionCache = enableLatestProcessDefinitionCache;
+        return this;
+    }
+
+    public long getLatestProcessDefinitionCacheStalenessCheckInterval() {
+        return latestProcessDefinitionCacheStalenessCheckInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setLatestProcessDefinitionCacheStalenessCheckInterval(long latestProcessDefinitionCacheStalenessCheckInterval) {
+        this.latestProcessDefinitionCacheStalenessCheckInterval = latestProcessDefinitionCacheStalenessCheckInterval;
+        return this;
+    }
+
+    public LatestProcessDefinitionCache getLatestProcessDefinitionCache() {
+        return latestProcessDefinitionCache;
+    }
+
+    public ProcessEngineConfigurationImpl setLatestProcessDefinitionCache(LatestProcessDefinitionCache latestProcessDefinitionCache) {
+        this.latestProcessDefinitionCache = latestProcessDefinitionCache;
+        return this;
+    }
+
     public DeploymentCache<Object> getKnowledgeBaseCache() {
         return knowledgeBaseCache;
     }
@@ -2914,6 +3118,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public AsyncEventDelivery getAsyncEventDelivery() {
+        return asyncEventDelivery;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventDelivery(AsyncEventDelivery asyncEventDelivery) {
+        this.asyncEventDelivery = asyncEventDelivery;
+        return this;
+    }
+
     public ProcessValidator getProcessValidator() {
         return processValidator;
     }
@@ -2950,6 +3163,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableParallelMultiInstanceJoinJobs() {
+        return enableParallelMultiInstanceJoinJobs;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableParallelMultiInstanceJoinJobs(boolean enableParallelMultiInstanceJoinJobs) {
+        this.enableParallelMultiInstanceJoinJobs = enableParallelMultiInstanceJoinJobs;
+        return this;
+    }
+
+    public int getSignalBroadcastPageSize() {
+        return signalBroadcastPageSize;
+    }
+
+    public ProcessEngineConfigurationImpl setSignalBroadcastPageSize(int signalBroadcastPageSize) {
+        this.signalBroadcastPageSize = signalBroadcastPageSize;
+        return this;
+    }
+
+    public BufferedEventLogWriter getBufferedEventLogWriter() {
+        return bufferedEventLogWriter;
+    }
+
+    public ProcessEngineConfigurationImpl setBufferedEventLogWriter(BufferedEventLogWriter bufferedEventLogWriter) {
+        this.bufferedEventLogWriter = bufferedEventLogWriter;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setUsingRelationalDatabase(boolean usingRelationalDatabase) {
         this.usingRelationalDatabase = usingRelationalDatabase;
@@ -3739,6 +3979,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorExclusiveJobsInSingleTransaction() {
+        return asyncExecutorExclusiveJobsInSingleTransaction;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorExclusiveJobsInSingleTransaction(boolean asyncExecutorExclusiveJobsInSingleTransaction) {
+        this.asyncExecutorExclusiveJobsInSingleTransaction = asyncExecutorExclusiveJobsInSingleTransaction;
+        return this;
+    }
+
     public ExecuteAsyncRunnableFactory getAsyncExecutorExecuteAsyncRunnableFactory() {
         return asyncExecutorExecuteAsyncRunnableFactory;
     }
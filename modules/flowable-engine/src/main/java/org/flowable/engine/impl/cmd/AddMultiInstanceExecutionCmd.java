@@ -22,6 +22,7 @@ import org.flowable.bpmn.model.MultiInstanceLoopCharacteristics;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -62,6 +63,10 @@ public class AddMultiInstanceExecutionCmd implements Command<Execution>, Seriali
             throw new FlowableException("Flowable 5 process definitions are not supported");
         }
         
+        if (miExecution.getVariableLocal(ParallelMultiInstanceBehavior.NUMBER_OF_CREATED_INSTANCES) != null) {
+            throw new FlowableException("Adding an instance is not supported for multi instance activity " + activityId + ", as it creates its instances in a window");
+        }
+        
         ExecutionEntity childExecution = executionEntityManager.createChildExecution(miExecution);
         childExecution.setCurrentFlowElement(miExecution.getCurrentFlowElement());
         
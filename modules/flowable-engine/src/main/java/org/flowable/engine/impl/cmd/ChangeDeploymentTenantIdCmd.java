@@ -78,6 +78,9 @@ public class ChangeDeploymentTenantIdCmd implements Command<Void>, Serializable
 
         // Clear process definition cache
         CommandContextUtil.getProcessEngineConfiguration(commandContext).getProcessDefinitionCache().clear();
+        if (CommandContextUtil.getProcessEngineConfiguration(commandContext).getLatestProcessDefinitionCache() != null) {
+            CommandContextUtil.getProcessEngineConfiguration(commandContext).getLatestProcessDefinitionCache().clear();
+        }
 
         return null;
 
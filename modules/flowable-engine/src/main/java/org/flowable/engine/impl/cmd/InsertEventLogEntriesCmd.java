@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.List;
+
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+
+/**
+ * Inserts event log entries that were generated in other transactions. The entries end up in bulk inserts when the database supports it.
+ */
+public class InsertEventLogEntriesCmd implements Command<Void> {
+
+    protected List<EventLogEntryEntity> eventLogEntries;
+
+    public InsertEventLogEntriesCmd(List<EventLogEntryEntity> eventLogEntries) {
+        this.eventLogEntries = eventLogEntries;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        EventLogEntryEntityManager eventLogEntryEntityManager = CommandContextUtil.getEventLogEntryEntityManager(commandContext);
+        for (EventLogEntryEntity eventLogEntry : eventLogEntries) {
+            eventLogEntryEntityManager.insert(eventLogEntry, false);
+        }
+        return null;
+    }
+
+}
@@ -16,8 +16,13 @@ import java.io.Serializable;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -65,6 +70,24 @@ public class SaveProcessDefinitionInfoCmd implements Command<Void>, Serializable
             throw new FlowableException("Unable to serialize info node " + infoNode);
         }
 
+        // The cached info is removed again when the transaction completes, in case it was loaded in the meantime. On commit that could be
+        // info of another transaction, on rollback it could be the info of this transaction that never got committed.
+        final ProcessDefinitionInfoCache processDefinitionInfoCache = CommandContextUtil.getProcessEngineConfiguration(commandContext)
+                .getDeploymentManager().getProcessDefinitionInfoCache();
+        processDefinitionInfoCache.remove(processDefinitionId);
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            TransactionListener transactionListener = new TransactionListener() {
+
+                @Override
+                public void execute(CommandContext commandContext) {
+                    processDefinitionInfoCache.remove(processDefinitionId);
+                }
+            };
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, transactionListener);
+            transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, transactionListener);
+        }
+
         return null;
     }
 
@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.Date;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
+import org.flowable.engine.impl.util.CommandContextUtil;
+
+/**
+ * Starts the broadcast of a signal by scheduling the first {@link SignalBroadcastJobHandler} job, which pages through the subscriptions.
+ * The subscriptions themselves are not touched in the transaction of this command.
+ */
+public class SignalEventBroadcastCmd implements Command<Void> {
+
+    protected final String eventName;
+    protected final String tenantId;
+
+    public SignalEventBroadcastCmd(String eventName, String tenantId) {
+        this.eventName = eventName;
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (eventName == null) {
+            throw new FlowableIllegalArgumentException("signalName cannot be null");
+        }
+
+        Date createdBefore = CommandContextUtil.getProcessEngineConfiguration(commandContext).getClock().getCurrentTime();
+        String configuration = SignalBroadcastJobHandler.createConfiguration(eventName, tenantId, null, createdBefore, 0L);
+        SignalBroadcastJobHandler.scheduleBroadcastJob(configuration, tenantId, commandContext);
+        return null;
+    }
+
+}
@@ -32,6 +32,9 @@ import org.flowable.variable.service.impl.el.VariableScopeExpressionManager;
 public class ProcessExpressionManager extends VariableScopeExpressionManager {
     
     protected DelegateInterceptor delegateInterceptor;
+
+    // stateless, so shared by all evaluations
+    protected ELResolver itemInstanceElResolver = new DynamicBeanPropertyELResolver(ItemInstance.class, "getFieldValue", "setFieldValue");
     
     public ProcessExpressionManager() {
         this(null);
@@ -66,7 +69,7 @@ public class ProcessExpressionManager extends VariableScopeExpressionManager {
         }
         
         if (beanElResolverIndex > 0) {
-            elResolvers.add(beanElResolverIndex, new DynamicBeanPropertyELResolver(ItemInstance.class, "getFieldValue", "setFieldValue"));
+            elResolvers.add(beanElResolverIndex, itemInstanceElResolver);
         }
     }
     
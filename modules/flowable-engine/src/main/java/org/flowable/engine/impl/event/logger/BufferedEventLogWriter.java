@@ -0,0 +1,300 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.common.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cmd.InsertEventLogEntriesCmd;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes event log entries from a background thread, in batches of up to {@link #getBatchSize()} entries per transaction.
+ * <p>
+ * The entries of committed commands are kept in a buffer of {@link #getBufferSize()} entries. The writer waits at most
+ * {@link #getFlushInterval()} milliseconds for a batch to fill up, which is also the time frame of entries that can be lost when the JVM stops
+ * abruptly. When the buffer is full, the committing thread writes its entries itself, unless {@link #setDropWhenFull(boolean)} is set, in
+ * which case they are dropped instead, trading completeness of the event log for throughput. The remaining entries are written on
+ * {@link #shutdown()}.
+ * <p>
+ * A batch of which the write fails is not retried: its entries are discarded and only counted in {@link #getFailedEntryCount()}.
+ */
+public class BufferedEventLogWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BufferedEventLogWriter.class);
+
+    // How often the writer thread checks whether it needs to stop while waiting for entries
+    protected static final long ACTIVE_CHECK_INTERVAL = 100L;
+
+    protected CommandExecutor commandExecutor;
+
+    protected int bufferSize = 10000;
+    protected int batchSize = 500;
+    protected long flushInterval = 1000L;
+    protected boolean dropWhenFull;
+
+    protected BlockingQueue<EventLogEntryEntity> buffer;
+    protected Thread writerThread;
+    protected volatile boolean active;
+
+    protected final AtomicLong writtenEntryCount = new AtomicLong();
+    protected final AtomicLong callerWrittenEntryCount = new AtomicLong();
+    protected final AtomicLong droppedEntryCount = new AtomicLong();
+    protected final AtomicLong failedEntryCount = new AtomicLong();
+    protected final AtomicLong batchCount = new AtomicLong();
+    protected final AtomicLong lastWriteLag = new AtomicLong();
+    protected final AtomicLong maxWriteLag = new AtomicLong();
+
+    public synchronized void start() {
+        if (active) {
+            return;
+        }
+
+        LOGGER.info("Starting buffered event log writer with buffer size {}, batch size {} and flush interval {}", bufferSize, batchSize, flushInterval);
+        if (buffer == null) {
+            buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        active = true;
+        writerThread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                writeBufferedEntries();
+            }
+        }, "flowable-event-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public synchronized void shutdown() {
+        if (!active) {
+            return;
+        }
+
+        active = false;
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for the event log writer thread to terminate", e);
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+
+        // Entries added while the writer thread was stopping
+        writeRemainingEntries();
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Adds the entries of a committed command to the buffer.
+     */
+    public void add(List<EventLogEntryEntity> eventLogEntries) {
+        if (!active) {
+            callerWrittenEntryCount.addAndGet(eventLogEntries.size());
+            write(eventLogEntries);
+            return;
+        }
+
+        List<EventLogEntryEntity> overflowingEntries = null;
+        for (EventLogEntryEntity eventLogEntry : eventLogEntries) {
+            if (!buffer.offer(eventLogEntry)) {
+                if (overflowingEntries == null) {
+                    overflowingEntries = new ArrayList<>();
+                }
+                overflowingEntries.add(eventLogEntry);
+            }
+        }
+
+        if (overflowingEntries != null) {
+            if (dropWhenFull) {
+                droppedEntryCount.addAndGet(overflowingEntries.size());
+                LOGGER.debug("Event log buffer is full, dropped {} entries", overflowingEntries.size());
+            } else {
+                callerWrittenEntryCount.addAndGet(overflowingEntries.size());
+                write(overflowingEntries);
+            }
+        }
+
+        // The writer may have been shut down while the entries were offered, after it drained the buffer for the last time
+        if (!active) {
+            writeRemainingEntries();
+        }
+    }
+
+    protected void writeRemainingEntries() {
+        List<EventLogEntryEntity> remainingEntries = new ArrayList<>();
+        buffer.drainTo(remainingEntries);
+        write(remainingEntries);
+    }
+
+    protected void writeBufferedEntries() {
+        List<EventLogEntryEntity> batch = new ArrayList<>(batchSize);
+        while (active || !buffer.isEmpty()) {
+            try {
+                EventLogEntryEntity firstEntry = buffer.poll(ACTIVE_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+                if (firstEntry == null) {
+                    continue;
+                }
+
+                // Give the batch some time to fill up, but never longer than the flush interval
+                batch.add(firstEntry);
+                buffer.drainTo(batch, batchSize - 1);
+                long deadline = System.currentTimeMillis() + flushInterval;
+                while (batch.size() < batchSize && active) {
+                    long remainingTime = deadline - System.currentTimeMillis();
+                    if (remainingTime <= 0) {
+                        break;
+                    }
+
+                    EventLogEntryEntity nextEntry = buffer.poll(Math.min(remainingTime, ACTIVE_CHECK_INTERVAL), TimeUnit.MILLISECONDS);
+                    if (nextEntry != null) {
+                        batch.add(nextEntry);
+                        buffer.drainTo(batch, batchSize - batch.size());
+                    }
+                }
+
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+
+            } catch (InterruptedException e) {
+                LOGGER.warn("Event log writer thread interrupted, {} buffered entries will be written on shutdown", buffer.size());
+                Thread.currentThread().interrupt();
+                write(batch);
+                return;
+            }
+        }
+    }
+
+    protected void write(List<EventLogEntryEntity> eventLogEntries) {
+        if (eventLogEntries.isEmpty()) {
+            return;
+        }
+
+        try {
+            commandExecutor.execute(commandExecutor.getDefaultConfig().transactionRequiresNew(), new InsertEventLogEntriesCmd(eventLogEntries));
+            writtenEntryCount.addAndGet(eventLogEntries.size());
+            batchCount.incrementAndGet();
+
+            if (eventLogEntries.get(0).getTimeStamp() != null) {
+                long lag = System.currentTimeMillis() - eventLogEntries.get(0).getTimeStamp().getTime();
+                lastWriteLag.set(lag);
+                long maxLag = maxWriteLag.get();
+                while (lag > maxLag && !maxWriteLag.compareAndSet(maxLag, lag)) {
+                    maxLag = maxWriteLag.get();
+                }
+            }
+
+        } catch (Exception e) {
+            failedEntryCount.addAndGet(eventLogEntries.size());
+            LOGGER.warn("Could not write {} event log entries", eventLogEntries.size(), e);
+        }
+    }
+
+    // getters and setters ////////////////////////////////////////////////////////
+
+    public CommandExecutor getCommandExecutor() {
+        return commandExecutor;
+    }
+
+    public void setCommandExecutor(CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return the maximum time in milliseconds a buffered entry waits for its batch to fill up
+     */
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public boolean isDropWhenFull() {
+        return dropWhenFull;
+    }
+
+    public void setDropWhenFull(boolean dropWhenFull) {
+        this.dropWhenFull = dropWhenFull;
+    }
+
+    /**
+     * @return the number of entries waiting in the buffer
+     */
+    public int getBufferedEntryCount() {
+        return buffer != null ? buffer.size() : 0;
+    }
+
+    public long getWrittenEntryCount() {
+        return writtenEntryCount.get();
+    }
+
+    /**
+     * @return the number of entries that were written by the committing thread because the buffer was full or the writer wasn't started
+     */
+    public long getCallerWrittenEntryCount() {
+        return callerWrittenEntryCount.get();
+    }
+
+    public long getDroppedEntryCount() {
+        return droppedEntryCount.get();
+    }
+
+    public long getFailedEntryCount() {
+        return failedEntryCount.get();
+    }
+
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * @return the time in milliseconds between the timestamp of the oldest entry of the most recently written batch and its write
+     */
+    public long getLastWriteLag() {
+        return lastWriteLag.get();
+    }
+
+    public long getMaxWriteLag() {
+        return maxWriteLag.get();
+    }
+
+}
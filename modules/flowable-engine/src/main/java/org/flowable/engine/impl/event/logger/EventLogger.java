@@ -65,6 +65,9 @@ public class EventLogger implements FlowableEventListener {
     // Listeners for new events
     protected List<EventLoggerListener> listeners;
 
+    // When set, the entries are written in the background instead of in the transaction of the command
+    protected BufferedEventLogWriter bufferedEventLogWriter;
+
     public EventLogger() {
         initializeDefaultHandlers();
     }
@@ -212,6 +215,9 @@ public class EventLogger implements FlowableEventListener {
      * Subclasses that want something else than the database flusher should override this method
      */
     protected EventFlusher createEventFlusher() {
+        if (bufferedEventLogWriter != null) {
+            return new WriteBehindEventFlusher(bufferedEventLogWriter, Context.getTransactionContext());
+        }
         return null;
     }
 
@@ -239,4 +245,12 @@ public class EventLogger implements FlowableEventListener {
         this.listeners = listeners;
     }
 
+    public BufferedEventLogWriter getBufferedEventLogWriter() {
+        return bufferedEventLogWriter;
+    }
+
+    public void setBufferedEventLogWriter(BufferedEventLogWriter bufferedEventLogWriter) {
+        this.bufferedEventLogWriter = bufferedEventLogWriter;
+    }
+
 }
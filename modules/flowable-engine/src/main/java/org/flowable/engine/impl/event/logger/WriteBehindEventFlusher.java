@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.event.logger.handler.EventLoggerEventHandler;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link EventFlusher} that doesn't insert the event log entries in the transaction of the command, but hands them to a
+ * {@link BufferedEventLogWriter} once the transaction of the command has been committed. Without a transaction context, the entries are
+ * handed over once the command context has been closed successfully.
+ * <p>
+ * The entries are still generated while the command context is closing, as generating them needs access to the entities of the command.
+ * The transaction context is passed in when the flusher is created, as it is no longer available while the command context is closing.
+ */
+public class WriteBehindEventFlusher extends AbstractEventFlusher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindEventFlusher.class);
+
+    protected BufferedEventLogWriter eventLogWriter;
+    protected TransactionContext transactionContext;
+    protected List<EventLogEntryEntity> eventLogEntries;
+
+    public WriteBehindEventFlusher(BufferedEventLogWriter eventLogWriter, TransactionContext transactionContext) {
+        this.eventLogWriter = eventLogWriter;
+        this.transactionContext = transactionContext;
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+
+        if (commandContext.getException() != null) {
+            return; // Not interested in events about exceptions
+        }
+
+        eventLogEntries = new ArrayList<>(eventHandlers.size());
+        for (EventLoggerEventHandler eventHandler : eventHandlers) {
+            try {
+                eventLogEntries.add(eventHandler.generateEventLogEntry(commandContext));
+            } catch (Exception e) {
+                LOGGER.warn("Could not create event log", e);
+            }
+        }
+
+        if (transactionContext != null && !eventLogEntries.isEmpty()) {
+            final List<EventLogEntryEntity> committedEventLogEntries = eventLogEntries;
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                @Override
+                public void execute(CommandContext commandContext) {
+                    eventLogWriter.add(committedEventLogEntries);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        if (transactionContext == null && eventLogEntries != null && !eventLogEntries.isEmpty()) {
+            eventLogWriter.add(eventLogEntries);
+        }
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+
+    }
+
+}
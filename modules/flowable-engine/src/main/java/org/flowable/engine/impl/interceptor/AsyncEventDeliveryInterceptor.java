@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.interceptor;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.event.AsyncEventDelivery;
+import org.flowable.engine.common.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.engine.common.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandConfig;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+
+/**
+ * Registers every new command context with the {@link AsyncEventDelivery} of the event dispatcher, before the command is executed.
+ */
+public class AsyncEventDeliveryInterceptor extends AbstractCommandInterceptor {
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    public AsyncEventDeliveryInterceptor(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        this.processEngineConfiguration = processEngineConfiguration;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command) {
+        CommandContext commandContext = Context.getCommandContext();
+        if (!commandContext.isReused()) {
+            FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
+            if (eventDispatcher instanceof FlowableEventDispatcherImpl) {
+                AsyncEventDelivery asyncEventDelivery = ((FlowableEventDispatcherImpl) eventDispatcher).getAsyncEventDelivery();
+                if (asyncEventDelivery != null) {
+                    asyncEventDelivery.registerCommandContext(commandContext);
+                }
+            }
+        }
+        return next.execute(config, command);
+    }
+
+}
@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+
+/**
+ * Joins the completed instances of a parallel multi instance activity, see {@link ParallelMultiInstanceBehavior#joinCompletedInstances(ExecutionEntity)}.
+ * The job is scheduled on the execution of a completed instance, with the id of the activity as configuration.
+ */
+public class ParallelMultiInstanceJoinJobHandler implements JobHandler {
+
+    public static final String TYPE = "parallel-multi-instance-join";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, Object execution, CommandContext commandContext) {
+        if (!(execution instanceof ExecutionEntity)) {
+            return;
+        }
+
+        // The multi instance activity could have been left already by an earlier join
+        ExecutionEntity miRootExecution = ((ExecutionEntity) execution).getParent();
+        if (miRootExecution == null || miRootExecution.isEnded() || !miRootExecution.isMultiInstanceRoot()
+                || !configuration.equals(miRootExecution.getCurrentActivityId())) {
+            return;
+        }
+
+        FlowElement flowElement = miRootExecution.getCurrentFlowElement();
+        if (flowElement instanceof FlowNode && ((FlowNode) flowElement).getBehavior() instanceof ParallelMultiInstanceBehavior) {
+            ((ParallelMultiInstanceBehavior) ((FlowNode) flowElement).getBehavior()).joinCompletedInstances(miRootExecution);
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntityManager;
+import org.flowable.engine.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.impl.util.json.JSONObject;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers a signal to all waiting executions one page of subscriptions at a time.
+ * <p>
+ * Every run of this job loads at most {@link ProcessEngineConfigurationImpl#getSignalBroadcastPageSize()} subscriptions, ordered by id, and
+ * schedules an async event job for each of them, so the subscriptions are triggered in parallel by the async executors of all nodes. When the
+ * page was full, a new broadcast job continuing after the last subscription id is scheduled. Only subscriptions that already existed when the
+ * broadcast started are signaled.
+ * <p>
+ * The configuration of the pending broadcast job holds the number of subscriptions handled so far, which can be used to follow the progress
+ * of a broadcast by querying the jobs with handler type {@link #TYPE}.
+ */
+public class SignalBroadcastJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SignalBroadcastJobHandler.class);
+
+    public static final String TYPE = "signal-broadcast";
+
+    public static final String PROPERTYNAME_SIGNAL_NAME = "signalName";
+    public static final String PROPERTYNAME_TENANT_ID = "tenantId";
+    public static final String PROPERTYNAME_AFTER_ID = "afterId";
+    public static final String PROPERTYNAME_CREATED_BEFORE = "createdBefore";
+    public static final String PROPERTYNAME_SIGNALED_COUNT = "signaledCount";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, Object execution, CommandContext commandContext) {
+        JSONObject cfgJson = new JSONObject(configuration);
+        String signalName = cfgJson.getString(PROPERTYNAME_SIGNAL_NAME);
+        String tenantId = cfgJson.optString(PROPERTYNAME_TENANT_ID, null);
+        String afterId = cfgJson.optString(PROPERTYNAME_AFTER_ID, null);
+        Date createdBefore = new Date(cfgJson.getLong(PROPERTYNAME_CREATED_BEFORE));
+        long signaledCount = cfgJson.optLong(PROPERTYNAME_SIGNALED_COUNT, 0L);
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        int pageSize = processEngineConfiguration.getSignalBroadcastPageSize();
+
+        EventSubscriptionEntityManager eventSubscriptionEntityManager = CommandContextUtil.getEventSubscriptionEntityManager(commandContext);
+        List<SignalEventSubscriptionEntity> signalEvents = eventSubscriptionEntityManager.findSignalEventSubscriptionsByEventName(
+                signalName, tenantId, afterId, createdBefore, pageSize);
+
+        for (SignalEventSubscriptionEntity signalEventSubscriptionEntity : signalEvents) {
+            // Process instance scoped signals must be thrown within the process itself
+            if (signalEventSubscriptionEntity.isGlobalScoped()) {
+
+                if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, signalEventSubscriptionEntity.getProcessDefinitionId())) {
+                    Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+                    compatibilityHandler.signalEventReceived(signalEventSubscriptionEntity, null, true);
+
+                } else {
+                    processEngineConfiguration.getEventDispatcher().dispatchEvent(
+                            FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, signalEventSubscriptionEntity.getActivityId(), signalName,
+                                    null, signalEventSubscriptionEntity.getExecutionId(), signalEventSubscriptionEntity.getProcessInstanceId(),
+                                    signalEventSubscriptionEntity.getProcessDefinitionId()));
+
+                    eventSubscriptionEntityManager.eventReceived(signalEventSubscriptionEntity, null, true);
+                }
+                signaledCount++;
+            }
+        }
+
+        if (signalEvents.size() >= pageSize) {
+            String lastId = signalEvents.get(signalEvents.size() - 1).getId();
+            scheduleBroadcastJob(createConfiguration(signalName, tenantId, lastId, createdBefore, signaledCount), tenantId, commandContext);
+            LOGGER.info("Broadcast of signal '{}': scheduled {} subscriptions so far, continuing after subscription {}", signalName, signaledCount, lastId);
+
+        } else {
+            LOGGER.info("Broadcast of signal '{}' finished: scheduled {} subscriptions", signalName, signaledCount);
+        }
+    }
+
+    public static String createConfiguration(String signalName, String tenantId, String afterId, Date createdBefore, long signaledCount) {
+        JSONObject cfgJson = new JSONObject();
+        cfgJson.put(PROPERTYNAME_SIGNAL_NAME, signalName);
+        if (tenantId != null) {
+            cfgJson.put(PROPERTYNAME_TENANT_ID, tenantId);
+        }
+        if (afterId != null) {
+            cfgJson.put(PROPERTYNAME_AFTER_ID, afterId);
+        }
+        cfgJson.put(PROPERTYNAME_CREATED_BEFORE, createdBefore.getTime());
+        cfgJson.put(PROPERTYNAME_SIGNALED_COUNT, signaledCount);
+        return cfgJson.toString();
+    }
+
+    public static long getSignaledCountFromConfiguration(String jobHandlerConfiguration) {
+        return new JSONObject(jobHandlerConfiguration).optLong(PROPERTYNAME_SIGNALED_COUNT, 0L);
+    }
+
+    public static JobEntity scheduleBroadcastJob(String configuration, String tenantId, CommandContext commandContext) {
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        job.setJobType(JobEntity.JOB_TYPE_MESSAGE);
+        job.setJobHandlerType(TYPE);
+        job.setJobHandlerConfiguration(configuration);
+        if (tenantId != null) {
+            job.setTenantId(tenantId);
+        }
+        jobService.scheduleAsyncJob(job);
+        return job;
+    }
+
+}
@@ -23,6 +23,12 @@ import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
@@ -44,6 +50,7 @@ public class DeploymentManager {
 
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
+    protected LatestProcessDefinitionCache latestProcessDefinitionCache;
     protected DeploymentCache<Object> appResourceCache;
     protected DeploymentCache<Object> knowledgeBaseCache; // Needs to be object to avoid an import to Drools in this core class
     protected List<Deployer> deployers;
@@ -60,6 +67,15 @@ public class DeploymentManager {
         for (Deployer deployer : deployers) {
             deployer.deploy(deployment, deploymentSettings);
         }
+
+        if (latestProcessDefinitionCache != null && deployment.isNew()) {
+            List<ProcessDefinitionEntity> processDefinitions = deployment.getDeployedArtifacts(ProcessDefinitionEntity.class);
+            if (processDefinitions != null) {
+                for (ProcessDefinitionEntity processDefinition : processDefinitions) {
+                    removeLatestProcessDefinitionFromCache(processDefinition.getKey());
+                }
+            }
+        }
     }
 
     public ProcessDefinition findDeployedProcessDefinitionById(String processDefinitionId) {
@@ -82,24 +98,78 @@ public class DeploymentManager {
     }
 
     public ProcessDefinition findDeployedLatestProcessDefinitionByKey(String processDefinitionKey) {
-        ProcessDefinition processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
+        ProcessDefinition processDefinition = findLatestProcessDefinitionInCache(processDefinitionKey, null);
+        if (processDefinition != null) {
+            return processDefinition;
+        }
+
+        processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
 
         if (processDefinition == null) {
             throw new FlowableObjectNotFoundException("no processes deployed with key '" + processDefinitionKey + "'", ProcessDefinition.class);
         }
         processDefinition = resolveProcessDefinition(processDefinition).getProcessDefinition();
+        addLatestProcessDefinitionToCache(processDefinitionKey, null, processDefinition);
         return processDefinition;
     }
 
     public ProcessDefinition findDeployedLatestProcessDefinitionByKeyAndTenantId(String processDefinitionKey, String tenantId) {
-        ProcessDefinition processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, tenantId);
+        ProcessDefinition processDefinition = findLatestProcessDefinitionInCache(processDefinitionKey, tenantId);
+        if (processDefinition != null) {
+            return processDefinition;
+        }
+
+        processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, tenantId);
         if (processDefinition == null) {
             throw new FlowableObjectNotFoundException("no processes deployed with key '" + processDefinitionKey + "' for tenant identifier '" + tenantId + "'", ProcessDefinition.class);
         }
         processDefinition = resolveProcessDefinition(processDefinition).getProcessDefinition();
+        addLatestProcessDefinitionToCache(processDefinitionKey, tenantId, processDefinition);
         return processDefinition;
     }
 
+    /**
+     * Returns the latest process definition with the given key and tenant when both the id of the latest version and the process definition itself are cached.
+     */
+    protected ProcessDefinition findLatestProcessDefinitionInCache(String processDefinitionKey, String tenantId) {
+        if (latestProcessDefinitionCache == null) {
+            return null;
+        }
+
+        String processDefinitionId = latestProcessDefinitionCache.get(processDefinitionKey, tenantId);
+        if (processDefinitionId == null) {
+            return null;
+        }
+
+        ProcessDefinitionCacheEntry cacheEntry = processDefinitionCache.get(processDefinitionId);
+        return cacheEntry != null ? cacheEntry.getProcessDefinition() : null;
+    }
+
+    protected void addLatestProcessDefinitionToCache(String processDefinitionKey, String tenantId, ProcessDefinition processDefinition) {
+        if (latestProcessDefinitionCache != null) {
+            latestProcessDefinitionCache.add(processDefinitionKey, tenantId, processDefinition.getId());
+        }
+    }
+
+    protected void removeLatestProcessDefinitionFromCache(final String processDefinitionKey) {
+        latestProcessDefinitionCache.remove(processDefinitionKey);
+
+        // Concurrent lookups could cache the previous latest version until the transaction ends,
+        // and a rollback leaves a version behind that does not exist
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            TransactionListener transactionListener = new TransactionListener() {
+
+                @Override
+                public void execute(CommandContext commandContext) {
+                    latestProcessDefinitionCache.remove(processDefinitionKey);
+                }
+            };
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, transactionListener);
+            transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, transactionListener);
+        }
+    }
+
     public ProcessDefinition findDeployedProcessDefinitionByKeyAndVersionAndTenantId(String processDefinitionKey, Integer processDefinitionVersion, String tenantId) {
         ProcessDefinition processDefinition = (ProcessDefinitionEntity) processDefinitionEntityManager
                 .findProcessDefinitionByKeyAndVersionAndTenantId(processDefinitionKey, processDefinitionVersion, tenantId);
@@ -124,9 +194,13 @@ public class DeploymentManager {
                 return Flowable5Util.getFlowable5CompatibilityHandler().resolveProcessDefinition(processDefinition);
             }
 
+            long loadStartTime = System.currentTimeMillis();
             DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
             deployment.setNew(false);
             deploy(deployment, null);
+            if (processDefinitionCache instanceof ConcurrentDeploymentCache) {
+                ((ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) processDefinitionCache).recordLoadTime(System.currentTimeMillis() - loadStartTime);
+            }
             cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
 
             if (cachedProcessDefinition == null) {
@@ -211,6 +285,9 @@ public class DeploymentManager {
         for (ProcessDefinition processDefinition : processDefinitions) {
             processDefinitionCache.remove(processDefinition.getId());
             processDefinitionInfoCache.remove(processDefinition.getId());
+            if (latestProcessDefinitionCache != null) {
+                removeLatestProcessDefinitionFromCache(processDefinition.getKey());
+            }
         }
 
         appResourceCache.remove(deploymentId);
@@ -244,6 +321,14 @@ public class DeploymentManager {
         this.processDefinitionInfoCache = processDefinitionInfoCache;
     }
 
+    public LatestProcessDefinitionCache getLatestProcessDefinitionCache() {
+        return latestProcessDefinitionCache;
+    }
+
+    public void setLatestProcessDefinitionCache(LatestProcessDefinitionCache latestProcessDefinitionCache) {
+        this.latestProcessDefinitionCache = latestProcessDefinitionCache;
+    }
+
     public DeploymentCache<Object> getKnowledgeBaseCache() {
         return knowledgeBaseCache;
     }
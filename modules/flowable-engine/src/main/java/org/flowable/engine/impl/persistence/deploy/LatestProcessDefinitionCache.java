@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps a process definition key (and tenant) to the id of the latest version of that process definition,
+ * so the latest process definition can be found without querying the database.
+ * <p>
+ * The mapping of a key is removed when a process definition with that key is deployed or deleted on this node.
+ * Since other nodes of a cluster can deploy new versions as well, a mapping is only used for the configured
+ * staleness check interval, after which the latest version is looked up in the database again.
+ */
+public class LatestProcessDefinitionCache {
+
+    // Looking up the latest version without tenant is not the same as looking it up for the empty tenant id
+    protected static final String NO_TENANT_KEY = "no-tenant";
+    protected static final String TENANT_KEY_PREFIX = "tenant:";
+
+    protected ConcurrentMap<String, ConcurrentMap<String, CacheEntry>> cache = new ConcurrentHashMap<>();
+
+    /** The time (in ms) a mapping is used before it is checked in the database again. When not positive, mappings never expire. */
+    protected long stalenessCheckInterval;
+
+    public LatestProcessDefinitionCache(long stalenessCheckInterval) {
+        this.stalenessCheckInterval = stalenessCheckInterval;
+    }
+
+    /**
+     * Returns the id of the latest version of the process definition with the given key and tenant (null when there is no tenant),
+     * or null when it is not cached or the mapping needs to be checked again.
+     */
+    public String get(String processDefinitionKey, String tenantId) {
+        ConcurrentMap<String, CacheEntry> tenantEntries = cache.get(processDefinitionKey);
+        if (tenantEntries == null) {
+            return null;
+        }
+
+        CacheEntry entry = tenantEntries.get(getTenantKey(tenantId));
+        if (entry == null) {
+            return null;
+        }
+
+        if (stalenessCheckInterval > 0 && System.currentTimeMillis() - entry.addedTime > stalenessCheckInterval) {
+            tenantEntries.remove(getTenantKey(tenantId), entry);
+            return null;
+        }
+        return entry.processDefinitionId;
+    }
+
+    public void add(String processDefinitionKey, String tenantId, String processDefinitionId) {
+        ConcurrentMap<String, CacheEntry> tenantEntries = cache.get(processDefinitionKey);
+        if (tenantEntries == null) {
+            ConcurrentMap<String, CacheEntry> newTenantEntries = new ConcurrentHashMap<>();
+            tenantEntries = cache.putIfAbsent(processDefinitionKey, newTenantEntries);
+            if (tenantEntries == null) {
+                tenantEntries = newTenantEntries;
+            }
+        }
+        tenantEntries.put(getTenantKey(tenantId), new CacheEntry(processDefinitionId, System.currentTimeMillis()));
+    }
+
+    /**
+     * Removes the mappings of the given process definition key for all tenants.
+     */
+    public void remove(String processDefinitionKey) {
+        cache.remove(processDefinitionKey);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public long getStalenessCheckInterval() {
+        return stalenessCheckInterval;
+    }
+
+    public void setStalenessCheckInterval(long stalenessCheckInterval) {
+        this.stalenessCheckInterval = stalenessCheckInterval;
+    }
+
+    protected String getTenantKey(String tenantId) {
+        return tenantId != null ? TENANT_KEY_PREFIX + tenantId : NO_TENANT_KEY;
+    }
+
+    protected static class CacheEntry {
+
+        protected final String processDefinitionId;
+        protected final long addedTime;
+
+        public CacheEntry(String processDefinitionId, long addedTime) {
+            this.processDefinitionId = processDefinitionId;
+            this.addedTime = addedTime;
+        }
+
+    }
+
+}
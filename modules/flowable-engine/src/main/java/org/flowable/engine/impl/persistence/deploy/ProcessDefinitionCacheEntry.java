@@ -16,6 +16,7 @@ import java.io.Serializable;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.Process;
+import org.flowable.engine.impl.util.ProcessReachabilityIndex;
 import org.flowable.engine.repository.ProcessDefinition;
 
 /**
@@ -28,6 +29,7 @@ public class ProcessDefinitionCacheEntry implements Serializable {
     protected ProcessDefinition processDefinition;
     protected BpmnModel bpmnModel;
     protected Process process;
+    protected transient volatile ProcessReachabilityIndex reachabilityIndex;
 
     public ProcessDefinitionCacheEntry(ProcessDefinition processDefinition, BpmnModel bpmnModel, Process process) {
         this.processDefinition = processDefinition;
@@ -57,6 +59,19 @@ public class ProcessDefinitionCacheEntry implements Serializable {
 
     public void setProcess(Process process) {
         this.process = process;
+        this.reachabilityIndex = null;
+    }
+
+    /**
+     * Returns the reachability index of the process, which is built the first time it's needed and then kept for the lifetime of this cache entry.
+     */
+    public ProcessReachabilityIndex getReachabilityIndex() {
+        ProcessReachabilityIndex index = reachabilityIndex;
+        if (index == null && process != null) {
+            index = new ProcessReachabilityIndex(process);
+            reachabilityIndex = index;
+        }
+        return index;
     }
 
 }
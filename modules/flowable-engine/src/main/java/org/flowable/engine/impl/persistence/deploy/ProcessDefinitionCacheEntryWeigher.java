@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.Process;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheWeigher;
+
+/**
+ * Estimates the weight of a cached process definition as the number of flow elements and artifacts of its {@link BpmnModel}.
+ * The model is shared by all process definitions of the same resource, so it is fully counted for each of them.
+ */
+public class ProcessDefinitionCacheEntryWeigher implements DeploymentCacheWeigher<ProcessDefinitionCacheEntry> {
+
+    @Override
+    public long weigh(ProcessDefinitionCacheEntry cacheEntry) {
+        long weight = 1L;
+        BpmnModel bpmnModel = cacheEntry.getBpmnModel();
+        if (bpmnModel != null) {
+            for (Process process : bpmnModel.getProcesses()) {
+                // The flow element map also contains the elements of (event) sub processes
+                weight += process.getFlowElementMap().size() + process.getArtifacts().size();
+            }
+        } else if (cacheEntry.getProcess() != null) {
+            weight += cacheEntry.getProcess().getFlowElementMap().size();
+        }
+        return weight;
+    }
+
+}
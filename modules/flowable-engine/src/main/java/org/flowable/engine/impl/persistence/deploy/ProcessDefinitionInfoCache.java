@@ -43,6 +43,12 @@ public class ProcessDefinitionInfoCache {
     protected Map<String, ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
 
+    /**
+     * The time (in ms) a cached info object is used without checking its revision in the database.
+     * When not positive, the revision is checked on every get.
+     */
+    protected long validationInterval;
+
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
         this.commandExecutor = commandExecutor;
@@ -106,14 +112,25 @@ public class ProcessDefinitionInfoCache {
         return cache.size();
     }
 
+    public long getValidationInterval() {
+        return validationInterval;
+    }
+
+    public void setValidationInterval(long validationInterval) {
+        this.validationInterval = validationInterval;
+    }
+
     protected ProcessDefinitionInfoCacheObject retrieveProcessDefinitionInfoCacheObject(String processDefinitionId, CommandContext commandContext) {
         ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
         ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
-        } else {
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        long now = System.currentTimeMillis();
+        if (cacheObject != null && validationInterval > 0 && now - cacheObject.getLastValidationTime() < validationInterval) {
+            return cacheObject;
+        }
+
+        if (cacheObject == null) {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
@@ -136,6 +153,9 @@ public class ProcessDefinitionInfoCache {
             cacheObject.setInfoNode(objectMapper.createObjectNode());
         }
 
+        cacheObject.setLastValidationTime(now);
+        cache.put(processDefinitionId, cacheObject);
+
         return cacheObject;
     }
 
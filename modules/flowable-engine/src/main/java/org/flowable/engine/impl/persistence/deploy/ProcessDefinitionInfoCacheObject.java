@@ -22,6 +22,7 @@ public class ProcessDefinitionInfoCacheObject {
     protected String id;
     protected int revision;
     protected ObjectNode infoNode;
+    protected long lastValidationTime;
 
     public String getId() {
         return id;
@@ -46,4 +47,12 @@ public class ProcessDefinitionInfoCacheObject {
     public void setInfoNode(ObjectNode infoNode) {
         this.infoNode = infoNode;
     }
-}
\ No newline at end of file
+
+    public long getLastValidationTime() {
+        return lastValidationTime;
+    }
+
+    public void setLastValidationTime(long lastValidationTime) {
+        this.lastValidationTime = lastValidationTime;
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -74,6 +75,12 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
 
+    /**
+     * Returns at most maxResults signal event subscriptions for the given event name, ordered by id and with an id larger than afterId (if not null),
+     * that were created at or before createdBefore (if not null). Used to page through large numbers of subscriptions.
+     */
+    List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId, String afterId, Date createdBefore, int maxResults);
+
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName);
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String name, String executionId);
@@ -14,6 +14,7 @@
 package org.flowable.engine.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -195,6 +196,11 @@ public class EventSubscriptionEntityManagerImpl extends AbstractEntityManager<Ev
         return eventSubscriptionDataManager.findSignalEventSubscriptionsByEventName(eventName, tenantId);
     }
 
+    @Override
+    public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId, String afterId, Date createdBefore, int maxResults) {
+        return eventSubscriptionDataManager.findSignalEventSubscriptionsByEventName(eventName, tenantId, afterId, createdBefore, maxResults);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName) {
         return eventSubscriptionDataManager.findSignalEventSubscriptionsByProcessInstanceAndEventName(processInstanceId, eventName);
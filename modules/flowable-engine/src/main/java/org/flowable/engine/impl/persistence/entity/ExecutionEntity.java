@@ -137,4 +137,10 @@ public interface ExecutionEntity extends DelegateExecution, Execution, ProcessIn
     
     Object setVariableLocal(String variableName, Object value, ExecutionEntity sourceExecution, boolean fetchAllVariables);
 
+    /**
+     * Sets a local variable used for the internal bookkeeping of the engine. Unlike {@link #setVariableLocal(String, Object)}, the variable is
+     * not recorded in the history.
+     */
+    void setInternalVariableLocal(String variableName, Object value);
+
 }
@@ -27,7 +27,9 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.db.SuspensionState;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionEntityIndex;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.CountingEntityUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
@@ -284,12 +286,14 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setCurrentFlowElement(FlowElement currentFlowElement) {
+        String oldActivityId = this.activityId;
         this.currentFlowElement = currentFlowElement;
         if (currentFlowElement != null) {
             this.activityId = currentFlowElement.getId();
         } else {
             this.activityId = null;
         }
+        updateCachedEntityIndexes(oldActivityId, activityId);
     }
 
     @Override
@@ -413,7 +417,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     public void setProcessInstance(ExecutionEntity processInstance) {
         this.processInstance = (ExecutionEntityImpl) processInstance;
         if (processInstance != null) {
+            String oldProcessInstanceId = this.processInstanceId;
             this.processInstanceId = this.processInstance.getId();
+            updateCachedEntityIndexes(oldProcessInstanceId, processInstanceId);
         }
     }
 
@@ -439,6 +445,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setParent(ExecutionEntity parent) {
+        String oldParentId = this.parentId;
         this.parent = (ExecutionEntityImpl) parent;
 
         if (parent != null) {
@@ -446,6 +453,25 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         } else {
             this.parentId = null;
         }
+        updateCachedEntityIndexes(oldParentId, parentId);
+    }
+
+    /**
+     * The executions in the {@link EntityCache} are indexed on parent id, process instance id and activity id (see {@link ExecutionEntityIndex}),
+     * so the indexes need to be updated when one of those changes.
+     */
+    protected void updateCachedEntityIndexes(String oldValue, String newValue) {
+        if (oldValue == null ? newValue == null : oldValue.equals(newValue)) {
+            return;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            EntityCache entityCache = (EntityCache) commandContext.getSessions().get(EntityCache.class);
+            if (entityCache != null) {
+                entityCache.updateIndexes(this);
+            }
+        }
     }
 
     // super- and subprocess executions /////////////////////////////////////////
@@ -759,6 +785,20 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         CommandContextUtil.getHistoryManager().recordHistoricDetailVariableCreate(variableInstance, this, true);
     }
     
+    @Override
+    public void setInternalVariableLocal(String variableName, Object value) {
+        ensureVariableInstancesInitialized();
+
+        VariableInstanceEntity variableInstance = variableInstances.get(variableName);
+        if (variableInstance != null) {
+            variableInstance.setValue(value);
+        } else {
+            // The super implementation doesn't record the variable in the history
+            variableInstance = super.createVariableInstance(variableName, value);
+            CountingEntityUtil.handleInsertVariableInstanceEntityCount(variableInstance);
+        }
+    }
+
     @Override
     protected boolean isPropagateToHistoricVariable() {
         return false;
@@ -862,7 +902,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
+        String oldProcessInstanceId = this.processInstanceId;
         this.processInstanceId = processInstanceId;
+        updateCachedEntityIndexes(oldProcessInstanceId, processInstanceId);
     }
 
     @Override
@@ -872,7 +914,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setParentId(String parentId) {
+        String oldParentId = this.parentId;
         this.parentId = parentId;
+        updateCachedEntityIndexes(oldParentId, parentId);
     }
 
     @Override
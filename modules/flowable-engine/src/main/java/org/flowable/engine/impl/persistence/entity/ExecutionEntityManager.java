@@ -46,6 +46,11 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     List<ExecutionEntity> findChildExecutionsByParentExecutionId(String parentExecutionId);
 
+    /**
+     * Counts the child executions of the given execution that have a local variable with the given name, as stored in the database.
+     */
+    long findChildExecutionCountWithLocalVariable(String parentExecutionId, String variableName);
+
     List<ExecutionEntity> findChildExecutionsByProcessInstanceId(String processInstanceId);
 
     List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(String parentExecutionId, Collection<String> activityIds);
@@ -105,6 +105,11 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         return executionDataManager.findChildExecutionsByParentExecutionId(parentExecutionId);
     }
 
+    @Override
+    public long findChildExecutionCountWithLocalVariable(String parentExecutionId, String variableName) {
+        return executionDataManager.findChildExecutionCountWithLocalVariable(parentExecutionId, variableName);
+    }
+
     @Override
     public List<ExecutionEntity> findChildExecutionsByProcessInstanceId(String processInstanceId) {
         return executionDataManager.findChildExecutionsByProcessInstanceId(processInstanceId);
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -41,6 +42,8 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(final String eventName, final String tenantId);
 
+    List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(final String eventName, final String tenantId, final String afterId, final Date createdBefore, final int maxResults);
+
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName);
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(final String name, final String executionId);
@@ -33,6 +33,8 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     List<ExecutionEntity> findChildExecutionsByParentExecutionId(final String parentExecutionId);
 
+    long findChildExecutionCountWithLocalVariable(final String parentExecutionId, final String variableName);
+
     List<ExecutionEntity> findChildExecutionsByProcessInstanceId(final String processInstanceId);
 
     List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(final String parentExecutionId, final Collection<String> activityIds);
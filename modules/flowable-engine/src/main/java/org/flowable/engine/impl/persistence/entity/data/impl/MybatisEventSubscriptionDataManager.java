@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -141,6 +142,25 @@ public class MybatisEventSubscriptionDataManager extends AbstractProcessDataMana
         return toSignalEventSubscriptionEntityList(result);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(final String eventName, final String tenantId,
+            final String afterId, final Date createdBefore, final int maxResults) {
+
+        final String query = "selectSignalEventSubscriptionsByEventNameAfterId";
+
+        final Map<String, Object> params = new HashMap<>();
+        params.put("eventName", eventName);
+        params.put("afterId", afterId);
+        params.put("createdBefore", createdBefore);
+        if (tenantId != null && !tenantId.equals(ProcessEngineConfiguration.NO_TENANT_ID)) {
+            params.put("tenantId", tenantId);
+        }
+
+        List<EventSubscriptionEntity> result = getDbSqlSession().selectList(query, params, 0, maxResults);
+        return toSignalEventSubscriptionEntityList(result);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName) {
         final String query = "selectSignalEventSubscriptionsByProcessInstanceAndEventName";
@@ -139,6 +139,14 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         }
     }
 
+    @Override
+    public long findChildExecutionCountWithLocalVariable(final String parentExecutionId, final String variableName) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("parentExecutionId", parentExecutionId);
+        params.put("variableName", variableName);
+        return (Long) getDbSqlSession().selectOne("selectChildExecutionCountWithLocalVariable", params);
+    }
+
     @Override
     public List<ExecutionEntity> findChildExecutionsByProcessInstanceId(final String processInstanceId) {
         if (performanceSettings.isEnableEagerExecutionTreeFetching()) {
@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
+
+import org.flowable.engine.common.impl.persistence.cache.CachedEntityIndex;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+
+/**
+ * The {@link CachedEntityIndex} instances for cached executions.
+ * {@link org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl} updates these indexes when one of the indexed properties changes.
+ */
+public enum ExecutionEntityIndex implements CachedEntityIndex<ExecutionEntity> {
+
+    PARENT_ID {
+        @Override
+        public String getIndexValue(ExecutionEntity executionEntity) {
+            return executionEntity.getParentId();
+        }
+    },
+
+    PROCESS_INSTANCE_ID {
+        @Override
+        public String getIndexValue(ExecutionEntity executionEntity) {
+            return executionEntity.getProcessInstanceId();
+        }
+    },
+
+    ACTIVITY_ID {
+        @Override
+        public String getIndexValue(ExecutionEntity executionEntity) {
+            return executionEntity.getActivityId();
+        }
+    }
+
+}
@@ -13,12 +13,14 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByParentExecutionIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByParentExecutionIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
 
     @Override
     public boolean isRetained(ExecutionEntity entity, Object parameter) {
@@ -26,4 +28,14 @@ public class ExecutionsByParentExecutionIdEntityMatcher extends CachedEntityMatc
         return entity.getParentId() != null && entity.getParentId().equals((String) parameter);
     }
 
+    @Override
+    public CachedEntityIndex<ExecutionEntity> getIndex() {
+        return ExecutionEntityIndex.PARENT_ID;
+    }
+
+    @Override
+    public String getIndexValue(Object parameter) {
+        return (String) parameter;
+    }
+
 }
\ No newline at end of file
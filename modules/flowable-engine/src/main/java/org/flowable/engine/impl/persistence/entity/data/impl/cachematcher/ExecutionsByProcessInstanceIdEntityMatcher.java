@@ -13,12 +13,14 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByProcessInstanceIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByProcessInstanceIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
 
     @Override
     public boolean isRetained(ExecutionEntity entity, Object parameter) {
@@ -28,4 +30,14 @@ public class ExecutionsByProcessInstanceIdEntityMatcher extends CachedEntityMatc
                 && entity.getParentId() != null;
     }
 
+    @Override
+    public CachedEntityIndex<ExecutionEntity> getIndex() {
+        return ExecutionEntityIndex.PROCESS_INSTANCE_ID;
+    }
+
+    @Override
+    public String getIndexValue(Object parameter) {
+        return (String) parameter;
+    }
+
 }
\ No newline at end of file
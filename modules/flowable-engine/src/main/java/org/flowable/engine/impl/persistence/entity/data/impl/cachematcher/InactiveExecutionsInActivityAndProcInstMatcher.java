@@ -15,12 +15,14 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 import java.util.Map;
 
 import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class InactiveExecutionsInActivityAndProcInstMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class InactiveExecutionsInActivityAndProcInstMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
 
     @Override
     public boolean isRetained(ExecutionEntity executionEntity, Object parameter) {
@@ -35,4 +37,15 @@ public class InactiveExecutionsInActivityAndProcInstMatcher extends CachedEntity
                 && executionEntity.getActivityId().equals(activityId);
     }
 
+    @Override
+    public CachedEntityIndex<ExecutionEntity> getIndex() {
+        return ExecutionEntityIndex.ACTIVITY_ID;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexValue(Object parameter) {
+        return (String) ((Map<String, Object>) parameter).get("activityId");
+    }
+
 }
\ No newline at end of file
@@ -15,12 +15,14 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 import java.util.Map;
 
 import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class InactiveExecutionsInActivityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class InactiveExecutionsInActivityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
 
     @Override
     public boolean isRetained(ExecutionEntity entity, Object parameter) {
@@ -29,4 +31,15 @@ public class InactiveExecutionsInActivityMatcher extends CachedEntityMatcherAdap
         return !entity.isActive() && entity.getActivityId() != null && entity.getActivityId().equals(activityId);
     }
 
+    @Override
+    public CachedEntityIndex<ExecutionEntity> getIndex() {
+        return ExecutionEntityIndex.ACTIVITY_ID;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexValue(Object parameter) {
+        return (String) ((Map<String, Object>) parameter).get("activityId");
+    }
+
 }
\ No newline at end of file
@@ -28,6 +28,7 @@ import org.flowable.bpmn.model.SequenceFlow;
 import org.flowable.bpmn.model.StartEvent;
 import org.flowable.bpmn.model.SubProcess;
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 public class ExecutionGraphUtil {
@@ -72,7 +73,8 @@ public class ExecutionGraphUtil {
     public static boolean isReachable(String processDefinitionId, String sourceElementId, String targetElementId) {
 
         // Fetch source and target elements
-        Process process = ProcessDefinitionUtil.getProcess(processDefinitionId);
+        ProcessDefinitionCacheEntry cacheEntry = ProcessDefinitionUtil.getProcessDefinitionCacheEntry(processDefinitionId);
+        Process process = cacheEntry != null ? cacheEntry.getProcess() : ProcessDefinitionUtil.getProcess(processDefinitionId);
 
         FlowElement sourceFlowElement = process.getFlowElement(sourceElementId, true);
         FlowNode sourceElement = null;
@@ -97,6 +99,10 @@ public class ExecutionGraphUtil {
             throw new FlowableException("Invalid targetElementId '" + targetElementId + "': no element found for this id n process definition '" + processDefinitionId + "'");
         }
 
+        if (cacheEntry != null) {
+            return cacheEntry.getReachabilityIndex().isReachable(sourceElement.getId(), targetElement.getId());
+        }
+
         Set<String> visitedElements = new HashSet<>();
         return isReachable(process, sourceElement, targetElement, visitedElements);
     }
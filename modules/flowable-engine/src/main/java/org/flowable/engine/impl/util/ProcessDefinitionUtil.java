@@ -67,6 +67,19 @@ public class ProcessDefinitionUtil {
         }
     }
 
+    /**
+     * Returns the cache entry of the process definition, or null when there is no process engine configuration available (Flowable 5 compatibility).
+     */
+    public static ProcessDefinitionCacheEntry getProcessDefinitionCacheEntry(String processDefinitionId) {
+        if (Context.getCommandContext() == null || CommandContextUtil.getProcessEngineConfiguration() == null) {
+            return null;
+        }
+
+        DeploymentManager deploymentManager = CommandContextUtil.getProcessEngineConfiguration().getDeploymentManager();
+        ProcessDefinition processDefinitionEntity = deploymentManager.findDeployedProcessDefinitionById(processDefinitionId);
+        return deploymentManager.resolveProcessDefinition(processDefinitionEntity);
+    }
+
     public static BpmnModel getBpmnModel(String processDefinitionId) {
         if (CommandContextUtil.getProcessEngineConfiguration() == null) {
             return Flowable5Util.getFlowable5CompatibilityHandler().getProcessDefinitionBpmnModel(processDefinitionId);
@@ -0,0 +1,140 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowElementsContainer;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.SubProcess;
+
+/**
+ * Precomputed answer to {@link ExecutionGraphUtil#isReachable(Process, FlowNode, FlowNode, java.util.Set)} for every pair of flow nodes of a {@link Process}.
+ *
+ * The transitive closure of every flow node is stored as a {@link BitSet}, so a lookup doesn't need to walk the process model.
+ * The same rules as the graph traversal apply: a flow node without outgoing sequence flow continues with its parent subprocess
+ * and a start event of an event subprocess can't reach anything.
+ */
+public class ProcessReachabilityIndex implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Map<String, Integer> flowNodeIndexes;
+    protected BitSet[] reachableFlowNodes;
+
+    public ProcessReachabilityIndex(Process process) {
+        List<FlowNode> flowNodes = process.findFlowElementsOfType(FlowNode.class, true);
+
+        flowNodeIndexes = new HashMap<>(flowNodes.size() * 2);
+        for (int i = 0; i < flowNodes.size(); i++) {
+            flowNodeIndexes.put(flowNodes.get(i).getId(), i);
+        }
+
+        // The element an execution at the flow node actually continues from (-1 when it can't continue)
+        int[] continuingFlowNodes = new int[flowNodes.size()];
+        int[][] successors = new int[flowNodes.size()][];
+        for (int i = 0; i < flowNodes.size(); i++) {
+            FlowNode continuingFlowNode = getContinuingFlowNode(process, flowNodes.get(i));
+            continuingFlowNodes[i] = continuingFlowNode != null ? flowNodeIndexes.get(continuingFlowNode.getId()) : -1;
+            successors[i] = getSuccessors(process, continuingFlowNode);
+        }
+
+        reachableFlowNodes = new BitSet[flowNodes.size()];
+        Deque<Integer> stack = new ArrayDeque<>();
+        for (int i = 0; i < flowNodes.size(); i++) {
+            BitSet reachable = new BitSet(flowNodes.size());
+            BitSet visited = new BitSet(flowNodes.size());
+            visited.set(i);
+            stack.push(i);
+            while (!stack.isEmpty()) {
+                int current = stack.pop();
+                if (continuingFlowNodes[current] >= 0) {
+                    reachable.set(continuingFlowNodes[current]);
+                }
+                for (int successor : successors[current]) {
+                    if (!visited.get(successor)) {
+                        visited.set(successor);
+                        stack.push(successor);
+                    }
+                }
+            }
+            reachableFlowNodes[i] = reachable;
+        }
+    }
+
+    /**
+     * Verifies if the flow node with the given source identifier can reach the flow node with the target identifier through following sequence flow.
+     * Returns false when one of the identifiers is not a flow node of the process.
+     */
+    public boolean isReachable(String sourceFlowNodeId, String targetFlowNodeId) {
+        Integer sourceIndex = flowNodeIndexes.get(sourceFlowNodeId);
+        Integer targetIndex = flowNodeIndexes.get(targetFlowNodeId);
+        if (sourceIndex == null || targetIndex == null) {
+            return false;
+        }
+        return reachableFlowNodes[sourceIndex].get(targetIndex);
+    }
+
+    protected FlowNode getContinuingFlowNode(Process process, FlowNode flowNode) {
+        if (flowNode instanceof StartEvent && ExecutionGraphUtil.isInEventSubprocess(flowNode)) {
+            return null;
+        }
+
+        if (flowNode.getOutgoingFlows().isEmpty()) {
+            FlowElementsContainer parentElement = process.findParent(flowNode);
+            if (parentElement instanceof SubProcess) {
+                return (SubProcess) parentElement;
+            }
+            return null;
+        }
+
+        return flowNode;
+    }
+
+    protected int[] getSuccessors(Process process, FlowNode flowNode) {
+        if (flowNode == null) {
+            return new int[0];
+        }
+
+        List<SequenceFlow> sequenceFlows = flowNode.getOutgoingFlows();
+        int[] successors = new int[sequenceFlows.size()];
+        int count = 0;
+        for (SequenceFlow sequenceFlow : sequenceFlows) {
+            FlowElement sequenceFlowTarget = process.getFlowElement(sequenceFlow.getTargetRef(), true);
+            if (sequenceFlowTarget instanceof FlowNode) {
+                Integer successorIndex = flowNodeIndexes.get(sequenceFlowTarget.getId());
+                if (successorIndex != null) {
+                    successors[count++] = successorIndex;
+                }
+            }
+        }
+
+        if (count < successors.length) {
+            int[] result = new int[count];
+            System.arraycopy(successors, 0, result, 0, count);
+            return result;
+        }
+        return successors;
+    }
+
+}
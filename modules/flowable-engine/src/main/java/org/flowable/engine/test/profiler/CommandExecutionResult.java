@@ -23,6 +23,7 @@ public class CommandExecutionResult {
     protected String commandFqn;
     protected long totalTimeInMs;
     protected long databaseTimeInMs;
+    protected long dbRoundtrips;
 
     protected Map<String, Long> dbSelects = new HashMap<>();
     protected Map<String, Long> dbInserts = new HashMap<>();
@@ -57,6 +58,18 @@ public class CommandExecutionResult {
         this.databaseTimeInMs += time;
     }
 
+    public long getDbRoundtrips() {
+        return dbRoundtrips;
+    }
+
+    public void setDbRoundtrips(long dbRoundtrips) {
+        this.dbRoundtrips = dbRoundtrips;
+    }
+
+    public void addDbRoundtrips(long roundtrips) {
+        this.dbRoundtrips += roundtrips;
+    }
+
     public Map<String, Long> getDbSelects() {
         return dbSelects;
     }
@@ -26,6 +26,7 @@ public class CommandStats {
 
     protected List<Long> commandExecutionTimings = new ArrayList<>();
     protected List<Long> databaseTimings = new ArrayList<>();
+    protected List<Long> dbRoundtrips = new ArrayList<>();
 
     protected Map<String, Long> dbSelects = new HashMap<>();
     protected Map<String, Long> dbInserts = new HashMap<>();
@@ -38,6 +39,7 @@ public class CommandStats {
 
             commandExecutionTimings.add(execution.getTotalTimeInMs());
             databaseTimings.add(execution.getDatabaseTimeInMs());
+            dbRoundtrips.add(execution.getDbRoundtrips());
 
             addToDbOperation(execution.getDbSelects(), dbSelects);
             addToDbOperation(execution.getDbInserts(), dbInserts);
@@ -89,6 +91,15 @@ public class CommandStats {
         return Math.round(average * 100.0) / 100.0;
     }
 
+    public double getAverageDbRoundtrips() {
+        long total = 0;
+        for (Long roundtrips : dbRoundtrips) {
+            total += roundtrips.longValue();
+        }
+        double average = (double) total / (double) commandExecutionTimings.size();
+        return Math.round(average * 100.0) / 100.0;
+    }
+
     public Map<String, Long> getDbSelects() {
         return dbSelects;
     }
@@ -53,6 +53,7 @@ public class ConsoleLogger {
                 System.out.println("Average execution time: " + stats.getAverageExecutionTime()
                         + " ms (Average database time: " + stats.getAverageDatabaseExecutionTime()
                         + " ms (" + stats.getAverageDatabaseExecutionTimePercentage() + "%) )");
+                System.out.println("Average database roundtrips: " + stats.getAverageDbRoundtrips());
 
                 System.out.println();
                 System.out.println("Database selects:");
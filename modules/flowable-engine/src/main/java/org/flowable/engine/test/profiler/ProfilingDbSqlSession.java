@@ -14,7 +14,9 @@ package org.flowable.engine.test.profiler;
 
 import java.sql.Connection;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.engine.common.impl.db.BulkDeleteOperation;
 import org.flowable.engine.common.impl.db.DbSqlSession;
@@ -68,6 +70,7 @@ public class ProfilingDbSqlSession extends DbSqlSession {
     public Object selectOne(String statement, Object parameter) {
         if (getCurrentCommandExecution() != null) {
             getCurrentCommandExecution().addDbSelect(statement);
+            getCurrentCommandExecution().addDbRoundtrips(1);
         }
         return super.selectOne(statement, parameter);
     }
@@ -76,6 +79,9 @@ public class ProfilingDbSqlSession extends DbSqlSession {
     public <T extends Entity> T selectById(Class<T> entityClass, String id, boolean useCache) {
         if (getCurrentCommandExecution() != null) {
             getCurrentCommandExecution().addDbSelect("selectById " + entityClass.getName());
+            if (!useCache || entityCache.findInCache(entityClass, id) == null) {
+                getCurrentCommandExecution().addDbRoundtrips(1);
+            }
         }
         return super.selectById(entityClass, id, useCache);
     }
@@ -86,6 +92,7 @@ public class ProfilingDbSqlSession extends DbSqlSession {
     public List selectListWithRawParameter(String statement, Object parameter, boolean useCache) {
         if (getCurrentCommandExecution() != null) {
             getCurrentCommandExecution().addDbSelect(statement);
+            getCurrentCommandExecution().addDbRoundtrips(1);
         }
         return super.selectListWithRawParameter(statement, parameter, useCache);
     }
@@ -105,6 +112,7 @@ public class ProfilingDbSqlSession extends DbSqlSession {
         super.flushRegularInsert(entity, clazz);
         if (getCurrentCommandExecution() != null) {
             getCurrentCommandExecution().addDbInsert(clazz.getName());
+            getCurrentCommandExecution().addDbRoundtrips(1);
         }
     }
 
@@ -112,6 +120,8 @@ public class ProfilingDbSqlSession extends DbSqlSession {
     protected void flushBulkInsert(Collection<Entity> entities, Class<? extends Entity> clazz) {
         if (getCurrentCommandExecution() != null && entities.size() > 0) {
             getCurrentCommandExecution().addDbInsert(clazz.getName() + "-bulk-with-" + entities.size());
+            int maxNrOfStatements = dbSqlSessionFactory.getMaxNrOfStatementsInBulkInsert();
+            getCurrentCommandExecution().addDbRoundtrips((entities.size() + maxNrOfStatements - 1) / maxNrOfStatements);
         }
         super.flushBulkInsert(entities, clazz);
     }
@@ -121,8 +131,17 @@ public class ProfilingDbSqlSession extends DbSqlSession {
     @Override
     protected void flushUpdates() {
         if (getCurrentCommandExecution() != null) {
+            Set<Class<?>> updatedClasses = new HashSet<>();
             for (Entity persistentObject : updatedObjects) {
                 getCurrentCommandExecution().addDbUpdate(persistentObject.getClass().getName());
+                updatedClasses.add(persistentObject.getClass());
+            }
+            
+            // Batched updates need one roundtrip per update statement, regular updates one per entity
+            if (dbSqlSessionFactory.isBatchUpdatesAndDeletesEnabled() && updatedObjects.size() > 1) {
+                getCurrentCommandExecution().addDbRoundtrips(updatedClasses.size());
+            } else {
+                getCurrentCommandExecution().addDbRoundtrips(updatedObjects.size());
             }
         }
 
@@ -138,6 +157,12 @@ public class ProfilingDbSqlSession extends DbSqlSession {
             for (Entity entity : entitiesToDelete) {
                 getCurrentCommandExecution().addDbDelete(entity.getClass().getName());
             }
+            
+            if (dbSqlSessionFactory.isBatchUpdatesAndDeletesEnabled() && entitiesToDelete.size() > 1) {
+                getCurrentCommandExecution().addDbRoundtrips(1);
+            } else {
+                getCurrentCommandExecution().addDbRoundtrips(entitiesToDelete.size());
+            }
         }
     }
 
@@ -147,6 +172,7 @@ public class ProfilingDbSqlSession extends DbSqlSession {
             if (bulkDeleteOperations.containsKey(entityClass)) {
                 for (BulkDeleteOperation bulkDeleteOperation : bulkDeleteOperations.get(entityClass)) {
                     getCurrentCommandExecution().addDbDelete("Bulk-delete-" + bulkDeleteOperation.getClass());
+                    getCurrentCommandExecution().addDbRoundtrips(1);
                 }
             }
         }
@@ -0,0 +1,238 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.delegate.event.FlowableAsyncEventListener;
+import org.flowable.engine.common.api.delegate.event.FlowableEngineEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.impl.event.AsyncEventDelivery;
+import org.flowable.engine.common.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.engine.common.impl.event.FlowableEventImpl;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandContextCloseListener;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+
+/**
+ * Test case for the delivery of events to {@link FlowableAsyncEventListener}s after the transaction has committed.
+ */
+public class AsyncEventDeliveryTest extends PluggableFlowableTestCase {
+
+    protected AsyncEventDelivery asyncEventDelivery;
+    protected CollectingAsyncEventListener listener;
+
+    @Override
+    protected void initializeServices() {
+        super.initializeServices();
+
+        asyncEventDelivery = new AsyncEventDelivery();
+        asyncEventDelivery.setPoolSize(1);
+        asyncEventDelivery.start();
+        getEventDispatcher().setAsyncEventDelivery(asyncEventDelivery);
+
+        listener = new CollectingAsyncEventListener();
+        processEngineConfiguration.getEventDispatcher().addEventListener(listener, FlowableEngineEventType.CUSTOM);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        super.tearDown();
+
+        processEngineConfiguration.getEventDispatcher().removeEventListener(listener);
+        getEventDispatcher().setAsyncEventDelivery(null);
+        asyncEventDelivery.shutdown();
+    }
+
+    public void testEventsDeliveredAfterCommit() {
+        managementService.executeCommand(new DispatchEventsCommand("first", "second", "third"));
+
+        listener.waitForEvents(3);
+        assertEquals("first", getMarker(listener.getEvents().get(0)));
+        assertEquals("second", getMarker(listener.getEvents().get(1)));
+        assertEquals("third", getMarker(listener.getEvents().get(2)));
+        assertNotSame(Thread.currentThread(), listener.getThreads().get(0));
+
+        asyncEventDelivery.shutdown();
+        assertEquals(3, asyncEventDelivery.getDeliveredEventCount());
+        assertEquals(0, asyncEventDelivery.getQueuedEventCount());
+        assertEquals(0, asyncEventDelivery.getCallerDeliveredEventCount());
+        assertEquals(0, asyncEventDelivery.getDroppedEventCount());
+    }
+
+    public void testEventsOfRolledBackTransactionNotDelivered() {
+        try {
+            managementService.executeCommand(new DispatchEventsCommand("rolledBack") {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    super.execute(commandContext);
+                    throw new FlowableException("rollback");
+                }
+            });
+            fail();
+        } catch (FlowableException e) {
+            assertEquals("rollback", e.getMessage());
+        }
+
+        managementService.executeCommand(new DispatchEventsCommand("committed"));
+
+        // shutting down waits for all queued events to be delivered
+        asyncEventDelivery.shutdown();
+        assertEquals(1, listener.getEvents().size());
+        assertEquals("committed", getMarker(listener.getEvents().get(0)));
+    }
+
+    public void testEventsDispatchedByCloseListenerDeliveredAfterCommit() {
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                commandContext.addCloseListener(new CommandContextCloseListener() {
+
+                    @Override
+                    public void closing(CommandContext commandContext) {
+                        dispatchEvent("closing");
+                    }
+
+                    @Override
+                    public void afterSessionsFlush(CommandContext commandContext) {
+                        dispatchEvent("afterSessionsFlush");
+                    }
+
+                    @Override
+                    public void closed(CommandContext commandContext) {
+                        dispatchEvent("closed");
+                    }
+
+                    @Override
+                    public void closeFailure(CommandContext commandContext) {
+                    }
+                });
+                return null;
+            }
+        });
+
+        asyncEventDelivery.shutdown();
+        assertEquals(3, listener.getEvents().size());
+        assertEquals("closing", getMarker(listener.getEvents().get(0)));
+        assertEquals("afterSessionsFlush", getMarker(listener.getEvents().get(1)));
+        assertEquals("closed", getMarker(listener.getEvents().get(2)));
+        assertEquals(0, asyncEventDelivery.getFailedEventCount());
+    }
+
+    public void testFailingListenerDoesNotFailOperation() {
+        listener.setFailing(true);
+        managementService.executeCommand(new DispatchEventsCommand("failing"));
+
+        asyncEventDelivery.shutdown();
+        assertEquals(1, listener.getEvents().size());
+        assertEquals(1, asyncEventDelivery.getFailedEventCount());
+    }
+
+    public void testCommittingThreadDeliversWhenNotStarted() {
+        asyncEventDelivery.shutdown();
+        managementService.executeCommand(new DispatchEventsCommand("sameThread"));
+
+        assertEquals(1, listener.getEvents().size());
+        assertSame(Thread.currentThread(), listener.getThreads().get(0));
+        assertEquals(1, asyncEventDelivery.getCallerDeliveredEventCount());
+    }
+
+    protected FlowableEventDispatcherImpl getEventDispatcher() {
+        return (FlowableEventDispatcherImpl) processEngineConfiguration.getEventDispatcher();
+    }
+
+    protected void dispatchEvent(String marker) {
+        processEngineConfiguration.getEventDispatcher().dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.CUSTOM, marker, null, null));
+    }
+
+    protected String getMarker(FlowableEvent event) {
+        return ((FlowableEngineEvent) event).getExecutionId();
+    }
+
+    protected class DispatchEventsCommand implements Command<Void> {
+
+        protected String[] markers;
+
+        public DispatchEventsCommand(String... markers) {
+            this.markers = markers;
+        }
+
+        @Override
+        public Void execute(CommandContext commandContext) {
+            for (String marker : markers) {
+                CommandContextUtil.getEventDispatcher(commandContext).dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.CUSTOM, marker, null, null));
+            }
+
+            // nothing gets delivered before the transaction has committed
+            assertEquals(0, listener.getEvents().size());
+            return null;
+        }
+    }
+
+    protected static class CollectingAsyncEventListener implements FlowableAsyncEventListener {
+
+        protected List<FlowableEvent> events = new ArrayList<>();
+        protected List<Thread> threads = new ArrayList<>();
+        protected boolean failing;
+
+        @Override
+        public synchronized void onEvent(FlowableEvent event) {
+            events.add(event);
+            threads.add(Thread.currentThread());
+            if (failing) {
+                throw new RuntimeException("failing listener");
+            }
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return true;
+        }
+
+        public synchronized void waitForEvents(int count) {
+            long end = System.currentTimeMillis() + 10000L;
+            while (events.size() < count) {
+                long remaining = end - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    fail("Expected " + count + " events, but received " + events.size());
+                }
+                try {
+                    wait(50L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    fail("Interrupted while waiting for events");
+                }
+            }
+        }
+
+        public synchronized List<FlowableEvent> getEvents() {
+            return new ArrayList<>(events);
+        }
+
+        public synchronized List<Thread> getThreads() {
+            return new ArrayList<>(threads);
+        }
+
+        public void setFailing(boolean failing) {
+            this.failing = failing;
+        }
+    }
+
+}
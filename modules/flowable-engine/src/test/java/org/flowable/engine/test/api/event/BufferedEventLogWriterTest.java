@@ -0,0 +1,184 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.event;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.event.EventLogEntry;
+import org.flowable.engine.impl.event.logger.BufferedEventLogWriter;
+import org.flowable.engine.impl.event.logger.EventLogger;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Test case for writing the database event log from the background with a {@link BufferedEventLogWriter}.
+ */
+public class BufferedEventLogWriterTest extends PluggableFlowableTestCase {
+
+    protected BufferedEventLogWriter eventLogWriter;
+    protected EventLogger databaseEventLogger;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        eventLogWriter = new BufferedEventLogWriter();
+        eventLogWriter.setCommandExecutor(processEngineConfiguration.getCommandExecutor());
+        eventLogWriter.setFlushInterval(100L);
+
+        databaseEventLogger = new EventLogger(processEngineConfiguration.getClock(), processEngineConfiguration.getObjectMapper());
+        databaseEventLogger.setBufferedEventLogWriter(eventLogWriter);
+        runtimeService.addEventListener(databaseEventLogger);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        runtimeService.removeEventListener(databaseEventLogger);
+        eventLogWriter.shutdown();
+
+        for (EventLogEntry eventLogEntry : managementService.getEventLogEntries(null, null)) {
+            managementService.deleteEventLogEntry(eventLogEntry.getLogNumber());
+        }
+
+        super.tearDown();
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/event/DatabaseEventLoggerProcess.bpmn20.xml" })
+    public void testEntriesWrittenInBackground() {
+        eventLogWriter.start();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("DatabaseEventLoggerProcess");
+
+        // shutting down writes all buffered entries
+        eventLogWriter.shutdown();
+
+        List<EventLogEntry> eventLogEntries = managementService.getEventLogEntries(null, null);
+        assertFalse(eventLogEntries.isEmpty());
+        for (EventLogEntry eventLogEntry : eventLogEntries) {
+            if (eventLogEntry.getProcessInstanceId() != null) {
+                assertEquals(processInstance.getId(), eventLogEntry.getProcessInstanceId());
+            }
+        }
+
+        assertEquals(eventLogEntries.size(), eventLogWriter.getWrittenEntryCount());
+        assertEquals(0, eventLogWriter.getCallerWrittenEntryCount());
+        assertEquals(0, eventLogWriter.getFailedEntryCount());
+        assertEquals(0, eventLogWriter.getBufferedEntryCount());
+        assertTrue(eventLogWriter.getBatchCount() > 0);
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/event/DatabaseEventLoggerProcess.bpmn20.xml" })
+    public void testCommittingThreadWritesWhenNotStarted() {
+        runtimeService.startProcessInstanceByKey("DatabaseEventLoggerProcess");
+
+        List<EventLogEntry> eventLogEntries = managementService.getEventLogEntries(null, null);
+        assertFalse(eventLogEntries.isEmpty());
+        assertEquals(eventLogEntries.size(), eventLogWriter.getCallerWrittenEntryCount());
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/event/DatabaseEventLoggerProcess.bpmn20.xml" })
+    public void testEntriesOfRolledBackTransactionNotWritten() {
+        // stands in for a transaction managed outside of the engine, which is only completed after the command context has closed
+        final OuterTransactionContext outerTransactionContext = new OuterTransactionContext();
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                Context.setTransactionContext(outerTransactionContext);
+                try {
+                    runtimeService.startProcessInstanceByKey("DatabaseEventLoggerProcess");
+                } finally {
+                    Context.removeTransactionContext();
+                }
+                return null;
+            }
+        });
+
+        // nothing is handed to the writer before the outer transaction completes
+        assertEquals(0, managementService.getEventLogEntries(null, null).size());
+        assertEquals(0, eventLogWriter.getCallerWrittenEntryCount());
+
+        outerTransactionContext.rollback();
+        assertEquals(0, managementService.getEventLogEntries(null, null).size());
+        assertEquals(0, eventLogWriter.getCallerWrittenEntryCount());
+        assertEquals(0, eventLogWriter.getWrittenEntryCount());
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/event/DatabaseEventLoggerProcess.bpmn20.xml" })
+    public void testDropWhenFull() {
+        // a writer that doesn't keep up at all
+        eventLogWriter = new BufferedEventLogWriter() {
+
+            @Override
+            protected void writeBufferedEntries() {
+            }
+        };
+        eventLogWriter.setCommandExecutor(processEngineConfiguration.getCommandExecutor());
+        eventLogWriter.setBufferSize(1);
+        eventLogWriter.setDropWhenFull(true);
+        databaseEventLogger.setBufferedEventLogWriter(eventLogWriter);
+        eventLogWriter.start();
+
+        runtimeService.startProcessInstanceByKey("DatabaseEventLoggerProcess");
+        assertEquals(1, eventLogWriter.getBufferedEntryCount());
+        assertTrue(eventLogWriter.getDroppedEntryCount() > 0);
+
+        // the buffered entry is still written on shutdown
+        eventLogWriter.shutdown();
+        assertEquals(1, managementService.getEventLogEntries(null, null).size());
+        assertEquals(1, eventLogWriter.getWrittenEntryCount());
+    }
+
+    protected static class OuterTransactionContext implements TransactionContext {
+
+        protected Map<TransactionState, List<TransactionListener>> transactionListeners = new HashMap<>();
+
+        @Override
+        public void commit() {
+            fireTransactionEvent(TransactionState.COMMITTED);
+        }
+
+        @Override
+        public void rollback() {
+            fireTransactionEvent(TransactionState.ROLLED_BACK);
+        }
+
+        @Override
+        public void addTransactionListener(TransactionState transactionState, TransactionListener transactionListener) {
+            if (!transactionListeners.containsKey(transactionState)) {
+                transactionListeners.put(transactionState, new ArrayList<TransactionListener>());
+            }
+            transactionListeners.get(transactionState).add(transactionListener);
+        }
+
+        protected void fireTransactionEvent(TransactionState transactionState) {
+            if (transactionListeners.containsKey(transactionState)) {
+                for (TransactionListener transactionListener : transactionListeners.get(transactionState)) {
+                    transactionListener.execute(null);
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,129 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.flowable.variable.service.impl.types.ByteArrayType;
+import org.flowable.variable.service.impl.types.CodecVariableType;
+import org.flowable.variable.service.impl.types.CompactVariableCodec;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
+import org.flowable.variable.service.impl.types.SerializableType;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests storing object variables with a {@link CompactVariableCodec}.
+ */
+public class CodecVariableTypeTest extends TestCase {
+
+    public void testRoundTrip() {
+        CodecVariableType codecType = new CodecVariableType(new CompactVariableCodec());
+        assertEquals("codec:compact", codecType.getTypeName());
+
+        Map<String, Object> value = createValue();
+        assertTrue(codecType.isAbleToStore(value));
+
+        Object decoded = codecType.deserialize(codecType.serialize(value, null), null);
+        assertEquals(value, decoded);
+        assertEquals(LinkedHashMap.class, decoded.getClass());
+        assertEquals(LinkedList.class, ((Map<?, ?>) decoded).get("linkedList").getClass());
+    }
+
+    public void testSmallerThanJavaSerialization() {
+        Map<String, Object> value = createValue();
+        byte[] codecBytes = new CodecVariableType(new CompactVariableCodec()).serialize(value, null);
+        byte[] serializedBytes = new SerializableType().serialize(value, null);
+        assertTrue(codecBytes.length < serializedBytes.length);
+    }
+
+    public void testCompression() {
+        List<String> value = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            value.add("repeated list element");
+        }
+
+        byte[] plainBytes = new CodecVariableType(new CompactVariableCodec()).serialize(value, null);
+        CodecVariableType compressingType = new CodecVariableType(new CompactVariableCodec(), false, 1024);
+        byte[] compressedBytes = compressingType.serialize(value, null);
+        assertTrue(compressedBytes.length < plainBytes.length);
+        assertEquals(value, compressingType.deserialize(compressedBytes, null));
+
+        // plain values stay readable when compression gets enabled and the other way around
+        assertEquals(value, compressingType.deserialize(plainBytes, null));
+        assertEquals(value, new CodecVariableType(new CompactVariableCodec()).deserialize(compressedBytes, null));
+    }
+
+    public void testSerializedFormUnchanged() {
+        CodecVariableType codecType = new CodecVariableType(new CompactVariableCodec());
+        Map<String, Object> value = createValue();
+        byte[] originalBytes = codecType.serialize(value, null);
+        assertTrue(codecType.isSerializedFormUnchanged(value, originalBytes, null));
+
+        value.put("extra", 1);
+        assertFalse(codecType.isSerializedFormUnchanged(value, originalBytes, null));
+    }
+
+    public void testFallbackToSerializableType() {
+        DefaultVariableTypes variableTypes = new DefaultVariableTypes();
+        variableTypes.addType(new ByteArrayType());
+        variableTypes.addType(new CodecVariableType(new CompactVariableCodec()));
+        variableTypes.addType(new SerializableType());
+
+        List<Object> supportedList = new ArrayList<>();
+        supportedList.add("value");
+        assertEquals("codec:compact", variableTypes.findVariableType(supportedList).getTypeName());
+
+        List<Object> unsupportedList = new ArrayList<>();
+        unsupportedList.add(new StringBuilder("value"));
+        assertEquals(SerializableType.TYPE_NAME, variableTypes.findVariableType(unsupportedList).getTypeName());
+
+        List<Object> selfReferencingList = new ArrayList<>();
+        selfReferencingList.add(selfReferencingList);
+        assertEquals(SerializableType.TYPE_NAME, variableTypes.findVariableType(selfReferencingList).getTypeName());
+
+        assertEquals("bytes", variableTypes.findVariableType(new byte[] { 1 }).getTypeName());
+    }
+
+    protected Map<String, Object> createValue() {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("string", "text with \u00fcn\u00efcode");
+        value.put("integer", 42);
+        value.put("long", Long.MAX_VALUE);
+        value.put("double", 1.5d);
+        value.put("boolean", Boolean.TRUE);
+        value.put("date", new Date(1500000000000L));
+        value.put("decimal", new BigDecimal("1234.5678"));
+        value.put("uuid", UUID.randomUUID());
+        value.put("null", null);
+
+        List<Object> linkedList = new LinkedList<>();
+        linkedList.add("a");
+        linkedList.add(Character.valueOf('b'));
+        value.put("linkedList", linkedList);
+
+        Map<Object, Object> nested = new HashMap<>();
+        nested.put(1, new ArrayList<>(linkedList));
+        value.put("nested", nested);
+        return value;
+    }
+
+}
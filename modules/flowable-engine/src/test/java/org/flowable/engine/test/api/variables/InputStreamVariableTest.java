@@ -0,0 +1,152 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.common.impl.history.HistoryLevel;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.util.IoUtil;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
+import org.flowable.variable.service.impl.types.InputStreamType;
+
+/**
+ * Tests storing {@link InputStream} values as variables.
+ */
+public class InputStreamVariableTest extends PluggableFlowableTestCase {
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStoreAndReplaceInputStream() {
+        byte[] content = createContent(100000, 1);
+        TrackingInputStream inputStream = new TrackingInputStream(content);
+
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("document", inputStream);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", vars);
+        assertTrue(inputStream.isClosed());
+
+        VariableInstance variableInstance = runtimeService.getVariableInstance(processInstance.getId(), "document");
+        assertEquals(InputStreamType.TYPE_NAME, variableInstance.getTypeName());
+        assertTrue(Arrays.equals(content, IoUtil.readInputStream((InputStream) variableInstance.getValue(), "document")));
+
+        // every read of the variable gets a new stream
+        InputStream firstStream = (InputStream) runtimeService.getVariable(processInstance.getId(), "document");
+        InputStream secondStream = (InputStream) runtimeService.getVariable(processInstance.getId(), "document");
+        assertNotSame(firstStream, secondStream);
+        assertTrue(Arrays.equals(content, IoUtil.readInputStream(secondStream, "document")));
+
+        byte[] newContent = createContent(50000, 2);
+        TrackingInputStream newInputStream = new TrackingInputStream(newContent);
+        runtimeService.setVariable(processInstance.getId(), "document", newInputStream);
+        assertTrue(newInputStream.isClosed());
+        assertTrue(Arrays.equals(newContent, IoUtil.readInputStream(
+                (InputStream) runtimeService.getVariable(processInstance.getId(), "document"), "document")));
+
+        runtimeService.setVariable(processInstance.getId(), "document", "no longer a stream");
+        assertEquals("no longer a stream", runtimeService.getVariable(processInstance.getId(), "document"));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testInputStreamIsNotReadIntoMemory() {
+        final String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        final byte[] content = createContent(100000, 3);
+        final TrackingInputStream inputStream = new TrackingInputStream(content);
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                VariableScopeImpl execution = (VariableScopeImpl) CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstanceId);
+                execution.setVariable("document", inputStream);
+
+                // neither the variable nor its copy in the history has read the stream, it is still to be handed to the JDBC driver
+                VariableInstanceEntity variableInstance = execution.getVariableInstanceEntities().get("document");
+                assertSame(inputStream, variableInstance.getByteArrayRef().getEntity().getContentStream());
+                return null;
+            }
+        });
+
+        assertTrue(inputStream.isClosed());
+        assertContent(content, runtimeService.getVariable(processInstanceId, "document"));
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            HistoricVariableInstance historicVariableInstance = historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstanceId).variableName("document").singleResult();
+            assertContent(content, historicVariableInstance.getValue());
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/v6/Flowable6Test.simplestProcessPossible.bpmn20.xml")
+    public void testInputStreamOfProcessInstanceEndedInSameTransaction() {
+        byte[] content = createContent(100000, 4);
+        TrackingInputStream inputStream = new TrackingInputStream(content);
+
+        // the runtime variable is never written, so the history gets the stream itself
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("document", inputStream);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd", vars);
+        assertTrue(inputStream.isClosed());
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            HistoricVariableInstance historicVariableInstance = historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId()).variableName("document").singleResult();
+            assertContent(content, historicVariableInstance.getValue());
+        }
+    }
+
+    protected void assertContent(byte[] expectedContent, Object value) {
+        assertTrue(Arrays.equals(expectedContent, IoUtil.readInputStream((InputStream) value, "document")));
+    }
+
+    protected byte[] createContent(int length, int seed) {
+        byte[] content = new byte[length];
+        for (int i = 0; i < length; i++) {
+            content[i] = (byte) (i * seed);
+        }
+        return content;
+    }
+
+    protected static class TrackingInputStream extends ByteArrayInputStream {
+
+        protected boolean closed;
+
+        public TrackingInputStream(byte[] content) {
+            super(content);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        public boolean isClosed() {
+            return closed;
+        }
+
+    }
+
+}
@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.variable.service.impl.types.ByteArrayComparingOutputStream;
+import org.flowable.variable.service.impl.types.SerializableType;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the detection of in-place changes of deserialized serializable variables.
+ */
+public class SerializableTypeChangeDetectionTest extends TestCase {
+
+    public void testComparingOutputStream() {
+        byte[] expected = new byte[] { 1, 2, 3, 4 };
+
+        ByteArrayComparingOutputStream equalStream = new ByteArrayComparingOutputStream(expected);
+        equalStream.write(1);
+        equalStream.write(new byte[] { 0, 2, 3, 4 }, 1, 3);
+        assertTrue(equalStream.isEqual());
+
+        ByteArrayComparingOutputStream shorterStream = new ByteArrayComparingOutputStream(expected);
+        shorterStream.write(new byte[] { 1, 2, 3 }, 0, 3);
+        assertFalse(shorterStream.isEqual());
+
+        ByteArrayComparingOutputStream longerStream = new ByteArrayComparingOutputStream(expected);
+        longerStream.write(new byte[] { 1, 2, 3, 4 }, 0, 4);
+        longerStream.write(5);
+        assertFalse(longerStream.isEqual());
+
+        ByteArrayComparingOutputStream differentStream = new ByteArrayComparingOutputStream(expected);
+        differentStream.write(new byte[] { 1, 2, 9, 4 }, 0, 4);
+        assertFalse(differentStream.isEqual());
+    }
+
+    public void testSerializedFormUnchanged() {
+        SerializableType serializableType = new SerializableType(true);
+        List<String> value = new ArrayList<>();
+        value.add("one");
+        value.add("two");
+        byte[] originalBytes = serializableType.serialize(value, null);
+
+        assertTrue(serializableType.isSerializedFormUnchanged(value, originalBytes, null));
+
+        value.add("three");
+        assertFalse(serializableType.isSerializedFormUnchanged(value, originalBytes, null));
+
+        value.remove("three");
+        assertTrue(serializableType.isSerializedFormUnchanged(value, originalBytes, null));
+    }
+
+    public void testImmutableValues() {
+        TestSerializableType serializableType = new TestSerializableType();
+        assertTrue(serializableType.isImmutable("value"));
+        assertTrue(serializableType.isImmutable(42L));
+        assertTrue(serializableType.isImmutable(Thread.State.NEW));
+        assertFalse(serializableType.isImmutable(new ArrayList<String>()));
+
+        serializableType.setImmutableClasses(Collections.<Class<?>>singleton(ArrayList.class));
+        assertTrue(serializableType.isImmutable(new ArrayList<String>()));
+    }
+
+    protected static class TestSerializableType extends SerializableType {
+
+        public TestSerializableType() {
+            super(true);
+        }
+
+        @Override
+        public boolean isImmutable(Object value) {
+            return super.isImmutable(value);
+        }
+    }
+
+}
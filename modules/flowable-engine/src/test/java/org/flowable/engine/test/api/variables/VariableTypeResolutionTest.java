@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import java.util.Date;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.types.BooleanType;
+import org.flowable.variable.service.impl.types.DateType;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
+import org.flowable.variable.service.impl.types.LongStringType;
+import org.flowable.variable.service.impl.types.NullType;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.StringType;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the resolution of the variable type per class of the value.
+ */
+public class VariableTypeResolutionTest extends TestCase {
+
+    protected DefaultVariableTypes variableTypes;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        variableTypes = new DefaultVariableTypes();
+        variableTypes.addType(new NullType());
+        variableTypes.addType(new StringType(10));
+        variableTypes.addType(new LongStringType(11));
+        variableTypes.addType(new BooleanType());
+        variableTypes.addType(new DateType());
+        variableTypes.addType(new SerializableType());
+    }
+
+    public void testValueDependentTypesAreTestedForEveryValue() {
+        assertEquals("string", variableTypes.findVariableType("short").getTypeName());
+        assertEquals("longString", variableTypes.findVariableType(StringUtils.repeat("a", 20)).getTypeName());
+        assertEquals("string", variableTypes.findVariableType("short").getTypeName());
+    }
+
+    public void testClassTypes() {
+        assertEquals("null", variableTypes.findVariableType(null).getTypeName());
+        assertEquals("boolean", variableTypes.findVariableType(Boolean.TRUE).getTypeName());
+        assertEquals("boolean", variableTypes.findVariableType(Boolean.FALSE).getTypeName());
+        assertEquals("date", variableTypes.findVariableType(new Date()).getTypeName());
+        assertEquals("serializable", variableTypes.findVariableType(123L).getTypeName());
+    }
+
+    public void testTypeChanges() {
+        assertEquals("serializable", variableTypes.findVariableType(123L).getTypeName());
+
+        // types added later are taken into account
+        LongOnlyType longOnlyType = new LongOnlyType();
+        variableTypes.addType(longOnlyType, 1);
+        assertEquals("longOnly", variableTypes.findVariableType(123L).getTypeName());
+        assertEquals(1, variableTypes.getTypeIndex(longOnlyType));
+        assertEquals(2, variableTypes.getTypeIndex("string"));
+
+        variableTypes.removeType(longOnlyType);
+        assertEquals("serializable", variableTypes.findVariableType(123L).getTypeName());
+        assertEquals(-1, variableTypes.getTypeIndex(longOnlyType));
+        assertEquals(1, variableTypes.getTypeIndex("string"));
+    }
+
+    protected static class LongOnlyType implements VariableType {
+
+        @Override
+        public String getTypeName() {
+            return "longOnly";
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public boolean isAbleToStore(Object value) {
+            return value instanceof Long;
+        }
+
+        @Override
+        public void setValue(Object value, ValueFields valueFields) {
+            valueFields.setLongValue((Long) value);
+        }
+
+        @Override
+        public Object getValue(ValueFields valueFields) {
+            return valueFields.getLongValue();
+        }
+    }
+
+}
@@ -22,11 +22,17 @@ import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.flowable.engine.common.api.delegate.Expression;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.el.ProcessExpressionManager;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 import org.joda.time.DateTime;
 import org.joda.time.LocalDate;
 
@@ -367,6 +373,58 @@ public class VariablesTest extends PluggableFlowableTestCase {
 
     }
 
+    public void testGetVariablesWithoutFetchingAllVariables() {
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                VariableScopeImpl execution = (VariableScopeImpl) CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstanceId);
+
+                Map<String, Object> vars = execution.getVariables(Arrays.asList("intVar1", "stringVar3", "unknownVar"), false);
+                assertEquals(2, vars.size());
+                assertEquals(100, vars.get("intVar1"));
+                assertEquals("stringVarValue-3", vars.get("stringVar3"));
+
+                // the fetched variables are cached on the execution, without having fetched all variables
+                assertEquals(2, execution.getUsedVariablesCache().size());
+                assertTrue(execution.getUsedVariablesCache().containsKey("intVar1"));
+                assertTrue(execution.hasVariable("stringVar3", false));
+                assertFalse(execution.hasVariable("unknownVar", false));
+
+                // a variable created after finding out it doesn't exist must be found
+                execution.setVariable("unknownVar", "created", false);
+                assertTrue(execution.hasVariable("unknownVar", false));
+                assertEquals("created", execution.getVariable("unknownVar", false));
+                return null;
+            }
+        });
+
+        assertEquals("created", runtimeService.getVariable(processInstanceId, "unknownVar"));
+    }
+
+    public void testPrefetchExpressionVariables() {
+        final ProcessExpressionManager expressionManager = new ProcessExpressionManager();
+        expressionManager.setPrefetchExpressionVariables(true);
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                VariableScopeImpl execution = (VariableScopeImpl) CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstanceId);
+
+                Expression expression = expressionManager.createExpression("${intVar2 + intVar3 > 400 ? stringVar1 : execution.id}");
+                assertEquals("stringVarValue-1", expression.getValue(execution));
+
+                // only the identifiers of the expression were fetched
+                assertEquals(3, execution.getUsedVariablesCache().size());
+                assertTrue(execution.getUsedVariablesCache().containsKey("intVar2"));
+                assertTrue(execution.getUsedVariablesCache().containsKey("intVar3"));
+                assertTrue(execution.getUsedVariablesCache().containsKey("stringVar1"));
+                return null;
+            }
+        });
+    }
+
     @org.flowable.engine.test.Deployment
     public void testGetVariableAllVariableFetchingDefault() {
 
@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.dynamic;
+
+import java.util.Collections;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Tests the {@link ProcessDefinitionInfoCache} with a validation interval.
+ */
+public class ProcessDefinitionInfoCacheValidationTest extends PluggableFlowableTestCase {
+
+    private static final String TASK_ONE_SID = "sid-B94D5D22-E93E-4401-ADC5-C5C073E1EEB4";
+
+    protected long oldValidationInterval;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        oldValidationInterval = getProcessDefinitionInfoCache().getValidationInterval();
+        getProcessDefinitionInfoCache().setValidationInterval(60000L);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        getProcessDefinitionInfoCache().setValidationInterval(oldValidationInterval);
+        super.tearDown();
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/dynamic/dynamic-bpmn-test-process.bpmn20.xml" })
+    public void testCachedInfoIsNotValidatedWithinInterval() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("dynamicServiceTest");
+
+        ProcessDefinitionInfoCacheObject cacheObject = getProcessDefinitionInfoCache().get(processInstance.getProcessDefinitionId());
+        long lastValidationTime = cacheObject.getLastValidationTime();
+        assertTrue(lastValidationTime > 0);
+
+        ProcessDefinitionInfoCacheObject cachedObject = getProcessDefinitionInfoCache().get(processInstance.getProcessDefinitionId());
+        assertSame(cacheObject, cachedObject);
+        assertEquals(lastValidationTime, cachedObject.getLastValidationTime());
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/dynamic/dynamic-bpmn-test-process.bpmn20.xml" })
+    public void testSavedInfoIsUsedImmediately() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("dynamicServiceTest");
+        getProcessDefinitionInfoCache().get(processInstance.getProcessDefinitionId());
+
+        ObjectNode processInfo = dynamicBpmnService.changeUserTaskCandidateGroups(TASK_ONE_SID, Collections.singletonList("HR"));
+        dynamicBpmnService.saveProcessDefinitionInfo(processInstance.getProcessDefinitionId(), processInfo);
+        runtimeService.startProcessInstanceByKey("dynamicServiceTest");
+        assertEquals(1, taskService.createTaskQuery().taskCandidateGroup("HR").count());
+
+        processInfo = dynamicBpmnService.changeUserTaskCandidateGroups(TASK_ONE_SID, Collections.singletonList("SALES"));
+        dynamicBpmnService.saveProcessDefinitionInfo(processInstance.getProcessDefinitionId(), processInfo);
+        runtimeService.startProcessInstanceByKey("dynamicServiceTest");
+        assertEquals(1, taskService.createTaskQuery().taskCandidateGroup("SALES").count());
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/dynamic/dynamic-bpmn-test-process.bpmn20.xml" })
+    public void testRolledBackInfoIsNotCached() {
+        final String processDefinitionId = runtimeService.startProcessInstanceByKey("dynamicServiceTest").getProcessDefinitionId();
+        getProcessDefinitionInfoCache().get(processDefinitionId);
+
+        try {
+            managementService.executeCommand(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    ObjectNode processInfo = dynamicBpmnService.changeUserTaskCandidateGroups(TASK_ONE_SID, Collections.singletonList("HR"));
+                    dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, processInfo);
+
+                    // reading the info again caches the info of this transaction
+                    getProcessDefinitionInfoCache().get(processDefinitionId);
+                    throw new FlowableException("rollback");
+                }
+            });
+            fail("Exception expected");
+        } catch (FlowableException e) {
+            assertEquals("rollback", e.getMessage());
+        }
+
+        runtimeService.startProcessInstanceByKey("dynamicServiceTest");
+        assertEquals(0, taskService.createTaskQuery().taskCandidateGroup("HR").count());
+    }
+
+    protected ProcessDefinitionInfoCache getProcessDefinitionInfoCache() {
+        return processEngineConfiguration.getDeploymentManager().getProcessDefinitionInfoCache();
+    }
+
+}
@@ -23,6 +23,8 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.impl.EventSubscriptionQueryImpl;
+import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.Execution;
@@ -353,6 +355,46 @@ public class SignalEventTest extends PluggableFlowableTestCase {
         assertEquals(0, managementService.createJobQuery().count());
     }
 
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml" })
+    public void testSignalBroadcast() {
+        int originalPageSize = processEngineConfiguration.getSignalBroadcastPageSize();
+        processEngineConfiguration.setSignalBroadcastPageSize(3);
+        try {
+            for (int i = 0; i < 7; i++) {
+                runtimeService.startProcessInstanceByKey("catchSignal");
+            }
+            assertEquals(7, createEventSubscriptionQuery().count());
+
+            runtimeService.signalEventReceivedBroadcast("alert");
+
+            // Only the first broadcast job is created in the calling transaction
+            assertEquals(7, createEventSubscriptionQuery().count());
+            Job broadcastJob = managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).singleResult();
+            assertNotNull(broadcastJob);
+            assertEquals(1, managementService.createJobQuery().count());
+
+            // Every broadcast job schedules one page of event jobs and the broadcast job for the next page
+            managementService.executeJob(broadcastJob.getId());
+            assertEquals(3, managementService.createJobQuery().handlerType(ProcessEventJobHandler.TYPE).count());
+            broadcastJob = managementService.createJobQuery().handlerType(SignalBroadcastJobHandler.TYPE).singleResult();
+            assertNotNull(broadcastJob);
+            assertEquals(3, SignalBroadcastJobHandler.getSignaledCountFromConfiguration(broadcastJob.getJobHandlerConfiguration()));
+
+            // Subscriptions created after the broadcast started are not signaled
+            processEngineConfiguration.getClock().setCurrentTime(new Date(System.currentTimeMillis() + 60000));
+            ProcessInstance lateProcessInstance = runtimeService.startProcessInstanceByKey("catchSignal");
+
+            waitForJobExecutorToProcessAllJobs(10000L, 200L);
+            assertEquals(1, createEventSubscriptionQuery().count());
+            assertEquals(1, runtimeService.createProcessInstanceQuery().count());
+            assertEquals(lateProcessInstance.getId(), runtimeService.createProcessInstanceQuery().singleResult().getId());
+
+        } finally {
+            processEngineConfiguration.setSignalBroadcastPageSize(originalPageSize);
+            processEngineConfiguration.getClock().reset();
+        }
+    }
+
     @Deployment
     public void testSignalUserTask() {
         runtimeService.startProcessInstanceByKey("catchSignal");
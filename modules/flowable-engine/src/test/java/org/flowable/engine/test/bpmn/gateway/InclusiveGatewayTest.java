@@ -14,10 +14,13 @@ package org.flowable.engine.test.bpmn.gateway;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.Process;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
@@ -26,6 +29,8 @@ import org.flowable.engine.impl.EventSubscriptionQueryImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ExecutionGraphUtil;
+import org.flowable.engine.impl.util.ProcessReachabilityIndex;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.EventSubscription;
 import org.flowable.engine.runtime.Execution;
@@ -612,6 +617,25 @@ public class InclusiveGatewayTest extends PluggableFlowableTestCase {
 
     }
 
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testLoop.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testJoinAfterSubprocesses.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testInclusiveGatewayInEventSubProcess.bpmn20.xml" })
+    public void testReachabilityIndexMatchesGraphTraversal() {
+        for (ProcessDefinition processDefinition : repositoryService.createProcessDefinitionQuery().list()) {
+            Process process = repositoryService.getBpmnModel(processDefinition.getId()).getMainProcess();
+            ProcessReachabilityIndex reachabilityIndex = new ProcessReachabilityIndex(process);
+
+            List<FlowNode> flowNodes = process.findFlowElementsOfType(FlowNode.class, true);
+            for (FlowNode source : flowNodes) {
+                for (FlowNode target : flowNodes) {
+                    boolean expected = ExecutionGraphUtil.isReachable(process, source, target, new HashSet<String>());
+                    assertEquals(processDefinition.getKey() + ": " + source.getId() + " -> " + target.getId(),
+                            expected, reachabilityIndex.isReachable(source.getId(), target.getId()));
+                }
+            }
+        }
+    }
+
     protected List<Execution> getInactiveExecutionsInActivityId(String activityId) {
         List<Execution> result = new ArrayList<>();
         List<Execution> executions = runtimeService.createExecutionQuery().list();
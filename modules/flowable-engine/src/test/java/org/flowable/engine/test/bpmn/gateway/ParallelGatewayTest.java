@@ -15,6 +15,15 @@ package org.flowable.engine.test.bpmn.gateway;
 
 import java.util.List;
 
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.EndEvent;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.ManualTask;
+import org.flowable.bpmn.model.ParallelGateway;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.UserTask;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
@@ -163,6 +172,64 @@ public class ParallelGatewayTest extends PluggableFlowableTestCase {
         assertEquals(0, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
     }
 
+    public void testWideForkJoin() {
+        int nrOfBranches = 50;
+
+        Process process = new Process();
+        process.setId("wideForkJoin");
+        addFlowNode(process, new StartEvent(), "start");
+        addFlowNode(process, new ParallelGateway(), "fork");
+        addFlowNode(process, new ParallelGateway(), "join");
+        addFlowNode(process, new UserTask(), "afterJoin");
+        addFlowNode(process, new EndEvent(), "end");
+        addSequenceFlow(process, "start", "fork");
+        for (int i = 0; i < nrOfBranches; i++) {
+            // Half of the branches arrive in the join while starting the process instance, the others when their task is completed
+            addFlowNode(process, i % 2 == 0 ? new ManualTask() : new UserTask(), "branch" + i);
+            addSequenceFlow(process, "fork", "branch" + i);
+            addSequenceFlow(process, "branch" + i, "join");
+        }
+        addSequenceFlow(process, "join", "afterJoin");
+        addSequenceFlow(process, "afterJoin", "end");
+
+        BpmnModel bpmnModel = new BpmnModel();
+        bpmnModel.addProcess(process);
+        String deploymentId = repositoryService.createDeployment().addBpmnModel("wideForkJoin.bpmn20.xml", bpmnModel).deploy().getId();
+
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("wideForkJoin");
+            List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+            assertEquals(nrOfBranches / 2, tasks.size());
+            assertEquals(nrOfBranches / 2, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("join").count());
+
+            for (Task task : tasks) {
+                assertEquals(0, taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey("afterJoin").count());
+                taskService.complete(task.getId());
+            }
+
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            assertEquals("afterJoin", task.getTaskDefinitionKey());
+            assertEquals(0, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("join").count());
+
+            taskService.complete(task.getId());
+            assertProcessEnded(processInstance.getId());
+
+        } finally {
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    protected void addFlowNode(Process process, FlowNode flowNode, String id) {
+        flowNode.setId(id);
+        process.addFlowElement(flowNode);
+    }
+
+    protected void addSequenceFlow(Process process, String sourceRef, String targetRef) {
+        SequenceFlow sequenceFlow = new SequenceFlow(sourceRef, targetRef);
+        sequenceFlow.setId(sourceRef + "-" + targetRef);
+        process.addFlowElement(sequenceFlow);
+    }
+
     /*
      * @Deployment public void testAsyncBehavior() { for (int i = 0; i < 100; i++) { ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("async"); } assertEquals(200,
      * managementService.createJobQuery().count()); waitForJobExecutorToProcessAllJobs(120000, 5000); assertEquals(0, managementService.createJobQuery().count()); assertEquals(0,
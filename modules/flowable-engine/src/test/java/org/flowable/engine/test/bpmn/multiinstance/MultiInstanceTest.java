@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
@@ -30,6 +31,8 @@ import org.flowable.engine.delegate.ExecutionListener;
 import org.flowable.engine.delegate.TaskListener;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceJoinJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -257,6 +260,84 @@ public class MultiInstanceTest extends PluggableFlowableTestCase {
         assertProcessEnded(procId);
     }
 
+    @Deployment
+    public void testParallelUserTasksInWindow() {
+        List<String> assigneeList = Arrays.asList("kermit", "gonzo", "mispiggy", "fozzie", "bubba");
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksInWindow", CollectionUtil.singletonMap("assigneeList", assigneeList)).getId();
+
+        // Only two instances exist at any time, the next one is created when one completes
+        for (int i = 0; i < assigneeList.size(); i++) {
+            List<org.flowable.task.api.Task> tasks = taskService.createTaskQuery().orderByTaskName().asc().list();
+            assertEquals(Math.min(2, assigneeList.size() - i), tasks.size());
+            assertEquals("My Task " + i, tasks.get(0).getName());
+            assertEquals(assigneeList.get(i), tasks.get(0).getAssignee());
+
+            String miRootExecutionId = runtimeService.createExecutionQuery().executionId(tasks.get(0).getExecutionId()).singleResult().getParentId();
+            assertEquals(5, runtimeService.getVariableLocal(miRootExecutionId, "nrOfInstances"));
+            assertEquals(i, runtimeService.getVariableLocal(miRootExecutionId, "nrOfCompletedInstances"));
+            assertEquals(tasks.size(), runtimeService.createExecutionQuery().parentId(miRootExecutionId).count());
+
+            taskService.complete(tasks.get(0).getId());
+        }
+
+        assertEquals(0, taskService.createTaskQuery().count());
+        assertProcessEnded(procId);
+    }
+
+    @Deployment
+    public void testParallelSubProcessInWindow() {
+        String procId = runtimeService.startProcessInstanceByKey("miParallelSubProcessInWindow").getId();
+
+        // The scope of a completed subprocess instance is destroyed before the next instance is created
+        for (int i = 0; i < 5; i++) {
+            List<org.flowable.task.api.Task> tasks = taskService.createTaskQuery().orderByTaskName().asc().list();
+            assertEquals(Math.min(2, 5 - i), tasks.size());
+            assertEquals("My Task " + i, tasks.get(0).getName());
+
+            String subProcessInstanceId = runtimeService.createExecutionQuery().executionId(tasks.get(0).getExecutionId()).singleResult().getParentId();
+            String miRootExecutionId = runtimeService.createExecutionQuery().executionId(subProcessInstanceId).singleResult().getParentId();
+            assertEquals(i, runtimeService.getVariableLocal(miRootExecutionId, "nrOfCompletedInstances"));
+            assertEquals(Math.min(2 + i, 5), runtimeService.getVariableLocal(miRootExecutionId, ParallelMultiInstanceBehavior.NUMBER_OF_CREATED_INSTANCES));
+            assertEquals(tasks.size(), runtimeService.createExecutionQuery().parentId(miRootExecutionId).count());
+
+            taskService.complete(tasks.get(0).getId());
+        }
+
+        assertEquals(0, taskService.createTaskQuery().count());
+        assertProcessEnded(procId);
+    }
+
+    @Deployment
+    public void testParallelAsyncServiceTasksInWindow() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelAsyncServiceTasksInWindow");
+
+        // Executing the job of an instance schedules the job of the next one
+        for (int i = 0; i < 5; i++) {
+            List<Job> instanceJobs = managementService.createJobQuery().processInstanceId(processInstance.getId()).list();
+            assertEquals(Math.min(2, 5 - i), instanceJobs.size());
+            assertNull(runtimeService.createExecutionQuery().activityId("waitState").singleResult());
+
+            managementService.executeJob(instanceJobs.get(0).getId());
+        }
+
+        assertEquals(0, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+        assertNotNull(runtimeService.createExecutionQuery().activityId("waitState").singleResult());
+        assertEquals(0, runtimeService.createExecutionQuery().activityId("miServiceTask").count());
+    }
+
+    public void testInvalidInstanceWindow() {
+        try {
+            String deploymentId = repositoryService.createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testInvalidInstanceWindow.bpmn20.xml")
+                    .deploy()
+                    .getId();
+            repositoryService.deleteDeployment(deploymentId, true);
+            fail("Expected exception: the multi instance window is not an integer");
+        } catch (FlowableIllegalArgumentException e) {
+            assertTextPresent("Invalid multi instance window 'abc'", e.getMessage());
+        }
+    }
+
     @Deployment
     public void testParallelUserTasksCustomCollectionStringExtension() {
     	checkParallelUserTasksCustomCollection("miParallelUserTasksCollection");
@@ -508,6 +589,119 @@ public class MultiInstanceTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Deployment
+    public void testParallelAsyncServiceTasksJoinedByJob() {
+        processEngineConfiguration.setEnableParallelMultiInstanceJoinJobs(true);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelAsyncServiceTasks",
+                    CollectionUtil.singletonMap("completedInstancesNeeded", 99));
+            List<Job> instanceJobs = managementService.createJobQuery().processInstanceId(processInstance.getId()).list();
+            assertEquals(6, instanceJobs.size());
+
+            // Completing instances only schedule a join job and leave the loop variables alone
+            for (Job instanceJob : instanceJobs) {
+                managementService.executeJob(instanceJob.getId());
+            }
+            List<Job> joinJobs = managementService.createJobQuery().handlerType(ParallelMultiInstanceJoinJobHandler.TYPE).list();
+            assertEquals(6, joinJobs.size());
+            assertNull(runtimeService.createExecutionQuery().activityId("waitState").singleResult());
+
+            // The first join counts all completed instances and leaves the activity, which removes the other join jobs
+            managementService.executeJob(joinJobs.get(0).getId());
+            assertNotNull(runtimeService.createExecutionQuery().activityId("waitState").singleResult());
+            assertEquals(0, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+
+        } finally {
+            processEngineConfiguration.setEnableParallelMultiInstanceJoinJobs(false);
+        }
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelAsyncServiceTasksJoinedByJob.bpmn20.xml" })
+    public void testParallelAsyncServiceTasksJoinedByJobCompletionCondition() {
+        processEngineConfiguration.setEnableParallelMultiInstanceJoinJobs(true);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelAsyncServiceTasks",
+                    CollectionUtil.singletonMap("completedInstancesNeeded", 2));
+            List<Job> instanceJobs = managementService.createJobQuery().processInstanceId(processInstance.getId()).list();
+            for (int i = 0; i < 4; i++) {
+                managementService.executeJob(instanceJobs.get(i).getId());
+            }
+
+            // The join sees 4 completed instances, but the condition is evaluated for every instance like before
+            Job joinJob = managementService.createJobQuery().handlerType(ParallelMultiInstanceJoinJobHandler.TYPE).list().get(0);
+            managementService.executeJob(joinJob.getId());
+            assertNotNull(runtimeService.createExecutionQuery().activityId("waitState").singleResult());
+            assertEquals(0, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+
+            runtimeService.trigger(runtimeService.createExecutionQuery().activityId("waitState").singleResult().getId());
+            assertProcessEnded(processInstance.getId());
+
+        } finally {
+            processEngineConfiguration.setEnableParallelMultiInstanceJoinJobs(false);
+        }
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelAsyncServiceTasksJoinedByJob.bpmn20.xml" })
+    public void testParallelAsyncServiceTasksJoinedByJobInterleaved() {
+        processEngineConfiguration.setEnableParallelMultiInstanceJoinJobs(true);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelAsyncServiceTasks",
+                    CollectionUtil.singletonMap("completedInstancesNeeded", 99));
+            List<Job> instanceJobs = managementService.createJobQuery().processInstanceId(processInstance.getId()).list();
+            assertEquals(6, instanceJobs.size());
+            String miRootExecutionId = runtimeService.createExecutionQuery().activityId("miServiceTask").parentId(processInstance.getId()).singleResult().getId();
+
+            // Two instances complete in their own transactions before any join job runs
+            managementService.executeJob(instanceJobs.get(0).getId());
+            managementService.executeJob(instanceJobs.get(1).getId());
+            assertLoopVariables(miRootExecutionId, 0, 6);
+
+            List<Job> joinJobs = managementService.createJobQuery().handlerType(ParallelMultiInstanceJoinJobHandler.TYPE).list();
+            assertEquals(2, joinJobs.size());
+            managementService.executeJob(joinJobs.get(0).getId());
+            assertLoopVariables(miRootExecutionId, 2, 4);
+
+            // A third instance completes while the join job of the second one is still pending
+            managementService.executeJob(instanceJobs.get(2).getId());
+            assertLoopVariables(miRootExecutionId, 2, 4);
+
+            // The pending join job of the second instance counts the third instance as well
+            managementService.executeJob(joinJobs.get(1).getId());
+            assertLoopVariables(miRootExecutionId, 3, 3);
+
+            // The join job of the third instance finds nothing new
+            Job thirdJoinJob = managementService.createJobQuery().handlerType(ParallelMultiInstanceJoinJobHandler.TYPE).singleResult();
+            managementService.executeJob(thirdJoinJob.getId());
+            assertLoopVariables(miRootExecutionId, 3, 3);
+
+            // The completion marker is never recorded in the history
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                assertEquals(0, historyService.createHistoricVariableInstanceQuery()
+                        .variableName(ParallelMultiInstanceBehavior.COMPLETED_INSTANCE_MARKER).count());
+            }
+
+            for (int i = 3; i < 6; i++) {
+                managementService.executeJob(instanceJobs.get(i).getId());
+            }
+            joinJobs = managementService.createJobQuery().handlerType(ParallelMultiInstanceJoinJobHandler.TYPE).list();
+            assertEquals(3, joinJobs.size());
+            managementService.executeJob(joinJobs.get(0).getId());
+            assertNotNull(runtimeService.createExecutionQuery().activityId("waitState").singleResult());
+            assertEquals(0, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+
+            runtimeService.trigger(runtimeService.createExecutionQuery().activityId("waitState").singleResult().getId());
+            assertProcessEnded(processInstance.getId());
+
+        } finally {
+            processEngineConfiguration.setEnableParallelMultiInstanceJoinJobs(false);
+        }
+    }
+
+    protected void assertLoopVariables(String miRootExecutionId, int nrOfCompletedInstances, int nrOfActiveInstances) {
+        assertEquals(nrOfCompletedInstances, runtimeService.getVariableLocal(miRootExecutionId, "nrOfCompletedInstances"));
+        assertEquals(nrOfActiveInstances, runtimeService.getVariableLocal(miRootExecutionId, "nrOfActiveInstances"));
+    }
+
     @Deployment
     public void testSequentialSubProcess() {
         String procId = runtimeService.startProcessInstanceByKey("miSequentialSubprocess").getId();
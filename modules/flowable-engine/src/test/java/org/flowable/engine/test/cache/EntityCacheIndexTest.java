@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import java.util.Collection;
+
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.cache.CachedEntity;
+import org.flowable.engine.common.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionEntityIndex;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+
+/**
+ * Tests the secondary indexes of the {@link EntityCache}.
+ */
+public class EntityCacheIndexTest extends PluggableFlowableTestCase {
+
+    public void testIndexFollowsPropertyChanges() {
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                EntityCache entityCache = CommandContextUtil.getEntityCache(commandContext);
+
+                ExecutionEntityImpl execution = new ExecutionEntityImpl();
+                execution.setId("execution");
+                execution.setParentId("parent1");
+                execution.setProcessInstanceId("processInstance");
+                entityCache.put(execution, false);
+
+                assertEquals(1, entityCache.findInCacheByIndex(ExecutionEntityImpl.class, ExecutionEntityIndex.PARENT_ID, "parent1").size());
+                assertEquals(1, entityCache.findInCacheByIndex(ExecutionEntityImpl.class, ExecutionEntityIndex.PROCESS_INSTANCE_ID, "processInstance").size());
+                assertEquals(0, entityCache.findInCacheByIndex(ExecutionEntityImpl.class, ExecutionEntityIndex.ACTIVITY_ID, "task").size());
+
+                // Changes of an indexed property after the index is built are picked up
+                execution.setParentId("parent2");
+                UserTask userTask = new UserTask();
+                userTask.setId("task");
+                execution.setCurrentFlowElement(userTask);
+
+                assertEquals(0, entityCache.findInCacheByIndex(ExecutionEntityImpl.class, ExecutionEntityIndex.PARENT_ID, "parent1").size());
+                Collection<CachedEntity> cachedEntities = entityCache.findInCacheByIndex(ExecutionEntityImpl.class, ExecutionEntityIndex.PARENT_ID, "parent2");
+                assertEquals(1, cachedEntities.size());
+                assertSame(execution, cachedEntities.iterator().next().getEntity());
+                assertEquals(1, entityCache.findInCacheByIndex(ExecutionEntityImpl.class, ExecutionEntityIndex.ACTIVITY_ID, "task").size());
+
+                // Entities added after the index is built are indexed
+                ExecutionEntityImpl otherExecution = new ExecutionEntityImpl();
+                otherExecution.setId("otherExecution");
+                otherExecution.setParentId("parent2");
+                entityCache.put(otherExecution, false);
+                assertEquals(2, entityCache.findInCacheByIndex(ExecutionEntityImpl.class, ExecutionEntityIndex.PARENT_ID, "parent2").size());
+
+                // Removed entities are no longer indexed. This also keeps these executions from being flushed.
+                entityCache.cacheRemove(ExecutionEntityImpl.class, execution.getId());
+                entityCache.cacheRemove(ExecutionEntityImpl.class, otherExecution.getId());
+                assertEquals(0, entityCache.findInCacheByIndex(ExecutionEntityImpl.class, ExecutionEntityIndex.PARENT_ID, "parent2").size());
+                assertEquals(0, entityCache.findInCacheByIndex(ExecutionEntityImpl.class, ExecutionEntityIndex.ACTIVITY_ID, "task").size());
+                return null;
+            }
+        });
+    }
+
+}
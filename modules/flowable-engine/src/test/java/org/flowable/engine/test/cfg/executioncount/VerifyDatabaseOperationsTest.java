@@ -49,6 +49,7 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
     protected boolean oldenableProcessDefinitionInfoCacheValue;
     protected CommandInterceptor oldFirstCommandInterceptor;
     protected DbSqlSessionFactory oldDbSqlSessionFactory;
+    protected DbSqlSessionFactory profilingDbSqlSessionFactory;
     protected HistoryLevel oldHistoryLevel;
 
     @Override
@@ -86,6 +87,7 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         // Add dbsqlSession factory that captures CRUD operations
         this.oldDbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
         DbSqlSessionFactory newDbSqlSessionFactory = new ProfilingDbSqlSessionFactory();
+        this.profilingDbSqlSessionFactory = newDbSqlSessionFactory;
         newDbSqlSessionFactory.setBulkInserteableEntityClasses(new HashSet<>(EntityDependencyOrder.INSERT_ORDER));
         newDbSqlSessionFactory.setInsertionOrder(oldDbSqlSessionFactory.getInsertionOrder());
         newDbSqlSessionFactory.setDeletionOrder(oldDbSqlSessionFactory.getDeletionOrder());
@@ -98,6 +100,7 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         newDbSqlSessionFactory.setIdGenerator(oldDbSqlSessionFactory.getIdGenerator());
         newDbSqlSessionFactory.setDbHistoryUsed(oldDbSqlSessionFactory.isDbHistoryUsed());
         newDbSqlSessionFactory.setDatabaseSpecificStatements(oldDbSqlSessionFactory.getDatabaseSpecificStatements());
+        newDbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(oldDbSqlSessionFactory.getMaxNrOfStatementsInBulkInsert());
         processEngineConfiguration.addSessionFactory(newDbSqlSessionFactory);
     }
 
@@ -330,6 +333,38 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         }
     }
     
+    public void testOneTaskProcessWithBatchedUpdatesAndDeletes() {
+        if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
+            deployStartProcessInstanceAndProfile("process-usertask-01.bpmn20.xml", "process-usertask-01", false);
+            taskService.complete(taskService.createTaskQuery().singleResult().getId());
+            stopProfiling();
+            double regularRoundtrips = getStats("CompleteTaskCmd").getAverageDbRoundtrips();
+            
+            FlowableProfiler.getInstance().reset();
+            profilingDbSqlSessionFactory.setBatchUpdatesAndDeletesEnabled(true);
+            try {
+                startProcessInstanceAndProfile("process-usertask-01");
+                taskService.complete(taskService.createTaskQuery().singleResult().getId());
+                stopProfiling();
+            } finally {
+                profilingDbSqlSessionFactory.setBatchUpdatesAndDeletesEnabled(false);
+            }
+            
+            // Same logical operations, but the two execution updates and the two execution deletes each go in one roundtrip
+            assertDatabaseUpdates("CompleteTaskCmd", "org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntityImpl", 1L,
+                    "org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl", 2L,
+                    "org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntityImpl", 1L,
+                    "org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityImpl", 1L);
+            assertDatabaseDeletes("CompleteTaskCmd", "TaskEntityImpl", 1L, "ExecutionEntityImpl", 2L);
+            
+            double batchedRoundtrips = getStats("CompleteTaskCmd").getAverageDbRoundtrips();
+            Assert.assertEquals(regularRoundtrips - 2, batchedRoundtrips, 0.001);
+            
+            Assert.assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+            Assert.assertEquals(2, historyService.createHistoricProcessInstanceQuery().finished().count());
+        }
+    }
+    
     public void testOneTaskWithBoundaryTimerProcess() {
         if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
             deployStartProcessInstanceAndProfile("process-usertask-02.bpmn20.xml", "process-usertask-02", false);
@@ -0,0 +1,117 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import java.util.Arrays;
+
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.common.impl.db.DbSqlSession;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+
+/**
+ * Tests the flushing of updates and deletes as JDBC batches.
+ */
+public class BatchedUpdatesAndDeletesTest extends PluggableFlowableTestCase {
+
+    protected boolean oldBatchUpdatesAndDeletesEnabled;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        oldBatchUpdatesAndDeletesEnabled = processEngineConfiguration.getDbSqlSessionFactory().isBatchUpdatesAndDeletesEnabled();
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchUpdatesAndDeletesEnabled(true);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchUpdatesAndDeletesEnabled(oldBatchUpdatesAndDeletesEnabled);
+        super.tearDown();
+    }
+
+    public void testBatchedUpdatesAndDeletes() {
+        Task task1 = createTask();
+        Task task2 = createTask();
+
+        final TaskEntity taskEntity1 = (TaskEntity) taskService.createTaskQuery().taskId(task1.getId()).singleResult();
+        final TaskEntity taskEntity2 = (TaskEntity) taskService.createTaskQuery().taskId(task2.getId()).singleResult();
+        managementService.executeCommand(new UpdateTasksCommand(taskEntity1, taskEntity2, "batched"));
+
+        assertEquals("batched", taskService.createTaskQuery().taskId(task1.getId()).singleResult().getDescription());
+        assertEquals("batched", taskService.createTaskQuery().taskId(task2.getId()).singleResult().getDescription());
+        assertEquals(taskEntity1.getRevision(), ((TaskEntity) taskService.createTaskQuery().taskId(task1.getId()).singleResult()).getRevision());
+
+        taskService.deleteTasks(Arrays.asList(task1.getId(), task2.getId()), true);
+        assertEquals(0, taskService.createTaskQuery().count());
+    }
+
+    public void testOptimisticLockingOnBatchedUpdate() {
+        Task task1 = createTask();
+        Task task2 = createTask();
+
+        final TaskEntity taskEntity1 = (TaskEntity) taskService.createTaskQuery().taskId(task1.getId()).singleResult();
+        final TaskEntity staleTaskEntity2 = (TaskEntity) taskService.createTaskQuery().taskId(task2.getId()).singleResult();
+
+        Task updatedTask2 = taskService.createTaskQuery().taskId(task2.getId()).singleResult();
+        updatedTask2.setDescription("first modification");
+        taskService.saveTask(updatedTask2);
+
+        try {
+            managementService.executeCommand(new UpdateTasksCommand(taskEntity1, staleTaskEntity2, "second modification"));
+            fail("should get an exception here as the second task was modified by someone else.");
+        } catch (FlowableOptimisticLockingException expected) {
+            // exception was thrown as expected
+        }
+
+        // The whole batch is rolled back
+        assertNull(taskService.createTaskQuery().taskId(task1.getId()).singleResult().getDescription());
+        assertEquals("first modification", taskService.createTaskQuery().taskId(task2.getId()).singleResult().getDescription());
+
+        taskService.deleteTasks(Arrays.asList(task1.getId(), task2.getId()), true);
+    }
+
+    protected Task createTask() {
+        Task task = taskService.newTask();
+        taskService.saveTask(task);
+        return task;
+    }
+
+    protected static class UpdateTasksCommand implements Command<Void> {
+
+        protected TaskEntity firstTask;
+        protected TaskEntity secondTask;
+        protected String description;
+
+        public UpdateTasksCommand(TaskEntity firstTask, TaskEntity secondTask, String description) {
+            this.firstTask = firstTask;
+            this.secondTask = secondTask;
+            this.description = description;
+        }
+
+        @Override
+        public Void execute(CommandContext commandContext) {
+            firstTask.setDescription(description);
+            secondTask.setDescription(description);
+
+            DbSqlSession dbSqlSession = CommandContextUtil.getDbSqlSession(commandContext);
+            dbSqlSession.update(firstTask);
+            dbSqlSession.update(secondTask);
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
+
+/**
+ * Tests the update detection of entities that record their own changes.
+ */
+public class EntityChangeTrackingTest extends PluggableFlowableTestCase {
+
+    protected boolean oldEntityChangeTrackingEnabled;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        oldEntityChangeTrackingEnabled = processEngineConfiguration.getDbSqlSessionFactory().isEntityChangeTrackingEnabled();
+        processEngineConfiguration.getDbSqlSessionFactory().setEntityChangeTrackingEnabled(true);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.getDbSqlSessionFactory().setEntityChangeTrackingEnabled(oldEntityChangeTrackingEnabled);
+        super.tearDown();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml")
+    public void testLoadedVariableRecordsChanges() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("myVar", "initial");
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                VariableInstanceEntityImpl variable = (VariableInstanceEntityImpl) findVariable(processInstance.getId(), "myVar");
+                assertTrue(variable.isChangeTracking());
+                assertFalse(variable.hasTrackedChanges());
+
+                // Setting the same value is not a change
+                variable.setTextValue("initial");
+                assertFalse(variable.hasTrackedChanges());
+
+                variable.setTextValue("changed");
+                assertTrue(variable.hasTrackedChanges());
+                return null;
+            }
+        });
+        assertEquals("changed", runtimeService.getVariable(processInstance.getId(), "myVar"));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml")
+    public void testVariableUpdates() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("stringVar", "a");
+        variables.put("bytesVar", "bytes".getBytes());
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+        int revision = getVariableRevision(processInstance.getId(), "stringVar");
+        runtimeService.setVariable(processInstance.getId(), "stringVar", "a");
+        assertEquals(revision, getVariableRevision(processInstance.getId(), "stringVar"));
+
+        runtimeService.setVariable(processInstance.getId(), "stringVar", "b");
+        assertEquals("b", runtimeService.getVariable(processInstance.getId(), "stringVar"));
+        assertEquals(revision + 1, getVariableRevision(processInstance.getId(), "stringVar"));
+
+        // Type change
+        runtimeService.setVariable(processInstance.getId(), "stringVar", 123L);
+        assertEquals(123L, runtimeService.getVariable(processInstance.getId(), "stringVar"));
+
+        runtimeService.setVariable(processInstance.getId(), "bytesVar", "other bytes".getBytes());
+        assertEquals("other bytes", new String((byte[]) runtimeService.getVariable(processInstance.getId(), "bytesVar")));
+    }
+
+    protected int getVariableRevision(final String executionId, final String name) {
+        return managementService.executeCommand(new Command<Integer>() {
+
+            @Override
+            public Integer execute(CommandContext commandContext) {
+                return ((VariableInstanceEntityImpl) findVariable(executionId, name)).getRevision();
+            }
+        });
+    }
+
+    protected VariableInstanceEntity findVariable(String executionId, String name) {
+        return CommandContextUtil.getVariableService().findVariableInstanceByExecutionAndName(executionId, name);
+    }
+
+}
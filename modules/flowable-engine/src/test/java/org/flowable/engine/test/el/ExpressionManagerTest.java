@@ -20,6 +20,10 @@ import java.util.Map;
 
 import org.flowable.engine.common.api.delegate.Expression;
 import org.flowable.engine.common.impl.identity.Authentication;
+import org.flowable.engine.common.impl.javax.el.BeanELResolver;
+import org.flowable.engine.common.impl.javax.el.CompositeELResolver;
+import org.flowable.engine.common.impl.javax.el.ELContext;
+import org.flowable.engine.impl.el.ProcessExpressionManager;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -86,4 +90,20 @@ public class ExpressionManagerTest extends PluggableFlowableTestCase {
             Authentication.setAuthenticatedUserId(null);
         }
     }
+
+    public void testStaticResolversAreShared() {
+        ProcessExpressionManager expressionManager = new ProcessExpressionManager(new HashMap<Object, Object>());
+        ELContext elContext = expressionManager.getElContext(new NoExecutionVariableScope());
+        ELContext otherElContext = expressionManager.getElContext(new NoExecutionVariableScope());
+        assertNotSame(elContext.getELResolver(), otherElContext.getELResolver());
+
+        // the bean resolver and its introspection cache are reused
+        BeanELResolver beanElResolver = ((CompositeELResolver) elContext.getELResolver()).getBeanELResolver(ExecutionTestVariable.class);
+        assertNotNull(beanElResolver);
+        assertSame(beanElResolver, ((CompositeELResolver) otherElContext.getELResolver()).getBeanELResolver(ExecutionTestVariable.class));
+
+        expressionManager.setBeans(new HashMap<Object, Object>());
+        ELContext elContextWithNewBeans = expressionManager.getElContext(new NoExecutionVariableScope());
+        assertNotSame(beanElResolver, ((CompositeELResolver) elContextWithNewBeans.getELResolver()).getBeanELResolver(ExecutionTestVariable.class));
+    }
 }
@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.el;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.delegate.Expression;
+import org.flowable.engine.common.impl.de.odysseus.el.ExpressionFactoryImpl;
+import org.flowable.engine.common.impl.el.DefaultExpressionManager;
+import org.flowable.variable.service.impl.el.NoExecutionVariableScope;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the evaluation of property accesses with inline caches enabled.
+ */
+public class InlineCacheExpressionTest extends TestCase {
+
+    protected Map<Object, Object> beans;
+    protected DefaultExpressionManager expressionManager;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        beans = new HashMap<>();
+        expressionManager = new DefaultExpressionManager(beans);
+        Properties properties = new Properties();
+        properties.setProperty(ExpressionFactoryImpl.PROP_INLINE_CACHES, "true");
+        expressionManager.setExpressionFactory(new ExpressionFactoryImpl(properties));
+    }
+
+    public void testBeanProperty() {
+        Expression expression = expressionManager.createExpression("${order.amount > 100 && order.customer.name == 'kermit'}");
+
+        beans.put("order", new Order(150, new Customer("kermit")));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Boolean.TRUE, expression.getValue(new NoExecutionVariableScope()));
+        }
+
+        beans.put("order", new Order(50, new Customer("kermit")));
+        assertEquals(Boolean.FALSE, expression.getValue(new NoExecutionVariableScope()));
+    }
+
+    public void testBaseClassChanges() {
+        Expression expression = expressionManager.createExpression("${item.name}");
+
+        beans.put("item", new Customer("kermit"));
+        assertEquals("kermit", expression.getValue(new NoExecutionVariableScope()));
+
+        beans.put("item", new Product("gonzo"));
+        assertEquals("gonzo", expression.getValue(new NoExecutionVariableScope()));
+
+        // maps are resolved by the map resolver, not through the cached read method
+        Map<String, Object> map = new HashMap<>();
+        map.put("name", "fozzie");
+        beans.put("item", map);
+        assertEquals("fozzie", expression.getValue(new NoExecutionVariableScope()));
+
+        beans.put("item", new Customer("piggy"));
+        assertEquals("piggy", expression.getValue(new NoExecutionVariableScope()));
+    }
+
+    public void testUnknownProperty() {
+        Expression expression = expressionManager.createExpression("${item.unknown}");
+        beans.put("item", new Customer("kermit"));
+        try {
+            expression.getValue(new NoExecutionVariableScope());
+            fail("Exception expected");
+        } catch (FlowableException e) {
+            assertTrue(e.getMessage().startsWith("Unknown property used in expression"));
+        }
+    }
+
+    public static class Order {
+
+        protected int amount;
+        protected Customer customer;
+
+        public Order(int amount, Customer customer) {
+            this.amount = amount;
+            this.customer = customer;
+        }
+
+        public int getAmount() {
+            return amount;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+    }
+
+    public static class Customer {
+
+        protected String name;
+
+        public Customer(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class Product {
+
+        protected String name;
+
+        public Product(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandExecutor;
+import org.flowable.engine.common.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Tests the acquisition of jobs with one lock statement per acquisition cycle.
+ */
+public class BulkJobAcquisitionTest extends JobExecutorTestCase {
+
+    public void testBulkAcquireJobs() {
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        for (int i = 0; i < 5; i++) {
+            createTweetMessageJob("message " + i);
+        }
+
+        AsyncExecutor firstAsyncExecutor = createBulkAcquiringAsyncExecutor(3);
+        AsyncExecutor secondAsyncExecutor = createBulkAcquiringAsyncExecutor(3);
+
+        AcquiredJobEntities firstAcquiredJobs = commandExecutor.execute(new AcquireJobsCmd(firstAsyncExecutor));
+        assertEquals(3, firstAcquiredJobs.size());
+        assertEquals(3, managementService.createJobQuery().lockOwner(firstAsyncExecutor.getLockOwner()).count());
+
+        // The second executor only gets the jobs that are not locked yet
+        AcquiredJobEntities secondAcquiredJobs = commandExecutor.execute(new AcquireJobsCmd(secondAsyncExecutor));
+        assertEquals(2, secondAcquiredJobs.size());
+        assertEquals(2, managementService.createJobQuery().lockOwner(secondAsyncExecutor.getLockOwner()).count());
+        assertEquals(0, managementService.createJobQuery().unlocked().count());
+
+        for (Job job : managementService.createJobQuery().list()) {
+            managementService.executeJob(job.getId());
+        }
+        assertEquals(5, tweetHandler.getMessages().size());
+    }
+
+    public void testBulkLockSkipsJobsLockedConcurrently() {
+        for (int i = 0; i < 4; i++) {
+            createTweetMessageJob("message " + i);
+        }
+
+        final List<String> jobIds = new ArrayList<>();
+        for (Job job : managementService.createJobQuery().list()) {
+            jobIds.add(job.getId());
+        }
+
+        // Mimics another async executor that locked two of the jobs between the select and the lock of this executor
+        AsyncExecutor otherAsyncExecutor = createBulkAcquiringAsyncExecutor(2);
+        processEngineConfiguration.getCommandExecutor().execute(new AcquireJobsCmd(otherAsyncExecutor));
+
+        final AsyncExecutor asyncExecutor = createBulkAcquiringAsyncExecutor(4);
+        final JobServiceConfiguration jobServiceConfiguration = getJobServiceConfiguration();
+        List<JobEntity> lockedJobs = processEngineConfiguration.getCommandExecutor().execute(new Command<List<JobEntity>>() {
+
+            @Override
+            public List<JobEntity> execute(CommandContext commandContext) {
+                return jobServiceConfiguration.getJobEntityManager().lockJobsToExecute(jobIds, asyncExecutor.getLockOwner(), new Date(System.currentTimeMillis() + 60000L));
+            }
+        });
+
+        assertEquals(2, lockedJobs.size());
+        for (JobEntity lockedJob : lockedJobs) {
+            assertEquals(asyncExecutor.getLockOwner(), lockedJob.getLockOwner());
+        }
+        assertEquals(2, managementService.createJobQuery().lockOwner(otherAsyncExecutor.getLockOwner()).count());
+
+        for (String jobId : jobIds) {
+            managementService.executeJob(jobId);
+        }
+        assertEquals(4, tweetHandler.getMessages().size());
+    }
+
+    public void testBulkAcquireTimerJobs() {
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        for (int i = 0; i < 3; i++) {
+            final String message = "timer " + i;
+            commandExecutor.execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    TimerJobEntity timer = createTweetTimer(message, new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() - 1000L));
+                    CommandContextUtil.getTimerJobService(commandContext).scheduleTimerJob(timer);
+                    return null;
+                }
+            });
+        }
+
+        AsyncExecutor asyncExecutor = createBulkAcquiringAsyncExecutor(5);
+        AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+        assertEquals(3, acquiredJobs.size());
+
+        // All timers are locked now, so a second acquisition doesn't find anything and doesn't fail
+        assertEquals(0, commandExecutor.execute(new AcquireTimerJobsCmd(createBulkAcquiringAsyncExecutor(5))).size());
+
+        for (TimerJobEntity timerJob : acquiredJobs.getJobs()) {
+            Job executableJob = managementService.moveTimerToExecutableJob(timerJob.getId());
+            managementService.executeJob(executableJob.getId());
+        }
+        assertEquals(3, tweetHandler.getMessages().size());
+    }
+
+    protected void createTweetMessageJob(final String message) {
+        processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                CommandContextUtil.getJobService(commandContext).scheduleAsyncJob(createTweetMessage(message));
+                return null;
+            }
+        });
+    }
+
+    protected AsyncExecutor createBulkAcquiringAsyncExecutor(int maxJobsPerAcquisition) {
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setJobServiceConfiguration(getJobServiceConfiguration());
+        asyncExecutor.setBulkJobAcquisitionEnabled(true);
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(maxJobsPerAcquisition);
+        return asyncExecutor;
+    }
+
+    protected JobServiceConfiguration getJobServiceConfiguration() {
+        return (JobServiceConfiguration) processEngineConfiguration.getServiceConfigurations().get(EngineConfigurationConstants.KEY_JOB_SERVICE_CONFIG);
+    }
+
+}
@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnable;
+
+/**
+ * Tests the execution of exclusive jobs with the lock, execute and unlock steps in one transaction.
+ */
+public class ExclusiveJobSingleTransactionTest extends PluggableFlowableTestCase {
+
+    protected boolean oldExclusiveJobsInSingleTransaction;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        oldExclusiveJobsInSingleTransaction = getJobServiceConfiguration().isAsyncExecutorExclusiveJobsInSingleTransaction();
+        getJobServiceConfiguration().setAsyncExecutorExclusiveJobsInSingleTransaction(true);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        getJobServiceConfiguration().setAsyncExecutorExclusiveJobsInSingleTransaction(oldExclusiveJobsInSingleTransaction);
+        super.tearDown();
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/ExclusiveJobSingleTransactionTest.bpmn20.xml")
+    public void testExclusiveJobInSingleTransaction() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("exclusiveAsyncProcess");
+        Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertTrue(job.isExclusive());
+
+        createExecuteAsyncRunnable(job).run();
+
+        assertEquals(0, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(1, taskService.createTaskQuery().processInstanceId(processInstance.getId()).count());
+
+        // The process instance lock is released in the same transaction
+        assertNull(getProcessInstanceLockTime(processInstance.getId()));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/ExclusiveJobSingleTransactionTest.bpmn20.xml")
+    public void testFallbackWhenProcessInstanceIsLocked() {
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("exclusiveAsyncProcess");
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                CommandContextUtil.getExecutionEntityManager(commandContext).updateProcessInstanceLockTime(processInstance.getId());
+                return null;
+            }
+        });
+
+        // Neither the single transaction nor the fallback can lock the process instance, so the job is released again
+        createExecuteAsyncRunnable(managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult()).run();
+        assertEquals(0, taskService.createTaskQuery().processInstanceId(processInstance.getId()).count());
+        Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertNotNull(job);
+        assertNull(job.getLockOwner());
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                CommandContextUtil.getExecutionEntityManager(commandContext).clearProcessInstanceLockTime(processInstance.getId());
+                return null;
+            }
+        });
+
+        createExecuteAsyncRunnable(job).run();
+        assertEquals(1, taskService.createTaskQuery().processInstanceId(processInstance.getId()).count());
+        assertNull(getProcessInstanceLockTime(processInstance.getId()));
+    }
+
+    protected ExecuteAsyncRunnable createExecuteAsyncRunnable(Job job) {
+        JobServiceConfiguration jobServiceConfiguration = getJobServiceConfiguration();
+        return new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobServiceConfiguration.getJobEntityManager(), null);
+    }
+
+    protected Object getProcessInstanceLockTime(final String processInstanceId) {
+        return managementService.executeCommand(new Command<Object>() {
+
+            @Override
+            public Object execute(CommandContext commandContext) {
+                ExecutionEntity processInstance = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstanceId);
+                return processInstance.getLockTime();
+            }
+        });
+    }
+
+    protected JobServiceConfiguration getJobServiceConfiguration() {
+        return (JobServiceConfiguration) processEngineConfiguration.getServiceConfigurations().get(EngineConfigurationConstants.KEY_JOB_SERVICE_CONFIG);
+    }
+
+}
@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.text.MessageFormat;
+
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+
+/**
+ * Tests the {@link ConcurrentDeploymentCache}, bounded by the weight of the cached process definitions.
+ */
+public class ConcurrentDeploymentCacheTest extends ResourceFlowableTestCase {
+
+    public ConcurrentDeploymentCacheTest() {
+        super("org/flowable/standalone/deploy/concurrent.deployment.cache.test.flowable.cfg.xml");
+    }
+
+    public void testDeploymentCacheMaxWeight() {
+        // The weight of a process definition of the template is 6 (1 + 5 flow elements),
+        // so only 2 process definitions fit in the max weight of 15 set in the configuration above
+        @SuppressWarnings("unchecked")
+        ConcurrentDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = (ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) processEngineConfiguration.getProcessDefinitionCache();
+        assertEquals(0, processDefinitionCache.size());
+
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        for (int i = 1; i <= 5; i++) {
+            repositoryService.createDeployment().addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i)).deploy();
+            assertEquals(Math.min(i, 2), processDefinitionCache.size());
+        }
+        assertEquals(12L, processDefinitionCache.getWeight());
+        assertEquals(3L, processDefinitionCache.getEvictionCount());
+
+        // Using an evicted process definition loads it into the cache again
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess1").singleResult();
+        assertFalse(processDefinitionCache.contains(processDefinition.getId()));
+        long missCount = processDefinitionCache.getMissCount();
+        runtimeService.startProcessInstanceByKey("myProcess1");
+        assertTrue(processDefinitionCache.contains(processDefinition.getId()));
+        assertEquals(2, processDefinitionCache.size());
+        assertTrue(processDefinitionCache.getMissCount() > missCount);
+        assertEquals(1L, processDefinitionCache.getLoadCount());
+
+        long hitCount = processDefinitionCache.getHitCount();
+        runtimeService.startProcessInstanceByKey("myProcess1");
+        assertTrue(processDefinitionCache.getHitCount() > hitCount);
+
+        // Cleanup
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(2);
+        cache.add("a", "A");
+        cache.add("b", "B");
+        assertEquals("A", cache.get("a"));
+
+        cache.add("c", "C");
+        assertEquals(2, cache.size());
+        assertTrue(cache.contains("a"));
+        assertFalse(cache.contains("b"));
+        assertTrue(cache.contains("c"));
+        assertEquals(1L, cache.getEvictionCount());
+
+        assertNull(cache.get("b"));
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0L, cache.getWeight());
+    }
+
+}
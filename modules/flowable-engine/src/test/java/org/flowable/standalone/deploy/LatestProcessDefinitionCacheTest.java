@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.text.MessageFormat;
+
+import org.flowable.engine.impl.persistence.deploy.LatestProcessDefinitionCache;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.runtime.ProcessInstance;
+
+/**
+ * Tests the {@link LatestProcessDefinitionCache}.
+ */
+public class LatestProcessDefinitionCacheTest extends ResourceFlowableTestCase {
+
+    public LatestProcessDefinitionCacheTest() {
+        super("org/flowable/standalone/deploy/latest.process.definition.cache.test.flowable.cfg.xml");
+    }
+
+    public void testLatestVersionFollowsDeployments() {
+        LatestProcessDefinitionCache latestProcessDefinitionCache = processEngineConfiguration.getLatestProcessDefinitionCache();
+        assertNotNull(latestProcessDefinitionCache);
+
+        String processDefinitionXml = MessageFormat.format(DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml"), 1);
+        Deployment deployment1 = repositoryService.createDeployment().addString("process.bpmn20.xml", processDefinitionXml).deploy();
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("myProcess1");
+        String processDefinitionId1 = processInstance.getProcessDefinitionId();
+        assertEquals(processDefinitionId1, latestProcessDefinitionCache.get("myProcess1", null));
+        assertEquals(processDefinitionId1, runtimeService.startProcessInstanceByKey("myProcess1").getProcessDefinitionId());
+
+        // A new version replaces the cached version
+        Deployment deployment2 = repositoryService.createDeployment().addString("process.bpmn20.xml", processDefinitionXml).deploy();
+        assertNull(latestProcessDefinitionCache.get("myProcess1", null));
+        String processDefinitionId2 = runtimeService.startProcessInstanceByKey("myProcess1").getProcessDefinitionId();
+        assertFalse(processDefinitionId1.equals(processDefinitionId2));
+        assertEquals(processDefinitionId2, latestProcessDefinitionCache.get("myProcess1", null));
+
+        // Deleting the latest version makes the previous version the latest again
+        repositoryService.deleteDeployment(deployment2.getId(), true);
+        assertNull(latestProcessDefinitionCache.get("myProcess1", null));
+        assertEquals(processDefinitionId1, runtimeService.startProcessInstanceByKey("myProcess1").getProcessDefinitionId());
+
+        repositoryService.deleteDeployment(deployment1.getId(), true);
+    }
+
+    public void testStaleVersionIsCheckedAgain() {
+        LatestProcessDefinitionCache latestProcessDefinitionCache = new LatestProcessDefinitionCache(1L);
+        latestProcessDefinitionCache.add("myProcess", null, "myProcess:1:1");
+        latestProcessDefinitionCache.add("myProcess", "tenant", "myProcess:1:2");
+        assertEquals("myProcess:1:2", latestProcessDefinitionCache.get("myProcess", "tenant"));
+
+        try {
+            Thread.sleep(10L);
+        } catch (InterruptedException e) {
+            fail();
+        }
+        assertNull(latestProcessDefinitionCache.get("myProcess", null));
+        assertNull(latestProcessDefinitionCache.get("myProcess", "tenant"));
+    }
+
+}
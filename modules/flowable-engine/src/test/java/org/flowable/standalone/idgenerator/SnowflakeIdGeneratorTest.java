@@ -0,0 +1,103 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.persistence.SnowflakeIdGenerator;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+
+public class SnowflakeIdGeneratorTest extends ResourceFlowableTestCase {
+
+    public SnowflakeIdGeneratorTest() throws Exception {
+        super("org/flowable/standalone/idgenerator/snowflakeidgenerator.test.flowable.cfg.xml");
+    }
+
+    public void testIdsAreUniqueAndOrderedAcrossThreads() throws Exception {
+        final SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(5);
+        final List<List<String>> idsPerThread = new ArrayList<>();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            final List<String> ids = new ArrayList<>();
+            idsPerThread.add(ids);
+            executorService.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    for (int j = 0; j < 20000; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(1, TimeUnit.MINUTES));
+
+        Set<String> allIds = new HashSet<>();
+        for (List<String> ids : idsPerThread) {
+            assertEquals(20000, ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                assertEquals(19, ids.get(i).length());
+                if (i > 0) {
+                    // ids generated by one thread are increasing in string order
+                    assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0);
+                }
+            }
+            allIds.addAll(ids);
+        }
+        assertEquals(8 * 20000, allIds.size());
+    }
+
+    public void testInvalidNodeId() {
+        try {
+            new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1);
+            fail();
+        } catch (FlowableIllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Deployment(resources = "org/flowable/standalone/idgenerator/UuidGeneratorTest.testUuidGeneratorUsage.bpmn20.xml")
+    public void testSnowflakeIdGeneratorUsage() {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+            processInstanceIds.add(processInstance.getId());
+        }
+
+        List<String> sortedProcessInstanceIds = new ArrayList<>(processInstanceIds);
+        Collections.sort(sortedProcessInstanceIds);
+        assertEquals(processInstanceIds, sortedProcessInstanceIds);
+
+        List<org.flowable.task.api.Task> tasks = taskService.createTaskQuery().list();
+        while (!tasks.isEmpty()) {
+            for (org.flowable.task.api.Task task : tasks) {
+                taskService.complete(task.getId());
+            }
+            tasks = taskService.createTaskQuery().list();
+        }
+        assertEquals(10, historyService.createHistoricProcessInstanceQuery().finished().count());
+    }
+
+}
@@ -32,6 +32,7 @@ import org.flowable.engine.common.impl.interceptor.SessionFactory;
 import org.flowable.engine.common.impl.persistence.GenericManagerFactory;
 import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.common.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
@@ -412,7 +413,9 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration impleme
 
         // Decision cache
         if (formDefinitionCache == null) {
-            if (formDefinitionCacheLimit <= 0) {
+            if (useConcurrentDeploymentCache) {
+                formDefinitionCache = new ConcurrentDeploymentCache<>(formDefinitionCacheLimit);
+            } else if (formDefinitionCacheLimit <= 0) {
                 formDefinitionCache = new DefaultDeploymentCache<>();
             } else {
                 formDefinitionCache = new DefaultDeploymentCache<>(formDefinitionCacheLimit);
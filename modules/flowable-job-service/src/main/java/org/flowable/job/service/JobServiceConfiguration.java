@@ -110,6 +110,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
 
     protected int asyncExecutorNumberOfRetries;
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
+    protected boolean asyncExecutorExclusiveJobsInSingleTransaction;
 
     protected ObjectMapper objectMapper;
 
@@ -452,6 +453,15 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isAsyncExecutorExclusiveJobsInSingleTransaction() {
+        return asyncExecutorExclusiveJobsInSingleTransaction;
+    }
+
+    public JobServiceConfiguration setAsyncExecutorExclusiveJobsInSingleTransaction(boolean asyncExecutorExclusiveJobsInSingleTransaction) {
+        this.asyncExecutorExclusiveJobsInSingleTransaction = asyncExecutorExclusiveJobsInSingleTransaction;
+        return this;
+    }
+
     @Override
     public ObjectMapper getObjectMapper() {
         return objectMapper;
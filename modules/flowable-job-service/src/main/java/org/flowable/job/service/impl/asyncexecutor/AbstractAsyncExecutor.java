@@ -54,6 +54,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int defaultTimerJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultAsyncJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultQueueSizeFullWaitTime;
+    protected boolean isBulkJobAcquisitionEnabled;
 
     protected String lockOwner = UUID.randomUUID().toString();
     protected int timerLockTimeInMillis = 5 * 60 * 1000;
@@ -269,6 +270,16 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.maxAsyncJobsDuePerAcquisition = maxAsyncJobsDuePerAcquisition;
     }
 
+    @Override
+    public boolean isBulkJobAcquisitionEnabled() {
+        return isBulkJobAcquisitionEnabled;
+    }
+
+    @Override
+    public void setBulkJobAcquisitionEnabled(boolean isBulkJobAcquisitionEnabled) {
+        this.isBulkJobAcquisitionEnabled = isBulkJobAcquisitionEnabled;
+    }
+
     @Override
     public int getDefaultTimerJobAcquireWaitTimeInMillis() {
         return defaultTimerJobAcquireWaitTimeInMillis;
@@ -81,6 +81,14 @@ public interface AsyncExecutor {
 
     void setMaxTimerJobsPerAcquisition(int maxJobs);
 
+    /**
+     * When true, the jobs of one acquisition cycle are locked with a single update statement that skips 
+     * the jobs locked by other async executors, instead of locking every job with its own optimistic locking update.
+     */
+    boolean isBulkJobAcquisitionEnabled();
+
+    void setBulkJobAcquisitionEnabled(boolean isBulkJobAcquisitionEnabled);
+
     int getRetryWaitTimeInMillis();
 
     void setRetryWaitTimeInMillis(int retryWaitTimeInMillis);
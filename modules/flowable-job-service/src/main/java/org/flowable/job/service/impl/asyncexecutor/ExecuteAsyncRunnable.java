@@ -24,6 +24,7 @@ import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.cmd.ExecuteAsyncJobCmd;
+import org.flowable.job.service.impl.cmd.ExecuteExclusiveAsyncJobCmd;
 import org.flowable.job.service.impl.cmd.LockExclusiveJobCmd;
 import org.flowable.job.service.impl.cmd.UnlockExclusiveJobCmd;
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
@@ -106,6 +107,11 @@ public class ExecuteAsyncRunnable implements Runnable {
 
         if (job instanceof AbstractRuntimeJobEntity) {
 
+            if (jobServiceConfiguration.isAsyncExecutorExclusiveJobsInSingleTransaction() && ((Job) job).isExclusive()
+                    && executeExclusiveJobInSingleTransaction()) {
+                return;
+            }
+
             boolean lockNotNeededOrSuccess = lockJobIfNeeded();
 
             if (lockNotNeededOrSuccess) {
@@ -140,6 +146,30 @@ public class ExecuteAsyncRunnable implements Runnable {
         }
     }
 
+    /**
+     * Returns true if the job was executed (successfully or not) in one transaction together with the lock and unlock of its scope.
+     * Returns false if the scope couldn't be locked, in which case the job needs to be executed with separate lock and unlock transactions.
+     */
+    protected boolean executeExclusiveJobInSingleTransaction() {
+        ExecuteExclusiveAsyncJobCmd executeExclusiveAsyncJobCmd = new ExecuteExclusiveAsyncJobCmd((Job) job, jobEntityManager);
+        try {
+            jobServiceConfiguration.getCommandExecutor().execute(executeExclusiveAsyncJobCmd);
+
+        } catch (Throwable exception) {
+            if (executeExclusiveAsyncJobCmd.isJobScopeLockFailed()) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Could not lock the scope of exclusive job {} in the job transaction. Falling back to separate lock, execute and unlock transactions. Caught exception: {}",
+                            job.getId(), exception.getMessage());
+                }
+                return false;
+            }
+
+            handleFailedJob(exception);
+        }
+
+        return true;
+    }
+
     protected void unlockJobIfNeeded() {
         Job job = (Job) this.job; // This method is only called for a regular Job
         try {
@@ -248,6 +248,18 @@ public class ExecutorPerTenantAsyncExecutor implements TenantAwareAsyncExecutor
         }
     }
 
+    @Override
+    public boolean isBulkJobAcquisitionEnabled() {
+        return determineAsyncExecutor().isBulkJobAcquisitionEnabled();
+    }
+
+    @Override
+    public void setBulkJobAcquisitionEnabled(boolean isBulkJobAcquisitionEnabled) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            asyncExecutor.setBulkJobAcquisitionEnabled(isBulkJobAcquisitionEnabled);
+        }
+    }
+
     @Override
     public int getMaxTimerJobsPerAcquisition() {
         return determineAsyncExecutor().getMaxTimerJobsPerAcquisition();
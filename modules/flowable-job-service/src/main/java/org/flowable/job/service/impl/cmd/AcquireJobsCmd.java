@@ -12,7 +12,9 @@
  */
 package org.flowable.job.service.impl.cmd;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -53,6 +55,19 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
         List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(new Page(0, maxResults)); 
         AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
 
+        if (asyncExecutor.isBulkJobAcquisitionEnabled()) {
+            List<String> jobIds = new ArrayList<>(jobs.size());
+            for (JobInfoEntity job : jobs) {
+                jobIds.add(job.getId());
+            }
+            
+            for (JobInfoEntity job : jobEntityManager.lockJobsToExecute(jobIds, asyncExecutor.getLockOwner(), 
+                    getLockExpirationTime(commandContext, asyncExecutor.getAsyncJobLockTimeInMillis()))) {
+                acquiredJobs.addJob(job);
+            }
+            return acquiredJobs;
+        }
+
         for (JobInfoEntity job : jobs) {
             lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
             acquiredJobs.addJob(job);
@@ -62,10 +77,14 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
     }
 
     protected void lockJob(CommandContext commandContext, JobInfoEntity job, int lockTimeInMillis) {
+        job.setLockOwner(asyncExecutor.getLockOwner());
+        job.setLockExpirationTime(getLockExpirationTime(commandContext, lockTimeInMillis));
+    }
+
+    protected Date getLockExpirationTime(CommandContext commandContext, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime());
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
-        job.setLockOwner(asyncExecutor.getLockOwner());
-        job.setLockExpirationTime(gregorianCalendar.getTime());
+        return gregorianCalendar.getTime();
     }
 }
@@ -12,7 +12,9 @@
  */
 package org.flowable.job.service.impl.cmd;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -22,6 +24,7 @@ import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityManager;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 
 /**
@@ -38,8 +41,23 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
     @Override
     public AcquiredTimerJobEntities execute(CommandContext commandContext) {
         AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
-        List<TimerJobEntity> timerJobs = CommandContextUtil.getTimerJobEntityManager(commandContext)
-                .findTimerJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
+        TimerJobEntityManager timerJobEntityManager = CommandContextUtil.getTimerJobEntityManager(commandContext);
+        List<TimerJobEntity> timerJobs = timerJobEntityManager.findTimerJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
+
+        if (asyncExecutor.isBulkJobAcquisitionEnabled()) {
+            List<String> jobIds = new ArrayList<>(timerJobs.size());
+            for (TimerJobEntity job : timerJobs) {
+                jobIds.add(job.getId());
+            }
+            
+            // Timer jobs that were locked concurrently by another async executor are skipped, 
+            // so no optimistic locking exception is thrown for the jobs that could be locked.
+            for (TimerJobEntity job : timerJobEntityManager.lockTimerJobsToExecute(jobIds, asyncExecutor.getLockOwner(), 
+                    getLockExpirationTime(commandContext, asyncExecutor.getAsyncJobLockTimeInMillis()))) {
+                acquiredJobs.addJob(job);
+            }
+            return acquiredJobs;
+        }
 
         for (TimerJobEntity job : timerJobs) {
             lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
@@ -54,10 +72,14 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
         // This will trigger an optimistic locking exception when two concurrent executors
         // try to lock, as the revision will not match.
 
+        job.setLockOwner(asyncExecutor.getLockOwner());
+        job.setLockExpirationTime(getLockExpirationTime(commandContext, lockTimeInMillis));
+    }
+
+    protected Date getLockExpirationTime(CommandContext commandContext, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime());
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
-        job.setLockOwner(asyncExecutor.getLockOwner());
-        job.setLockExpirationTime(gregorianCalendar.getTime());
+        return gregorianCalendar.getTime();
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.InternalJobManager;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes an exclusive job in one transaction: the job scope (process instance) is locked,
+ * the job is executed and the lock is released again before the transaction commits.
+ *
+ * This replaces the separate {@link LockExclusiveJobCmd}, {@link ExecuteAsyncJobCmd} and {@link UnlockExclusiveJobCmd} transactions.
+ * When the lock can't be taken, {@link #isJobScopeLockFailed()} returns true after the command failed,
+ * which allows the caller to fall back to the execution in separate transactions.
+ */
+public class ExecuteExclusiveAsyncJobCmd extends ExecuteAsyncJobCmd {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteExclusiveAsyncJobCmd.class);
+
+    protected Job job;
+    protected boolean jobScopeLockFailed;
+
+    public ExecuteExclusiveAsyncJobCmd(Job job, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        super(job != null ? job.getId() : null, jobEntityManager);
+        this.job = job;
+    }
+
+    @Override
+    public Object execute(CommandContext commandContext) {
+
+        if (job == null) {
+            throw new FlowableIllegalArgumentException("job is null");
+        }
+
+        InternalJobManager internalJobManager = CommandContextUtil.getJobServiceConfiguration(commandContext).getInternalJobManager();
+
+        if (job.isExclusive() && job.getExecutionId() != null && internalJobManager != null) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Locking scope of exclusive job {} {}", job.getId(), job.getExecutionId());
+            }
+
+            try {
+                internalJobManager.updateJobScopeLockTime(job);
+            } catch (RuntimeException e) {
+                jobScopeLockFailed = true;
+                throw e;
+            }
+        }
+
+        super.execute(commandContext);
+
+        if (job.isExclusive() && job.getProcessInstanceId() != null && internalJobManager != null) {
+            internalJobManager.clearJobScopeLockTime(job);
+        }
+
+        return null;
+    }
+
+    public boolean isJobScopeLockFailed() {
+        return jobScopeLockFailed;
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
@@ -26,6 +27,13 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
      */
     List<T> findJobsToExecute(Page page);
 
+    /**
+     * Locks the jobs with the given ids that are not locked yet, using one update statement for all of them,
+     * and returns the jobs that are locked by the given lock owner afterwards. 
+     * Jobs that were locked concurrently by another lock owner are skipped instead of causing an optimistic locking exception.
+     */
+    List<T> lockJobsToExecute(List<String> jobIds, String lockOwner, Date lockExpirationTime);
+
     /**
      * Returns all {@link JobEntity} instances related to on ExecutionEntity.
      */
@@ -13,6 +13,8 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
@@ -44,6 +46,14 @@ public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity> extends
         return jobDataManager.findJobsToExecute(page);
     }
 
+    @Override
+    public List<T> lockJobsToExecute(List<String> jobIds, String lockOwner, Date lockExpirationTime) {
+        if (jobIds.isEmpty() || jobDataManager.lockJobs(jobIds, lockOwner, lockExpirationTime) == 0) {
+            return Collections.emptyList();
+        }
+        return jobDataManager.findJobsByIdsAndLockOwner(jobIds, lockOwner);
+    }
+
     @Override
     public List<T> findJobsByExecutionId(String executionId) {
         return jobDataManager.findJobsByExecutionId(executionId);
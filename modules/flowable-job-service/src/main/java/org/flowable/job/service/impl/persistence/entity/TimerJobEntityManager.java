@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
@@ -40,6 +41,12 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
      */
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    /**
+     * Locks the timer jobs with the given ids that are not locked yet, using one update statement for all of them,
+     * and returns the timer jobs that are locked by the given lock owner afterwards.
+     */
+    List<TimerJobEntity> lockTimerJobsToExecute(List<String> jobIds, String lockOwner, Date lockExpirationTime);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * <p>
@@ -14,6 +14,7 @@
 package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
@@ -65,6 +66,14 @@ public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEnt
         return jobDataManager.findTimerJobsToExecute(page);
     }
 
+    @Override
+    public List<TimerJobEntity> lockTimerJobsToExecute(List<String> jobIds, String lockOwner, Date lockExpirationTime) {
+        if (jobIds.isEmpty() || jobDataManager.lockTimerJobs(jobIds, lockOwner, lockExpirationTime) == 0) {
+            return Collections.emptyList();
+        }
+        return jobDataManager.findTimerJobsByIdsAndLockOwner(jobIds, lockOwner);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
         return jobDataManager.findJobsByTypeAndProcessDefinitionId(jobHandlerType, processDefinitionId);
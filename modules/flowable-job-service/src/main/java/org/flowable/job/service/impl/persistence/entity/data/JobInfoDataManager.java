@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
@@ -22,6 +23,10 @@ public interface JobInfoDataManager<T extends JobInfoEntity> extends DataManager
 
     List<T> findJobsToExecute(Page page);
 
+    int lockJobs(List<String> jobIds, String lockOwner, Date lockExpirationTime);
+
+    List<T> findJobsByIdsAndLockOwner(List<String> jobIds, String lockOwner);
+
     List<T> findJobsByExecutionId(final String executionId);
 
     List<T> findJobsByProcessInstanceId(final String processInstanceId);
@@ -53,6 +53,26 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         return getDbSqlSession().selectList("selectHistoryJobsToExecute", params);
     }
 
+    @Override
+    public int lockJobs(List<String> jobIds, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return getDbSqlSession().update("lockHistoryJobs", params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoryJobEntity> findJobsByIdsAndLockOwner(List<String> jobIds, String lockOwner) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        
+        // No cache check: the jobs were updated in the database, the cached versions are outdated
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectHistoryJobsByIdsAndLockOwner", params);
+    }
+
     @Override
     public List<HistoryJobEntity> findJobsByExecutionId(final String executionId) {
         return getDbSqlSession().selectList("selectHistoryJobsByExecutionId", executionId);
@@ -52,6 +52,26 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         return getDbSqlSession().selectList("selectJobsToExecute", null, page);
     }
 
+    @Override
+    public int lockJobs(List<String> jobIds, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return getDbSqlSession().update("lockJobs", params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> findJobsByIdsAndLockOwner(List<String> jobIds, String lockOwner) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        
+        // No cache check: the jobs were updated in the database, the cached versions are outdated
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectJobsByIdsAndLockOwner", params);
+    }
+
     @Override
     public List<JobEntity> findJobsByExecutionId(final String executionId) {
         return getList("selectJobsByExecutionId", executionId, jobsByExecutionIdMatcher, true);
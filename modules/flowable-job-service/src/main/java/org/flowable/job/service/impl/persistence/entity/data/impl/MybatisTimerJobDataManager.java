@@ -65,6 +65,26 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         return getDbSqlSession().selectList("selectTimerJobsToExecute", now, page);
     }
 
+    @Override
+    public int lockTimerJobs(List<String> jobIds, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return getDbSqlSession().update("lockTimerJobs", params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findTimerJobsByIdsAndLockOwner(List<String> jobIds, String lockOwner) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobIds", jobIds);
+        params.put("lockOwner", lockOwner);
+        
+        // No cache check: the jobs were updated in the database, the cached versions are outdated
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectTimerJobsByIdsAndLockOwner", params);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -87,6 +88,13 @@ public class ProcessEngineEndpoint extends AbstractEndpoint<Map<String, Object>>
         DeploymentCache<ProcessDefinitionCacheEntry> deploymentCache = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getProcessDefinitionCache();
         if (deploymentCache instanceof DefaultDeploymentCache) {
             metrics.put("cachedProcessDefinitionCount", ((DefaultDeploymentCache) deploymentCache).size());
+        } else if (deploymentCache instanceof ConcurrentDeploymentCache) {
+            ConcurrentDeploymentCache<ProcessDefinitionCacheEntry> concurrentDeploymentCache = (ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) deploymentCache;
+            metrics.put("cachedProcessDefinitionCount", concurrentDeploymentCache.size());
+            metrics.put("processDefinitionCacheHitCount", concurrentDeploymentCache.getHitCount());
+            metrics.put("processDefinitionCacheMissCount", concurrentDeploymentCache.getMissCount());
+            metrics.put("processDefinitionCacheEvictionCount", concurrentDeploymentCache.getEvictionCount());
+            metrics.put("processDefinitionCacheLoadTime", concurrentDeploymentCache.getTotalLoadTime());
         }
         return metrics;
     }
@@ -0,0 +1,24 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.api.types;
+
+/**
+ * Marks a {@link VariableType} of which {@link VariableType#isAbleToStore(Object)} depends on the value itself and not only on its class,
+ * for example on the length of a string.
+ * <p>
+ * The variable type of values is resolved once per class for the types that don't implement this interface,
+ * so custom types that inspect the value must implement it.
+ */
+public interface ValueDependentVariableType {
+
+}
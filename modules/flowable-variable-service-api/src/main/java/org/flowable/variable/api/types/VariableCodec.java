@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.api.types;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Binary format used to store object variables as an alternative to Java serialization.
+ * <p>
+ * Each codec is registered as its own {@link VariableType}, of which the name is derived from {@link #getName()}. The name is stored with every
+ * variable, so it must never change once variables have been written with the codec. Values the codec can't encode are stored by the next
+ * variable type, typically the serializable type.
+ */
+public interface VariableCodec {
+
+    /**
+     * @return the unique name of the codec
+     */
+    String getName();
+
+    /**
+     * @return true if the given (non-null) value, including everything it references, can be encoded and decoded again without loss
+     */
+    boolean canEncode(Object value);
+
+    /**
+     * Writes the encoded value to the given stream. Any buffering done by the codec itself must be flushed before returning.
+     */
+    void encode(Object value, OutputStream outputStream) throws IOException;
+
+    Object decode(InputStream inputStream) throws IOException;
+
+}
@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeReference;
+
+/**
+ * MyBatis TypeHandler that passes an {@link InputStream} to the JDBC driver as is, so the driver can write its content in chunks instead of
+ * the whole content needing to be in memory as a byte array.
+ * <p>
+ * Only meant to be used for parameters: a stream obtained from a result set isn't readable anymore once the result set is closed.
+ */
+public class InputStreamTypeHandler extends TypeReference<InputStream> implements TypeHandler<InputStream> {
+
+    @Override
+    public void setParameter(PreparedStatement ps, int i, InputStream parameter, JdbcType jdbcType) throws SQLException {
+        if (parameter == null) {
+            ps.setNull(i, jdbcType != null ? jdbcType.TYPE_CODE : Types.BLOB);
+        } else {
+            ps.setBinaryStream(i, parameter);
+        }
+    }
+
+    @Override
+    public InputStream getResult(ResultSet rs, String columnName) throws SQLException {
+        return rs.getBinaryStream(columnName);
+    }
+
+    @Override
+    public InputStream getResult(ResultSet rs, int columnIndex) throws SQLException {
+        return rs.getBinaryStream(columnIndex);
+    }
+
+    @Override
+    public InputStream getResult(CallableStatement cs, int columnIndex) throws SQLException {
+        byte[] bytes = cs.getBytes(columnIndex);
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
+}
@@ -51,4 +51,9 @@ public interface HistoricVariableInstanceEntity extends ValueFields, HistoricVar
 
     VariableByteArrayRef getByteArrayRef();
 
+    /**
+     * Sets the byte array value to a copy of the given byte array, which is made by the database instead of reading the content into memory.
+     */
+    void copyBytes(VariableByteArrayEntity byteArray);
+
 }
@@ -107,6 +107,14 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
         byteArrayRef.setValue("hist.var-" + name, bytes);
     }
 
+    @Override
+    public void copyBytes(VariableByteArrayEntity byteArray) {
+        if (byteArrayRef == null) {
+            byteArrayRef = new VariableByteArrayRef();
+        }
+        byteArrayRef.setValue("hist.var-" + name, byteArray);
+    }
+
     // getters and setters //////////////////////////////////////////////////////
 
     @Override
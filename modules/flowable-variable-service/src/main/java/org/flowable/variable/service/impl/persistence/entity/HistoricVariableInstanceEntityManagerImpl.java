@@ -76,7 +76,13 @@ public class HistoricVariableInstanceEntityManagerImpl extends AbstractEntityMan
 
         historicVariableInstance.setVariableType(variableInstance.getType());
         if (variableInstance.getByteArrayRef() != null) {
-            historicVariableInstance.setBytes(variableInstance.getBytes());
+            VariableByteArrayEntity byteArray = variableInstance.getByteArrayRef().getEntity();
+            if (byteArray != null && byteArray.getContentStream() != null) {
+                // The stream can only be read once, when the byte array is written, so the database copies the content afterwards
+                historicVariableInstance.copyBytes(byteArray);
+            } else {
+                historicVariableInstance.setBytes(variableInstance.getBytes());
+            }
         }
 
         historicVariableInstance.setLastUpdatedTime(getClock().getCurrentTime());
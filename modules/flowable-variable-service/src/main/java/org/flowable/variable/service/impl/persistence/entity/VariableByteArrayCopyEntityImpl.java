@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.persistence.entity;
+
+import java.io.InputStream;
+
+/**
+ * Byte array of which the content is copied from another byte array by the database when it is inserted. Used to copy content that was
+ * set as a stream, and can therefore only be read once, without reading it into memory.
+ * <p>
+ * When the source byte array isn't written to the database after all, because it was deleted again in the same transaction, the content
+ * of the source is written to this byte array instead.
+ * <p>
+ * Inserted after all {@link VariableByteArrayEntityImpl} instances, as it isn't part of the entity insertion order.
+ */
+public class VariableByteArrayCopyEntityImpl extends VariableByteArrayEntityImpl {
+
+    private static final long serialVersionUID = 1L;
+
+    protected transient VariableByteArrayEntity source;
+
+    public VariableByteArrayCopyEntityImpl(VariableByteArrayEntity source) {
+        this.source = source;
+    }
+
+    /**
+     * @return the id of the byte array to copy the content from, or null when the content isn't copied by the database
+     */
+    public String getSourceId() {
+        if (source != null && !source.isDeleted()) {
+            return source.getId();
+        }
+        return null;
+    }
+
+    @Override
+    public byte[] getBytes() {
+        if (source != null) {
+            return source.getBytes();
+        }
+        return super.getBytes();
+    }
+
+    @Override
+    public void setBytes(byte[] bytes) {
+        source = null;
+        super.setBytes(bytes);
+    }
+
+    @Override
+    public InputStream getContentStream() {
+        if (source != null) {
+            return source.getContentStream();
+        }
+        return super.getContentStream();
+    }
+
+    @Override
+    public void setContentStream(InputStream contentStream) {
+        source = null;
+        super.setContentStream(contentStream);
+    }
+
+    @Override
+    public String toString() {
+        return "ByteArrayCopyEntity[id=" + id + ", name=" + name + ", source=" + source + "]";
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
+
 import org.flowable.engine.common.impl.db.HasRevision;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 
@@ -34,4 +36,15 @@ public interface VariableByteArrayEntity extends Entity, HasRevision {
 
     void setBytes(byte[] bytes);
 
+    /**
+     * @return the stream of which the content still needs to be written to the database, or null if there is none
+     */
+    InputStream getContentStream();
+
+    /**
+     * Sets the content from a stream instead of a byte array. The stream is handed to the JDBC driver when the entity is flushed, so its content
+     * doesn't need to be in memory as a whole. When the bytes are requested before that, the stream is read into a byte array instead.
+     */
+    void setContentStream(InputStream contentStream);
+
 }
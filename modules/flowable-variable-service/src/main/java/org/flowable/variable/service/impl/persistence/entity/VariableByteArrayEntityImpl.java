@@ -12,11 +12,13 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Arrays;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+import org.flowable.engine.common.impl.util.IoUtil;
 
 /**
  * @author Tom Baeyens
@@ -30,6 +32,7 @@ public class VariableByteArrayEntityImpl extends AbstractEntity implements Varia
     protected String name;
     protected byte[] bytes;
     protected String deploymentId;
+    protected transient InputStream contentStream;
 
     public VariableByteArrayEntityImpl() {
 
@@ -37,12 +40,18 @@ public class VariableByteArrayEntityImpl extends AbstractEntity implements Varia
 
     @Override
     public byte[] getBytes() {
+        if (contentStream != null) {
+            // the content is needed before it has been written, so there's no way around reading it into memory
+            bytes = IoUtil.readInputStream(contentStream, name);
+            IoUtil.closeSilently(contentStream);
+            contentStream = null;
+        }
         return bytes;
     }
 
     @Override
     public Object getPersistentState() {
-        return new PersistentState(name, bytes);
+        return new PersistentState(name, bytes, contentStream);
     }
 
     // getters and setters ////////////////////////////////////////////////////////
@@ -70,11 +79,23 @@ public class VariableByteArrayEntityImpl extends AbstractEntity implements Varia
     @Override
     public void setBytes(byte[] bytes) {
         this.bytes = bytes;
+        this.contentStream = null;
+    }
+
+    @Override
+    public InputStream getContentStream() {
+        return contentStream;
+    }
+
+    @Override
+    public void setContentStream(InputStream contentStream) {
+        this.contentStream = contentStream;
+        this.bytes = null;
     }
 
     @Override
     public String toString() {
-        return "ByteArrayEntity[id=" + id + ", name=" + name + ", size=" + (bytes != null ? bytes.length : 0) + "]";
+        return "ByteArrayEntity[id=" + id + ", name=" + name + (contentStream != null ? ", streaming" : ", size=" + (bytes != null ? bytes.length : 0)) + "]";
     }
 
     // Wrapper for a byte array, needed to do byte array comparisons
@@ -83,17 +104,20 @@ public class VariableByteArrayEntityImpl extends AbstractEntity implements Varia
 
         private final String name;
         private final byte[] bytes;
+        private final InputStream contentStream;
 
-        public PersistentState(String name, byte[] bytes) {
+        public PersistentState(String name, byte[] bytes, InputStream contentStream) {
             this.name = name;
             this.bytes = bytes;
+            this.contentStream = contentStream;
         }
 
         @Override
         public boolean equals(Object obj) {
             if (obj instanceof PersistentState) {
                 PersistentState other = (PersistentState) obj;
-                return StringUtils.equals(this.name, other.name) && Arrays.equals(this.bytes, other.bytes);
+                return StringUtils.equals(this.name, other.name) && Arrays.equals(this.bytes, other.bytes)
+                        && this.contentStream == other.contentStream;
             }
             return false;
         }
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.io.Serializable;
 
 import org.flowable.variable.service.impl.util.CommandContextUtil;
@@ -58,6 +59,42 @@ public class VariableByteArrayRef implements Serializable {
         setBytes(bytes);
     }
 
+    /**
+     * Sets the content from a stream, which is only read when the byte array is flushed. The stream is not closed by this method.
+     */
+    public void setValue(String name, InputStream contentStream) {
+        this.name = name;
+
+        // Replacing the byte array avoids loading the previous content only to overwrite it
+        delete();
+        deleted = false;
+
+        if (contentStream != null) {
+            VariableByteArrayEntityManager byteArrayEntityManager = CommandContextUtil.getByteArrayEntityManager();
+            entity = byteArrayEntityManager.create();
+            entity.setName(name);
+            entity.setContentStream(contentStream);
+            byteArrayEntityManager.insert(entity);
+            id = entity.getId();
+        }
+    }
+
+    /**
+     * Sets the content to a copy of the given byte array, which is made by the database when this byte array is flushed. Used for content
+     * that was set as a stream, so that it doesn't need to be read into memory.
+     */
+    public void setValue(String name, VariableByteArrayEntity source) {
+        this.name = name;
+
+        delete();
+        deleted = false;
+
+        entity = new VariableByteArrayCopyEntityImpl(source);
+        entity.setName(name);
+        CommandContextUtil.getByteArrayEntityManager().insert(entity);
+        id = entity.getId();
+    }
+
     private void setBytes(byte[] bytes) {
         if (id == null) {
             if (bytes != null) {
@@ -12,6 +12,8 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
+
 import org.flowable.engine.common.impl.db.HasRevision;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
@@ -28,6 +30,11 @@ public interface VariableInstanceEntity extends VariableInstance, Entity, HasRev
 
     VariableByteArrayRef getByteArrayRef();
 
+    /**
+     * Stores the content of the given stream as the bytes of this variable, without reading it into memory as a whole.
+     */
+    void setContentStream(InputStream contentStream);
+
     VariableType getType();
 
     void setType(VariableType type);
@@ -12,12 +12,14 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+import org.flowable.engine.common.impl.persistence.entity.ChangeTrackingEntity;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 
@@ -26,10 +28,22 @@ import org.flowable.variable.api.types.VariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractEntity implements VariableInstanceEntity, ValueFields, ChangeTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    // Bits of the changedFields mask, one for each field that is part of the persistent state
+    protected static final int NAME_CHANGED = 1;
+    protected static final int TYPE_CHANGED = 1 << 1;
+    protected static final int EXECUTION_ID_CHANGED = 1 << 2;
+    protected static final int SCOPE_ID_CHANGED = 1 << 3;
+    protected static final int SUB_SCOPE_ID_CHANGED = 1 << 4;
+    protected static final int SCOPE_TYPE_CHANGED = 1 << 5;
+    protected static final int LONG_VALUE_CHANGED = 1 << 6;
+    protected static final int DOUBLE_VALUE_CHANGED = 1 << 7;
+    protected static final int TEXT_VALUE_CHANGED = 1 << 8;
+    protected static final int TEXT_VALUE2_CHANGED = 1 << 9;
+
     protected String name;
     protected VariableType type;
     protected String typeName;
@@ -52,6 +66,10 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     protected boolean forcedUpdate;
     protected boolean deleted;
 
+    protected boolean changeTracking;
+    protected int changedFields;
+    protected String trackedByteArrayValueId;
+
     public VariableInstanceEntityImpl() {
 
     }
@@ -84,9 +102,45 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     public void forceUpdate() {
         forcedUpdate = true;
     }
-    
+
+    // change tracking ////////////////////////////////////////////////////////////
+
+    @Override
+    public void startChangeTracking() {
+        changeTracking = true;
+        changedFields = 0;
+        trackedByteArrayValueId = byteArrayRef != null ? byteArrayRef.getId() : null;
+    }
+
+    @Override
+    public boolean isChangeTracking() {
+        return changeTracking;
+    }
+
+    @Override
+    public boolean hasTrackedChanges() {
+        if (changedFields != 0 || forcedUpdate) {
+            return true;
+        }
+
+        // The byte array reference can be changed through the reference itself (e.g. when it is deleted)
+        String byteArrayValueId = byteArrayRef != null ? byteArrayRef.getId() : null;
+        return !isEqual(trackedByteArrayValueId, byteArrayValueId);
+    }
+
+    protected void trackChange(int changedField, Object oldValue, Object newValue) {
+        if (changeTracking && !isEqual(oldValue, newValue)) {
+            changedFields |= changedField;
+        }
+    }
+
+    protected boolean isEqual(Object value, Object otherValue) {
+        return value == null ? otherValue == null : value.equals(otherValue);
+    }
+
     @Override
     public void setExecutionId(String executionId) {
+        trackChange(EXECUTION_ID_CHANGED, this.executionId, executionId);
         this.executionId = executionId;
     }
 
@@ -114,6 +168,12 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
         byteArrayRef.setValue("var-" + name, bytes);
     }
 
+    @Override
+    public void setContentStream(InputStream contentStream) {
+        ensureByteArrayRefInitialized();
+        byteArrayRef.setValue("var-" + name, contentStream);
+    }
+
     @Override
     public VariableByteArrayRef getByteArrayRef() {
         return byteArrayRef;
@@ -146,6 +206,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setName(String name) {
+        trackChange(NAME_CHANGED, this.name, name);
         this.name = name;
     }
 
@@ -177,6 +238,9 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setType(VariableType type) {
+        if (changeTracking) {
+            trackChange(TYPE_CHANGED, this.type != null ? this.type.getTypeName() : null, type != null ? type.getTypeName() : null);
+        }
         this.type = type;
     }
 
@@ -212,6 +276,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setScopeId(String scopeId) {
+        trackChange(SCOPE_ID_CHANGED, this.scopeId, scopeId);
         this.scopeId = scopeId;
     }
     
@@ -222,6 +287,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     
     @Override
     public void setSubScopeId(String subScopeId) {
+        trackChange(SUB_SCOPE_ID_CHANGED, this.subScopeId, subScopeId);
         this.subScopeId = subScopeId;
     }
 
@@ -232,6 +298,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setScopeType(String scopeType) {
+        trackChange(SCOPE_TYPE_CHANGED, this.scopeType, scopeType);
         this.scopeType = scopeType;
     }
 
@@ -242,6 +309,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setLongValue(Long longValue) {
+        trackChange(LONG_VALUE_CHANGED, this.longValue, longValue);
         this.longValue = longValue;
     }
 
@@ -252,6 +320,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setDoubleValue(Double doubleValue) {
+        trackChange(DOUBLE_VALUE_CHANGED, this.doubleValue, doubleValue);
         this.doubleValue = doubleValue;
     }
 
@@ -262,6 +331,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setTextValue(String textValue) {
+        trackChange(TEXT_VALUE_CHANGED, this.textValue, textValue);
         this.textValue = textValue;
     }
 
@@ -272,6 +342,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     @Override
     public void setTextValue2(String textValue2) {
+        trackChange(TEXT_VALUE2_CHANGED, this.textValue2, textValue2);
         this.textValue2 = textValue2;
     }
 
@@ -25,6 +25,7 @@ import java.util.Set;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.el.PrefetchingVariableContainer;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.javax.el.ELContext;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
@@ -42,7 +43,7 @@ import org.flowable.variable.service.impl.util.CommandContextUtil;
  * @author Tijs Rademakers
  * @author Saeid Mirzaei
  */
-public abstract class VariableScopeImpl extends AbstractEntity implements Serializable, VariableScope {
+public abstract class VariableScopeImpl extends AbstractEntity implements Serializable, VariableScope, PrefetchingVariableContainer {
 
     private static final long serialVersionUID = 1L;
 
@@ -52,6 +53,9 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     // The cache is used when fetching/setting specific variables
     protected Map<String, VariableInstanceEntity> usedVariablesCache = new HashMap<>();
 
+    // The names of specific variables that were fetched, but don't exist on this scope
+    protected Set<String> missingVariablesCache;
+
     protected Map<String, VariableInstance> transientVariabes;
 
     protected ELContext cachedElContext;
@@ -134,16 +138,13 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
         } else {
 
-            // Go up if needed
-            VariableScope parent = getParentVariableScope();
-            if (parent != null) {
-                requestedVariables.putAll(parent.getVariables(variableNamesToFetch, fetchAllVariables));
-            }
-
-            // Fetch variables on this scope
-            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
-            for (VariableInstanceEntity variable : variables) {
-                requestedVariables.put(variable.getName(), variable.getValue());
+            // Fetch the variables of this scope and its parents with one query per scope, they end up in the cache of each scope
+            prefetchVariables(variableNamesToFetch);
+            for (String variableName : variableNamesToFetch) {
+                VariableInstance variable = getVariableInstance(variableName, false);
+                if (variable != null) {
+                    requestedVariables.put(variableName, variable.getValue());
+                }
             }
 
             return requestedVariables;
@@ -181,16 +182,13 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
         } else {
 
-            // Go up if needed
-            VariableScope parent = getParentVariableScope();
-            if (parent != null) {
-                requestedVariables.putAll(parent.getVariableInstances(variableNamesToFetch, fetchAllVariables));
-            }
-
-            // Fetch variables on this scope
-            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
-            for (VariableInstanceEntity variable : variables) {
-                requestedVariables.put(variable.getName(), variable);
+            // Fetch the variables of this scope and its parents with one query per scope, they end up in the cache of each scope
+            prefetchVariables(variableNamesToFetch);
+            for (String variableName : variableNamesToFetch) {
+                VariableInstance variable = getVariableInstance(variableName, false);
+                if (variable != null) {
+                    requestedVariables.put(variableName, variable);
+                }
             }
 
             return requestedVariables;
@@ -307,9 +305,8 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
                 return variableInstances.get(variableName);
             }
 
-            VariableInstanceEntity variable = getSpecificVariable(variableName);
+            VariableInstanceEntity variable = fetchSpecificVariable(variableName);
             if (variable != null) {
-                usedVariablesCache.put(variableName, variable);
                 return variable;
             }
 
@@ -326,6 +323,86 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
     protected abstract VariableInstanceEntity getSpecificVariable(String variableName);
 
+    /**
+     * Fetches a single variable of this scope and caches the outcome, also when the variable doesn't exist.
+     */
+    protected VariableInstanceEntity fetchSpecificVariable(String variableName) {
+        if (missingVariablesCache != null && missingVariablesCache.contains(variableName)) {
+            return null;
+        }
+
+        VariableInstanceEntity variable = getSpecificVariable(variableName);
+        if (variable != null) {
+            usedVariablesCache.put(variableName, variable);
+        } else {
+            getMissingVariablesCache().add(variableName);
+        }
+        return variable;
+    }
+
+    /**
+     * Fetches the given variables of this scope and its parents without fetching all variables. Every scope is queried at most once,
+     * for the names that aren't known yet on that scope. The fetched variables are added to the cache of used variables, and the names
+     * that don't exist are remembered, so getting these variables with fetchAllVariables set to false doesn't query the database anymore.
+     */
+    @Override
+    public void prefetchVariables(Collection<String> variableNames) {
+        prefetchVariablesLocal(variableNames);
+
+        VariableScopeImpl parentScope = getParentVariableScope();
+        if (parentScope != null) {
+            List<String> parentVariableNames = new ArrayList<>();
+            for (String variableName : variableNames) {
+                if (!isVariableAvailableLocal(variableName)) {
+                    parentVariableNames.add(variableName);
+                }
+            }
+            if (!parentVariableNames.isEmpty()) {
+                parentScope.prefetchVariables(parentVariableNames);
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #prefetchVariables(Collection)}, without going up the hierarchy.
+     */
+    public void prefetchVariablesLocal(Collection<String> variableNames) {
+        Set<String> variableNamesToFetch = null;
+        for (String variableName : variableNames) {
+            if (!isVariableAvailableLocal(variableName) && (missingVariablesCache == null || !missingVariablesCache.contains(variableName))) {
+                if (variableNamesToFetch == null) {
+                    variableNamesToFetch = new HashSet<>();
+                }
+                variableNamesToFetch.add(variableName);
+            }
+        }
+
+        if (variableNamesToFetch != null) {
+            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
+            for (VariableInstanceEntity variable : variables) {
+                usedVariablesCache.put(variable.getName(), variable);
+                variableNamesToFetch.remove(variable.getName());
+            }
+            getMissingVariablesCache().addAll(variableNamesToFetch);
+        }
+    }
+
+    /**
+     * @return whether the variable is available on this scope without querying the database
+     */
+    protected boolean isVariableAvailableLocal(String variableName) {
+        return (transientVariabes != null && transientVariabes.containsKey(variableName))
+                || usedVariablesCache.containsKey(variableName)
+                || (variableInstances != null && variableInstances.containsKey(variableName));
+    }
+
+    protected Set<String> getMissingVariablesCache() {
+        if (missingVariablesCache == null) {
+            missingVariablesCache = new HashSet<>();
+        }
+        return missingVariablesCache;
+    }
+
     @Override
     public Object getVariableLocal(String variableName) {
         return getVariableLocal(variableName, true);
@@ -376,9 +453,8 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
                 }
             }
 
-            VariableInstanceEntity variable = getSpecificVariable(variableName);
+            VariableInstanceEntity variable = fetchSpecificVariable(variableName);
             if (variable != null) {
-                usedVariablesCache.put(variableName, variable);
                 return variable;
             }
 
@@ -424,6 +500,17 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         return false;
     }
 
+    /**
+     * Same as {@link #hasVariable(String)}, but with fetchAllVariables set to false only the variable itself is fetched when it isn't known yet.
+     */
+    @Override
+    public boolean hasVariable(String variableName, boolean fetchAllVariables) {
+        if (fetchAllVariables) {
+            return hasVariable(variableName);
+        }
+        return getVariableInstance(variableName, false) != null;
+    }
+
     @Override
     public boolean hasVariableLocal(String variableName) {
         if (transientVariabes != null && transientVariabes.containsKey(variableName)) {
@@ -523,9 +610,12 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
         } else {
 
-            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
-            for (VariableInstanceEntity variable : variables) {
-                requestedVariables.put(variable.getName(), variable.getValue());
+            prefetchVariablesLocal(variableNamesToFetch);
+            for (String variableName : variableNamesToFetch) {
+                VariableInstance variable = getVariableInstanceLocal(variableName, false);
+                if (variable != null) {
+                    requestedVariables.put(variableName, variable.getValue());
+                }
             }
 
         }
@@ -558,9 +648,12 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
         } else {
 
-            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
-            for (VariableInstanceEntity variable : variables) {
-                requestedVariables.put(variable.getName(), variable);
+            prefetchVariablesLocal(variableNamesToFetch);
+            for (String variableName : variableNamesToFetch) {
+                VariableInstance variable = getVariableInstanceLocal(variableName, false);
+                if (variable != null) {
+                    requestedVariables.put(variableName, variable);
+                }
             }
 
         }
@@ -816,6 +909,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         ensureVariableInstancesInitialized();
         VariableInstanceEntity variableInstance = variableInstances.remove(variableName);
         if (variableInstance != null) {
+            usedVariablesCache.remove(variableName);
             deleteVariableInstanceForExplicitUserCall(variableInstance);
         }
     }
@@ -884,6 +978,9 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         if (variableInstances != null) {
             variableInstances.put(variableName, variableInstance);
         }
+        if (missingVariablesCache != null) {
+            missingVariablesCache.remove(variableName);
+        }
         
         VariableServiceConfiguration variableServiceConfiguration = CommandContextUtil.getVariableServiceConfiguration();
         if (isPropagateToHistoricVariable()) {
@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.OutputStream;
+
+/**
+ * {@link OutputStream} that compares everything written to it against an expected byte array, without keeping the written bytes around.
+ * Used to verify whether the serialized form of a value still matches its original bytes without materializing a new byte array.
+ */
+public class ByteArrayComparingOutputStream extends OutputStream {
+
+    protected final byte[] expectedBytes;
+    protected int position;
+    protected boolean different;
+
+    public ByteArrayComparingOutputStream(byte[] expectedBytes) {
+        this.expectedBytes = expectedBytes;
+    }
+
+    @Override
+    public void write(int b) {
+        if (!different && (position >= expectedBytes.length || expectedBytes[position] != (byte) b)) {
+            different = true;
+        }
+        position++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (!different) {
+            if (position + len > expectedBytes.length) {
+                different = true;
+            } else {
+                for (int i = 0; i < len; i++) {
+                    if (expectedBytes[position + i] != b[off + i]) {
+                        different = true;
+                        break;
+                    }
+                }
+            }
+        }
+        position += len;
+    }
+
+    /**
+     * @return true if exactly the expected bytes have been written to this stream
+     */
+    public boolean isEqual() {
+        return !different && position == expectedBytes.length;
+    }
+
+}
@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.InputStream;
+
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandContextCloseListener;
+import org.flowable.engine.common.impl.util.IoUtil;
+
+/**
+ * A {@link CommandContextCloseListener} that closes the stream of a variable set by the {@link InputStreamType} once the {@link CommandContext}
+ * is done with it, regardless of whether the command succeeded.
+ */
+public class CloseInputStreamCommandContextCloseListener implements CommandContextCloseListener {
+
+    protected InputStream inputStream;
+
+    public CloseInputStreamCommandContextCloseListener(InputStream inputStream) {
+        this.inputStream = inputStream;
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        IoUtil.closeSilently(inputStream);
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+        IoUtil.closeSilently(inputStream);
+    }
+
+}
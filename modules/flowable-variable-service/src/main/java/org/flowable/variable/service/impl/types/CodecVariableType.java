@@ -0,0 +1,148 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.variable.api.types.ValueDependentVariableType;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableCodec;
+
+/**
+ * Stores object variables in the binary format of a {@link VariableCodec} instead of using Java serialization.
+ * <p>
+ * The stored bytes start with a header byte telling whether the encoded value is compressed, so the compression threshold can be changed
+ * at any time without affecting existing variables.
+ */
+public class CodecVariableType extends SerializableType implements ValueDependentVariableType {
+
+    public static final String TYPE_NAME_PREFIX = "codec:";
+
+    protected static final byte FORMAT_PLAIN = 0;
+    protected static final byte FORMAT_DEFLATE = 1;
+
+    protected VariableCodec codec;
+
+    /**
+     * Encoded values larger than this number of bytes are compressed. A negative value disables compression.
+     */
+    protected int compressionThreshold = -1;
+
+    public CodecVariableType(VariableCodec codec) {
+        this.codec = codec;
+    }
+
+    public CodecVariableType(VariableCodec codec, boolean trackDeserializedObjects, int compressionThreshold) {
+        super(trackDeserializedObjects);
+        this.codec = codec;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME_PREFIX + codec.getName();
+    }
+
+    @Override
+    public boolean isAbleToStore(Object value) {
+        return value != null && codec.canEncode(value);
+    }
+
+    @Override
+    public byte[] serialize(Object value, ValueFields valueFields) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            baos.write(FORMAT_PLAIN);
+            codec.encode(value, baos);
+
+            if (compressionThreshold < 0 || baos.size() - 1 <= compressionThreshold) {
+                return baos.toByteArray();
+            }
+
+            byte[] plainBytes = baos.toByteArray();
+            ByteArrayOutputStream compressedBaos = new ByteArrayOutputStream(plainBytes.length / 2);
+            compressedBaos.write(FORMAT_DEFLATE);
+            DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(compressedBaos);
+            deflaterOutputStream.write(plainBytes, 1, plainBytes.length - 1);
+            deflaterOutputStream.close();
+            return compressedBaos.toByteArray();
+
+        } catch (Exception e) {
+            throw new FlowableException("Couldn't encode value '" + value + "' in variable '" + getVariableName(valueFields) + "' with codec " + codec.getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes, ValueFields valueFields) {
+        if (bytes.length == 0) {
+            throw new FlowableException("No encoded value found for variable '" + getVariableName(valueFields) + "'");
+        }
+        try {
+            InputStream inputStream = new ByteArrayInputStream(bytes, 1, bytes.length - 1);
+            if (bytes[0] == FORMAT_DEFLATE) {
+                inputStream = new InflaterInputStream(inputStream);
+            } else if (bytes[0] != FORMAT_PLAIN) {
+                throw new FlowableException("Unknown format " + bytes[0] + " for codec " + codec.getName());
+            }
+            return codec.decode(inputStream);
+
+        } catch (FlowableException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FlowableException("Couldn't decode object in variable '" + getVariableName(valueFields) + "' with codec " + codec.getName(), e);
+        }
+    }
+
+    @Override
+    public boolean isSerializedFormUnchanged(Object value, byte[] originalBytes, ValueFields valueFields) {
+        if (value == null || originalBytes == null || originalBytes.length == 0 || originalBytes[0] != FORMAT_PLAIN) {
+            return Arrays.equals(serialize(value, valueFields), originalBytes);
+        }
+
+        ByteArrayComparingOutputStream comparingOutputStream = new ByteArrayComparingOutputStream(originalBytes);
+        try {
+            comparingOutputStream.write(FORMAT_PLAIN);
+            codec.encode(value, comparingOutputStream);
+        } catch (Exception e) {
+            throw new FlowableException("Couldn't encode value '" + value + "' in variable '" + getVariableName(valueFields) + "' with codec " + codec.getName(), e);
+        }
+
+        return comparingOutputStream.isEqual();
+    }
+
+    protected String getVariableName(ValueFields valueFields) {
+        return valueFields != null ? valueFields.getName() : null;
+    }
+
+    public VariableCodec getCodec() {
+        return codec;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+}
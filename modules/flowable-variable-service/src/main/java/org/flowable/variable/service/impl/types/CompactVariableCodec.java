@@ -0,0 +1,347 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.UUID;
+
+import org.flowable.variable.api.types.VariableCodec;
+
+/**
+ * Schema-less {@link VariableCodec} for trees of plain JDK values: strings, boxed primitives, big numbers, dates, UUIDs, byte arrays and the
+ * common list, set and map implementations containing such values.
+ * <p>
+ * Every value is written as a one byte tag followed by its content, without any class descriptors, which makes the encoded form a lot
+ * smaller and faster to read and write than Java serialization. The exact class of every value is restored on decoding. Values containing
+ * anything else, like custom classes, are not accepted by {@link #canEncode(Object)} and are left to the serializable variable type.
+ */
+public class CompactVariableCodec implements VariableCodec {
+
+    public static final String NAME = "compact";
+
+    protected static final int TAG_NULL = 0;
+    protected static final int TAG_STRING = 1;
+    protected static final int TAG_BOOLEAN = 2;
+    protected static final int TAG_BYTE = 3;
+    protected static final int TAG_SHORT = 4;
+    protected static final int TAG_INTEGER = 5;
+    protected static final int TAG_LONG = 6;
+    protected static final int TAG_FLOAT = 7;
+    protected static final int TAG_DOUBLE = 8;
+    protected static final int TAG_CHARACTER = 9;
+    protected static final int TAG_BIG_INTEGER = 10;
+    protected static final int TAG_BIG_DECIMAL = 11;
+    protected static final int TAG_DATE = 12;
+    protected static final int TAG_UUID = 13;
+    protected static final int TAG_BYTES = 14;
+    protected static final int TAG_ARRAY_LIST = 20;
+    protected static final int TAG_LINKED_LIST = 21;
+    protected static final int TAG_HASH_SET = 22;
+    protected static final int TAG_LINKED_HASH_SET = 23;
+    protected static final int TAG_HASH_MAP = 24;
+    protected static final int TAG_LINKED_HASH_MAP = 25;
+
+    /**
+     * Maximum nesting of collections, which also prevents endless recursion on collections containing themselves.
+     */
+    protected int maxDepth = 64;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean canEncode(Object value) {
+        return canEncode(value, 0);
+    }
+
+    protected boolean canEncode(Object value, int depth) {
+        if (value == null) {
+            return true;
+        }
+
+        Class<?> valueClass = value.getClass();
+        if (getTag(valueClass) < TAG_ARRAY_LIST) {
+            return true;
+        }
+
+        if (depth >= maxDepth) {
+            return false;
+        }
+        if (valueClass == ArrayList.class || valueClass == LinkedList.class || valueClass == HashSet.class || valueClass == LinkedHashSet.class) {
+            for (Object element : (Collection<?>) value) {
+                if (!canEncode(element, depth + 1)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (valueClass == HashMap.class || valueClass == LinkedHashMap.class) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!canEncode(entry.getKey(), depth + 1) || !canEncode(entry.getValue(), depth + 1)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    protected int getTag(Class<?> valueClass) {
+        if (valueClass == String.class) {
+            return TAG_STRING;
+        } else if (valueClass == Integer.class) {
+            return TAG_INTEGER;
+        } else if (valueClass == Long.class) {
+            return TAG_LONG;
+        } else if (valueClass == Boolean.class) {
+            return TAG_BOOLEAN;
+        } else if (valueClass == Double.class) {
+            return TAG_DOUBLE;
+        } else if (valueClass == Date.class) {
+            return TAG_DATE;
+        } else if (valueClass == BigDecimal.class) {
+            return TAG_BIG_DECIMAL;
+        } else if (valueClass == Short.class) {
+            return TAG_SHORT;
+        } else if (valueClass == Byte.class) {
+            return TAG_BYTE;
+        } else if (valueClass == Float.class) {
+            return TAG_FLOAT;
+        } else if (valueClass == Character.class) {
+            return TAG_CHARACTER;
+        } else if (valueClass == BigInteger.class) {
+            return TAG_BIG_INTEGER;
+        } else if (valueClass == UUID.class) {
+            return TAG_UUID;
+        } else if (valueClass == byte[].class) {
+            return TAG_BYTES;
+        } else if (valueClass == ArrayList.class) {
+            return TAG_ARRAY_LIST;
+        } else if (valueClass == LinkedList.class) {
+            return TAG_LINKED_LIST;
+        } else if (valueClass == HashSet.class) {
+            return TAG_HASH_SET;
+        } else if (valueClass == LinkedHashSet.class) {
+            return TAG_LINKED_HASH_SET;
+        } else if (valueClass == HashMap.class) {
+            return TAG_HASH_MAP;
+        } else if (valueClass == LinkedHashMap.class) {
+            return TAG_LINKED_HASH_MAP;
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void encode(Object value, OutputStream outputStream) throws IOException {
+        DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+        write(value, dataOutputStream);
+        dataOutputStream.flush();
+    }
+
+    protected void write(Object value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+            return;
+        }
+
+        int tag = getTag(value.getClass());
+        out.writeByte(tag);
+        switch (tag) {
+        case TAG_STRING:
+            writeBytes(((String) value).getBytes(StandardCharsets.UTF_8), out);
+            break;
+        case TAG_BOOLEAN:
+            out.writeBoolean((Boolean) value);
+            break;
+        case TAG_BYTE:
+            out.writeByte((Byte) value);
+            break;
+        case TAG_SHORT:
+            out.writeShort((Short) value);
+            break;
+        case TAG_INTEGER:
+            out.writeInt((Integer) value);
+            break;
+        case TAG_LONG:
+            out.writeLong((Long) value);
+            break;
+        case TAG_FLOAT:
+            out.writeFloat((Float) value);
+            break;
+        case TAG_DOUBLE:
+            out.writeDouble((Double) value);
+            break;
+        case TAG_CHARACTER:
+            out.writeChar((Character) value);
+            break;
+        case TAG_BIG_INTEGER:
+            writeBytes(((BigInteger) value).toByteArray(), out);
+            break;
+        case TAG_BIG_DECIMAL:
+            BigDecimal bigDecimal = (BigDecimal) value;
+            out.writeInt(bigDecimal.scale());
+            writeBytes(bigDecimal.unscaledValue().toByteArray(), out);
+            break;
+        case TAG_DATE:
+            out.writeLong(((Date) value).getTime());
+            break;
+        case TAG_UUID:
+            UUID uuid = (UUID) value;
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+            break;
+        case TAG_BYTES:
+            writeBytes((byte[]) value, out);
+            break;
+        case TAG_ARRAY_LIST:
+        case TAG_LINKED_LIST:
+        case TAG_HASH_SET:
+        case TAG_LINKED_HASH_SET:
+            Collection<?> collection = (Collection<?>) value;
+            out.writeInt(collection.size());
+            for (Object element : collection) {
+                write(element, out);
+            }
+            break;
+        case TAG_HASH_MAP:
+        case TAG_LINKED_HASH_MAP:
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                write(entry.getKey(), out);
+                write(entry.getValue(), out);
+            }
+            break;
+        default:
+            throw new IOException("Values of " + value.getClass() + " are not supported by the " + NAME + " codec");
+        }
+    }
+
+    protected void writeBytes(byte[] bytes, DataOutputStream out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Override
+    public Object decode(InputStream inputStream) throws IOException {
+        return read(new DataInputStream(inputStream));
+    }
+
+    protected Object read(DataInputStream in) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+        case TAG_NULL:
+            return null;
+        case TAG_STRING:
+            return new String(readBytes(in), StandardCharsets.UTF_8);
+        case TAG_BOOLEAN:
+            return in.readBoolean();
+        case TAG_BYTE:
+            return in.readByte();
+        case TAG_SHORT:
+            return in.readShort();
+        case TAG_INTEGER:
+            return in.readInt();
+        case TAG_LONG:
+            return in.readLong();
+        case TAG_FLOAT:
+            return in.readFloat();
+        case TAG_DOUBLE:
+            return in.readDouble();
+        case TAG_CHARACTER:
+            return in.readChar();
+        case TAG_BIG_INTEGER:
+            return new BigInteger(readBytes(in));
+        case TAG_BIG_DECIMAL:
+            int scale = in.readInt();
+            return new BigDecimal(new BigInteger(readBytes(in)), scale);
+        case TAG_DATE:
+            return new Date(in.readLong());
+        case TAG_UUID:
+            return new UUID(in.readLong(), in.readLong());
+        case TAG_BYTES:
+            return readBytes(in);
+        case TAG_ARRAY_LIST:
+            int listSize = in.readInt();
+            return readElements(new ArrayList<>(listSize), listSize, in);
+        case TAG_LINKED_LIST:
+            return readElements(new LinkedList<>(), in.readInt(), in);
+        case TAG_HASH_SET:
+            int hashSetSize = in.readInt();
+            return readElements(new HashSet<>(getMapCapacity(hashSetSize)), hashSetSize, in);
+        case TAG_LINKED_HASH_SET:
+            int linkedHashSetSize = in.readInt();
+            return readElements(new LinkedHashSet<>(getMapCapacity(linkedHashSetSize)), linkedHashSetSize, in);
+        case TAG_HASH_MAP:
+            int hashMapSize = in.readInt();
+            return readEntries(new HashMap<>(getMapCapacity(hashMapSize)), hashMapSize, in);
+        case TAG_LINKED_HASH_MAP:
+            int linkedHashMapSize = in.readInt();
+            return readEntries(new LinkedHashMap<>(getMapCapacity(linkedHashMapSize)), linkedHashMapSize, in);
+        default:
+            throw new IOException("Unknown tag " + tag + " for the " + NAME + " codec");
+        }
+    }
+
+    protected byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    protected Collection<Object> readElements(Collection<Object> collection, int size, DataInputStream in) throws IOException {
+        for (int i = 0; i < size; i++) {
+            collection.add(read(in));
+        }
+        return collection;
+    }
+
+    protected Map<Object, Object> readEntries(Map<Object, Object> map, int size, DataInputStream in) throws IOException {
+        for (int i = 0; i < size; i++) {
+            Object key = read(in);
+            map.put(key, read(in));
+        }
+        return map;
+    }
+
+    protected int getMapCapacity(int size) {
+        return Math.max((int) (size / 0.75f) + 1, 16);
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+}
@@ -17,8 +17,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.variable.api.types.ValueDependentVariableType;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.api.types.VariableTypes;
 
@@ -32,6 +35,11 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     private final List<VariableType> typesList = new ArrayList<>();
     private final Map<String, VariableType> typesMap = new HashMap<>();
 
+    // resolved types per class of the value, see findVariableType(Object)
+    private transient volatile ConcurrentMap<Class<?>, TypeResolution> typeResolutions;
+    private transient volatile Map<VariableType, Integer> typeIndexes;
+    private boolean typeResolutionCacheEnabled = true;
+
     @Override
     public DefaultVariableTypes addType(VariableType type) {
         return addType(type, typesList.size());
@@ -41,6 +49,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public DefaultVariableTypes addType(VariableType type, int index) {
         typesList.add(index, type);
         typesMap.put(type.getTypeName(), type);
+        typesChanged();
         return this;
     }
 
@@ -51,6 +60,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
         for (VariableType type : typesList) {
             typesMap.put(type.getTypeName(), type);
         }
+        typesChanged();
     }
 
     @Override
@@ -58,19 +68,76 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
         return typesMap.get(typeName);
     }
 
+    /**
+     * Returns the first type that is able to store the value.
+     * <p>
+     * Types that don't implement {@link ValueDependentVariableType} decide on the class of the value only,
+     * so these are only tested once per class. The value dependent types that come before the type found for the class
+     * are still tested for every value.
+     */
     @Override
     public VariableType findVariableType(Object value) {
-        for (VariableType type : typesList) {
-            if (type.isAbleToStore(value)) {
+        if (value != null && typeResolutionCacheEnabled) {
+            ConcurrentMap<Class<?>, TypeResolution> resolutions = getTypeResolutions();
+            TypeResolution typeResolution = resolutions.get(value.getClass());
+            if (typeResolution == null) {
+                typeResolution = resolveType(value);
+                resolutions.put(value.getClass(), typeResolution);
+            }
+
+            VariableType type = typeResolution.findVariableType(value);
+            if (type != null) {
                 return type;
             }
+
+        } else {
+            for (VariableType type : typesList) {
+                if (type.isAbleToStore(value)) {
+                    return type;
+                }
+            }
         }
         throw new FlowableException("couldn't find a variable type that is able to serialize " + value);
     }
 
+    protected TypeResolution resolveType(Object value) {
+        List<VariableType> valueDependentTypes = new ArrayList<>();
+        for (VariableType type : typesList) {
+            if (type instanceof ValueDependentVariableType) {
+                valueDependentTypes.add(type);
+            } else if (type.isAbleToStore(value)) {
+                return new TypeResolution(valueDependentTypes, type);
+            }
+        }
+        return new TypeResolution(valueDependentTypes, null);
+    }
+
+    protected ConcurrentMap<Class<?>, TypeResolution> getTypeResolutions() {
+        ConcurrentMap<Class<?>, TypeResolution> resolutions = typeResolutions;
+        if (resolutions == null) {
+            resolutions = new ConcurrentHashMap<>();
+            typeResolutions = resolutions;
+        }
+        return resolutions;
+    }
+
+    protected void typesChanged() {
+        typeResolutions = null;
+        typeIndexes = null;
+    }
+
     @Override
     public int getTypeIndex(VariableType type) {
-        return typesList.indexOf(type);
+        Map<VariableType, Integer> indexes = typeIndexes;
+        if (indexes == null) {
+            indexes = new HashMap<>();
+            for (int i = typesList.size() - 1; i >= 0; i--) {
+                indexes.put(typesList.get(i), i);
+            }
+            typeIndexes = indexes;
+        }
+        Integer index = indexes.get(type);
+        return index != null ? index : -1;
     }
 
     @Override
@@ -87,6 +154,39 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public VariableTypes removeType(VariableType type) {
         typesList.remove(type);
         typesMap.remove(type.getTypeName());
+        typesChanged();
         return this;
     }
+
+    public boolean isTypeResolutionCacheEnabled() {
+        return typeResolutionCacheEnabled;
+    }
+
+    /**
+     * Disables the resolution of types per class of the value, for custom types that inspect the value
+     * without implementing {@link ValueDependentVariableType}.
+     */
+    public void setTypeResolutionCacheEnabled(boolean typeResolutionCacheEnabled) {
+        this.typeResolutionCacheEnabled = typeResolutionCacheEnabled;
+    }
+
+    protected static class TypeResolution {
+
+        protected VariableType[] valueDependentTypes;
+        protected VariableType classType;
+
+        public TypeResolution(List<VariableType> valueDependentTypes, VariableType classType) {
+            this.valueDependentTypes = valueDependentTypes.toArray(new VariableType[valueDependentTypes.size()]);
+            this.classType = classType;
+        }
+
+        public VariableType findVariableType(Object value) {
+            for (VariableType type : valueDependentTypes) {
+                if (type.isAbleToStore(value)) {
+                    return type;
+                }
+            }
+            return classType;
+        }
+    }
 }
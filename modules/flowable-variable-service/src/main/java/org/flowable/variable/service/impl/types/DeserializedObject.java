@@ -37,6 +37,11 @@ public class DeserializedObject {
     public void verifyIfBytesOfSerializedObjectChanged() {
         // this first check verifies if the variable value was not overwritten with another object
         if (deserializedObject == variableInstanceEntity.getCachedValue() && !variableInstanceEntity.isDeleted()) {
+            // cheap check first: compare while re-serializing, only materialize the new bytes when something changed
+            if (type.isSerializedFormUnchanged(deserializedObject, originalBytes, variableInstanceEntity)) {
+                return;
+            }
+
             byte[] bytes = type.serialize(deserializedObject, variableInstanceEntity);
             if (!Arrays.equals(originalBytes, bytes)) {
 
@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.util.IoUtil;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * Stores {@link InputStream} values without reading them into memory: the stream is handed to the JDBC driver when the variable is flushed
+ * and is closed when the command is done. The copy for the history is made by the database.
+ * <p>
+ * Reading the value is not streamed: the stored content is loaded as a byte array and a new stream over it is returned each time. Reading the
+ * value in the same command in which it was set reads the stream into memory.
+ */
+public class InputStreamType implements VariableType {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String TYPE_NAME = "inputStream";
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return false;
+    }
+
+    @Override
+    public Object getValue(ValueFields valueFields) {
+        byte[] bytes = valueFields.getBytes();
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
+    @Override
+    public void setValue(Object value, ValueFields valueFields) {
+        InputStream inputStream = (InputStream) value;
+        if (valueFields instanceof VariableInstanceEntity) {
+            ((VariableInstanceEntity) valueFields).setContentStream(inputStream);
+            if (inputStream != null) {
+                Context.getCommandContext().addCloseListener(new CloseInputStreamCommandContextCloseListener(inputStream));
+            }
+
+        } else if (inputStream != null) {
+            valueFields.setBytes(IoUtil.readInputStream(inputStream, valueFields.getName()));
+            IoUtil.closeSilently(inputStream);
+
+        } else {
+            valueFields.setBytes(null);
+        }
+    }
+
+    @Override
+    public boolean isAbleToStore(Object value) {
+        return value instanceof InputStream;
+    }
+
+}
@@ -23,6 +23,7 @@ import java.util.List;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.impl.context.Context;
+import org.flowable.variable.api.types.ValueDependentVariableType;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 
@@ -32,7 +33,7 @@ import org.flowable.variable.api.types.VariableType;
  * 
  * @author Frederik Heremans
  */
-public class JPAEntityListVariableType implements VariableType, CacheableVariable {
+public class JPAEntityListVariableType implements VariableType, ValueDependentVariableType, CacheableVariable {
 
     public static final String TYPE_NAME = "jpa-entity-list";
 
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.types;
 
+import org.flowable.variable.api.types.ValueDependentVariableType;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 import org.slf4j.Logger;
@@ -23,7 +24,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 /**
  * @author Tijs Rademakers
  */
-public class JsonType implements VariableType {
+public class JsonType implements VariableType, ValueDependentVariableType {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JsonType.class);
 
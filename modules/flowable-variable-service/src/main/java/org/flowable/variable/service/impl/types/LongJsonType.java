@@ -12,7 +12,10 @@
  */
 package org.flowable.variable.service.impl.types;
 
+import java.util.Arrays;
+
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.variable.api.types.ValueDependentVariableType;
 import org.flowable.variable.api.types.ValueFields;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -21,7 +24,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 /**
  * @author Tijs Rademakers
  */
-public class LongJsonType extends SerializableType {
+public class LongJsonType extends SerializableType implements ValueDependentVariableType {
 
     protected final int minLength;
     protected ObjectMapper objectMapper;
@@ -61,6 +64,11 @@ public class LongJsonType extends SerializableType {
         }
     }
 
+    @Override
+    public boolean isSerializedFormUnchanged(Object value, byte[] originalBytes, ValueFields valueFields) {
+        return Arrays.equals(serialize(value, valueFields), originalBytes);
+    }
+
     @Override
     public Object deserialize(byte[] bytes, ValueFields valueFields) {
         JsonNode valueNode = null;
@@ -12,10 +12,12 @@
  */
 package org.flowable.variable.service.impl.types;
 
+import org.flowable.variable.api.types.ValueDependentVariableType;
+
 /**
  * @author Martin Grofcik
  */
-public class LongStringType extends SerializableType {
+public class LongStringType extends SerializableType implements ValueDependentVariableType {
 
     private final int minLength;
 
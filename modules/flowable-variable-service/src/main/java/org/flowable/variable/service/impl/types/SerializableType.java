@@ -21,6 +21,13 @@ import java.io.ObjectOutputStream;
 import java.io.ObjectStreamClass;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
@@ -37,8 +44,20 @@ public class SerializableType extends ByteArrayType {
 
     public static final String TYPE_NAME = "serializable";
 
+    /**
+     * JDK value classes of which instances can never change after creation, so there is no need to verify them for in-place changes.
+     */
+    protected static final Set<Class<?>> DEFAULT_IMMUTABLE_CLASSES = Collections.unmodifiableSet(new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, UUID.class)));
+
     protected boolean trackDeserializedObjects;
 
+    /**
+     * Additional classes of which the instances are known to be immutable. Deserialized values of these exact classes are not tracked for changes.
+     */
+    protected Set<Class<?>> immutableClasses = Collections.emptySet();
+
     @Override
     public String getTypeName() {
         return TYPE_NAME;
@@ -65,7 +84,7 @@ public class SerializableType extends ByteArrayType {
             Object deserializedObject = deserialize(bytes, valueFields);
             valueFields.setCachedValue(deserializedObject);
 
-            if (trackDeserializedObjects && valueFields instanceof VariableInstanceEntity) {
+            if (trackDeserializedObjects && valueFields instanceof VariableInstanceEntity && !isImmutable(deserializedObject)) {
                 Context.getCommandContext().addCloseListener(new VerifyDeserializedObjectCommandContextCloseListener(
                         new DeserializedObject(this, valueFields.getCachedValue(), bytes, (VariableInstanceEntity) valueFields)));
             }
@@ -82,7 +101,7 @@ public class SerializableType extends ByteArrayType {
 
         super.setValue(bytes, valueFields);
 
-        if (trackDeserializedObjects && valueFields instanceof VariableInstanceEntity) {
+        if (trackDeserializedObjects && valueFields instanceof VariableInstanceEntity && !isImmutable(value)) {
             Context.getCommandContext().addCloseListener(new VerifyDeserializedObjectCommandContextCloseListener(
                     new DeserializedObject(this, valueFields.getCachedValue(), bytes, (VariableInstanceEntity) valueFields)));
         }
@@ -106,6 +125,41 @@ public class SerializableType extends ByteArrayType {
         return baos.toByteArray();
     }
 
+    /**
+     * Verifies whether serializing the given value again produces exactly the original bytes. The serialized form is compared while it is being
+     * written, so no new byte array is created for values that didn't change. Subclasses that override {@link #serialize(Object, ValueFields)}
+     * with a different format must override this method as well.
+     */
+    public boolean isSerializedFormUnchanged(Object value, byte[] originalBytes, ValueFields valueFields) {
+        if (value == null || originalBytes == null) {
+            return value == null && originalBytes == null;
+        }
+        ByteArrayComparingOutputStream comparingOutputStream = new ByteArrayComparingOutputStream(originalBytes);
+        ObjectOutputStream oos = null;
+        try {
+            oos = createObjectOutputStream(comparingOutputStream);
+            oos.writeObject(value);
+            oos.flush();
+        } catch (Exception e) {
+            throw new FlowableException("Couldn't serialize value '" + value + "' in variable '" + valueFields.getName() + "'", e);
+        } finally {
+            IoUtil.closeSilently(oos);
+        }
+        return comparingOutputStream.isEqual();
+    }
+
+    /**
+     * Whether the given value can be changed after it has been set or deserialized. Immutable values don't need to be verified for in-place
+     * changes at the end of the command.
+     */
+    protected boolean isImmutable(Object value) {
+        if (value == null || value instanceof Enum) {
+            return true;
+        }
+        Class<?> valueClass = value.getClass();
+        return DEFAULT_IMMUTABLE_CLASSES.contains(valueClass) || immutableClasses.contains(valueClass);
+    }
+
     public Object deserialize(byte[] bytes, ValueFields valueFields) {
         ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
         try {
@@ -126,6 +180,18 @@ public class SerializableType extends ByteArrayType {
         return value instanceof Serializable;
     }
 
+    public boolean isTrackDeserializedObjects() {
+        return trackDeserializedObjects;
+    }
+
+    public Set<Class<?>> getImmutableClasses() {
+        return immutableClasses;
+    }
+
+    public void setImmutableClasses(Set<Class<?>> immutableClasses) {
+        this.immutableClasses = immutableClasses != null ? immutableClasses : Collections.<Class<?>>emptySet();
+    }
+
     protected ObjectInputStream createObjectInputStream(InputStream is) throws IOException {
         return new ObjectInputStream(is) {
             @Override
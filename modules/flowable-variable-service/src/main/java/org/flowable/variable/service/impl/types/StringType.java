@@ -12,13 +12,14 @@
  */
 package org.flowable.variable.service.impl.types;
 
+import org.flowable.variable.api.types.ValueDependentVariableType;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 
 /**
  * @author Tom Baeyens
  */
-public class StringType implements VariableType {
+public class StringType implements VariableType, ValueDependentVariableType {
 
     private final int maxLength;
 